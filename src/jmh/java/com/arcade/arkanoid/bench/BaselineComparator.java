@@ -0,0 +1,110 @@
+package com.arcade.arkanoid.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file against the committed baseline and exits non-zero when a
+ * benchmark got slower, or allocates more per operation, than the tolerance allows. All benchmarks
+ * here report average time, so lower is better for both figures.
+ *
+ * <p>Usage: {@code BaselineComparator <baseline.json> <result.json> [tolerance]}, e.g. 0.15 for 15%.
+ */
+public final class BaselineComparator {
+    private static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+    // Allocation noise floor; a few bytes per op come and go with JIT decisions
+    private static final double ALLOC_SLACK_BYTES = 16;
+
+    private BaselineComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator <baseline.json> <result.json> [tolerance]");
+            System.exit(2);
+        }
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : 0.15;
+        Map<String, Result> baseline = read(Paths.get(args[0]));
+        Map<String, Result> current = read(Paths.get(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            Result after = entry.getValue();
+            if (before == null) {
+                System.out.printf("NEW   %s %.3f %s%n", entry.getKey(), after.score, after.unit);
+                continue;
+            }
+            boolean slower = after.score > before.score * (1 + tolerance);
+            boolean allocates = after.allocBytes > before.allocBytes * (1 + tolerance) + ALLOC_SLACK_BYTES;
+            String verdict = slower || allocates ? "WORSE" : "ok   ";
+            if (slower || allocates) {
+                regressions++;
+            }
+            System.out.printf("%s %s %.3f -> %.3f %s (%+.1f%%), alloc %.0f -> %.0f B/op%n",
+                    verdict, entry.getKey(), before.score, after.score, after.unit,
+                    percentChange(before.score, after.score), before.allocBytes, after.allocBytes);
+        }
+        for (String missing : baseline.keySet()) {
+            if (!current.containsKey(missing)) {
+                System.out.println("GONE  " + missing);
+            }
+        }
+        if (regressions > 0) {
+            System.err.println(regressions + " benchmark(s) regressed beyond " + Math.round(tolerance * 100) + "%");
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> read(Path path) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(path.toFile());
+        Map<String, Result> results = new TreeMap<>();
+        for (JsonNode run : root) {
+            JsonNode primary = run.path("primaryMetric");
+            double alloc = run.path("secondaryMetrics").path(ALLOC_METRIC).path("score").asDouble(0);
+            results.put(key(run), new Result(primary.path("score").asDouble(),
+                    primary.path("scoreUnit").asText(), alloc));
+        }
+        return results;
+    }
+
+    private static String key(JsonNode run) {
+        StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+        JsonNode params = run.path("params");
+        if (params.size() > 0) {
+            key.append(' ');
+            Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> param = fields.next();
+                key.append(param.getKey()).append('=').append(param.getValue().asText());
+                if (fields.hasNext()) {
+                    key.append(',');
+                }
+            }
+        }
+        return key.toString();
+    }
+
+    private static double percentChange(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+
+    private static final class Result {
+        private final double score;
+        private final String unit;
+        private final double allocBytes;
+
+        Result(double score, String unit, double allocBytes) {
+            this.score = score;
+            this.unit = unit;
+            this.allocBytes = allocBytes;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.arcade.arkanoid.bench;
+
+import com.arcade.arkanoid.gameplay.entities.Ball;
+import com.arcade.arkanoid.gameplay.entities.Brick;
+import com.arcade.arkanoid.gameplay.system.BrickCollisionSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One gameplay tick of ball-vs-brick resolution, as {@code GameplayScene} runs it: move every ball,
+ * bounce it off the arena walls and resolve brick contacts. Bricks are effectively indestructible
+ * so every iteration sees the same board density.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BrickCollisionBenchmark {
+    private static final double ARENA_WIDTH = 800;
+    private static final double ARENA_HEIGHT = 600;
+    private static final double BRICK_WIDTH = 48;
+    private static final double BRICK_HEIGHT = 20;
+    private static final double BALL_SIZE = 14;
+    private static final double TICK_SECONDS = 1.0 / 60.0;
+
+    /** Columns x rows; 13x6 is a typical shipped level, 16x20 fills the arena. */
+    @Param({"13x6", "14x12", "16x20"})
+    public String board;
+
+    @Param({"1", "3", "8"})
+    public int ballCount;
+
+    private final BrickCollisionSystem collisions = new BrickCollisionSystem();
+    private final List<Brick> bricks = new ArrayList<>();
+    private final List<Ball> balls = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        String[] size = board.split("x");
+        int columns = Integer.parseInt(size[0]);
+        int rows = Integer.parseInt(size[1]);
+        double gap = (ARENA_WIDTH - columns * BRICK_WIDTH) / (columns + 1);
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                double x = gap + column * (BRICK_WIDTH + gap);
+                double y = 60 + row * (BRICK_HEIGHT + 4);
+                bricks.add(new Brick(x, y, BRICK_WIDTH, BRICK_HEIGHT, Integer.MAX_VALUE, 10,
+                        column, row, "basic", List.of(), List.of()));
+            }
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < ballCount; i++) {
+            Ball ball = new Ball(100 + random.nextDouble() * 600, 80 + random.nextDouble() * 400,
+                    BALL_SIZE, Color.WHITE);
+            double angle = random.nextDouble() * Math.PI * 2;
+            ball.setVelocity(Math.cos(angle) * 420, Math.sin(angle) * 420);
+            balls.add(ball);
+        }
+    }
+
+    @Benchmark
+    public void tick(Blackhole blackhole) {
+        for (int i = 0; i < balls.size(); i++) {
+            Ball ball = balls.get(i);
+            ball.update(TICK_SECONDS);
+            bounceOffWalls(ball);
+            blackhole.consume(collisions.resolve(ball, bricks));
+        }
+    }
+
+    private static void bounceOffWalls(Ball ball) {
+        if (ball.getPosition().x <= 0) {
+            ball.getPosition().x = 0;
+            ball.invertX();
+        } else if (ball.getPosition().x + ball.getWidth() >= ARENA_WIDTH) {
+            ball.getPosition().x = ARENA_WIDTH - ball.getWidth();
+            ball.invertX();
+        }
+        if (ball.getPosition().y <= 0) {
+            ball.getPosition().y = 0;
+            ball.invertY();
+        } else if (ball.getPosition().y + ball.getHeight() >= ARENA_HEIGHT) {
+            ball.getPosition().y = ARENA_HEIGHT - ball.getHeight();
+            ball.invertY();
+        }
+    }
+}
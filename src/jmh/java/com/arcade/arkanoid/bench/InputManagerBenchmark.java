@@ -0,0 +1,56 @@
+package com.arcade.arkanoid.bench;
+
+import com.arcade.arkanoid.engine.input.InputManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.event.KeyEvent;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link InputManager#prepareFrame()} with a few keys held and {@code eventsPerFrame} key
+ * transitions queued since the previous frame (0 is the common idle frame).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputManagerBenchmark {
+    private static final int[] TAPPED = {KeyEvent.VK_SPACE, KeyEvent.VK_A, KeyEvent.VK_D, KeyEvent.VK_ENTER};
+
+    @Param({"0", "4"})
+    public int eventsPerFrame;
+
+    private final InputManager input = new InputManager();
+
+    @Setup
+    public void setUp() {
+        input.keyDown(KeyEvent.VK_LEFT);
+        input.keyDown(KeyEvent.VK_UP);
+        input.prepareFrame();
+    }
+
+    @Benchmark
+    public void prepareFrame() {
+        for (int i = 0; i < eventsPerFrame; i++) {
+            int code = TAPPED[i % TAPPED.length];
+            if ((i & 1) == 0) {
+                input.keyDown(code);
+            } else {
+                input.keyUp(TAPPED[(i - 1) % TAPPED.length]);
+            }
+        }
+        input.prepareFrame();
+    }
+}
@@ -0,0 +1,40 @@
+package com.arcade.arkanoid.bench;
+
+import com.arcade.arkanoid.gameplay.levels.JsonLevelRepository;
+import com.arcade.arkanoid.gameplay.levels.LevelDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing the level manifest and every level file from the classpath. {@code coldRepository}
+ * includes building the Jackson mapper, as the first load at startup does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelRepositoryBenchmark {
+    private final JsonLevelRepository repository = new JsonLevelRepository();
+
+    @Benchmark
+    public List<LevelDefinition> loadAll() {
+        return repository.loadAll();
+    }
+
+    @Benchmark
+    public List<LevelDefinition> coldRepository() {
+        return new JsonLevelRepository().loadAll();
+    }
+}
@@ -0,0 +1,69 @@
+package com.arcade.arkanoid.bench;
+
+import com.arcade.arkanoid.engine.settings.SettingsManager;
+import com.arcade.arkanoid.localization.LocalizationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LocalizationService#translate} by key and by pre-resolved handle, with and without
+ * format arguments, as the HUD and menus call it every frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalizationBenchmark {
+    private static final String PLAIN_KEY = "menu.start";
+    private static final String FORMAT_KEY = "menu.status.lives";
+
+    private LocalizationService localization;
+    private int plainHandle;
+    private int formatHandle;
+    private int lives;
+
+    @Setup
+    public void setUp() throws IOException {
+        SettingsManager settings = new SettingsManager(
+                Files.createTempDirectory("arkanoid-bench").resolve("settings.json"));
+        localization = new LocalizationService(settings);
+        plainHandle = localization.handle(PLAIN_KEY);
+        formatHandle = localization.handle(FORMAT_KEY);
+    }
+
+    @Benchmark
+    public String byKey() {
+        return localization.translate(PLAIN_KEY);
+    }
+
+    @Benchmark
+    public String byHandle() {
+        return localization.translate(plainHandle);
+    }
+
+    @Benchmark
+    public String byKeyWithArgs() {
+        lives = (lives + 1) % 5;
+        return localization.translate(FORMAT_KEY, lives, 5);
+    }
+
+    @Benchmark
+    public String byHandleWithArgs() {
+        lives = (lives + 1) % 5;
+        return localization.translate(formatHandle, lives, 5);
+    }
+}
@@ -0,0 +1,79 @@
+package com.arcade.arkanoid.bench;
+
+import com.arcade.arkanoid.gameplay.levels.JsonLevelRepository;
+import com.arcade.arkanoid.gameplay.levels.LevelDefinition;
+import com.arcade.arkanoid.gameplay.levels.LevelSchema;
+import com.arcade.arkanoid.gameplay.levels.TagRegistry;
+import com.arcade.arkanoid.gameplay.objectives.ObjectiveEngine;
+import com.arcade.arkanoid.gameplay.objectives.StandardObjectiveEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StandardObjectiveEngine#handleEvent} throughput. One operation replays a whole level: a
+ * brick-cleared event for every brick on the board, each followed by its score award, from a
+ * fresh {@code resetProgress()}. The level with the most objectives is used.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectiveEngineBenchmark {
+    private static final ObjectiveEngine.Listener IGNORE = new ObjectiveEngine.Listener() {
+        @Override
+        public void onObjectiveProgress(ObjectiveEngine.ObjectiveState state) {
+        }
+
+        @Override
+        public void onObjectiveCompleted(ObjectiveEngine.ObjectiveState state) {
+        }
+
+        @Override
+        public void onObjectiveFailed(ObjectiveEngine.ObjectiveState state) {
+        }
+    };
+
+    private final StandardObjectiveEngine engine = new StandardObjectiveEngine();
+    private ObjectiveEngine.ObjectiveEvent[] script;
+
+    @Setup
+    public void setUp() {
+        LevelDefinition level = new JsonLevelRepository().loadAll().stream()
+                .max(Comparator.comparingInt(definition -> definition.objectives().size()))
+                .orElseThrow();
+        engine.bind(level, IGNORE);
+
+        TagRegistry registry = level.tagRegistry();
+        List<ObjectiveEngine.ObjectiveEvent> events = new ArrayList<>();
+        for (LevelSchema.BrickBlueprint brick : level.bricks()) {
+            events.add(new ObjectiveEngine.BrickClearedEvent(brick.column(), brick.row(), brick.brickType(),
+                    brick.tags(), registry.maskOf(brick.tags())));
+            events.add(new ObjectiveEngine.ScoreAwardedEvent(50 * Math.max(1, brick.hitPoints())));
+        }
+        script = events.toArray(new ObjectiveEngine.ObjectiveEvent[0]);
+    }
+
+    @Benchmark
+    public int replayLevel() {
+        engine.resetProgress();
+        for (ObjectiveEngine.ObjectiveEvent event : script) {
+            engine.handleEvent(event);
+        }
+        return engine.primaryOutstanding();
+    }
+}
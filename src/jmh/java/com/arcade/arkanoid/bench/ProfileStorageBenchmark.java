@@ -0,0 +1,72 @@
+package com.arcade.arkanoid.bench;
+
+import com.arcade.arkanoid.profile.PlayerProfile;
+import com.arcade.arkanoid.profile.ProfileFormat;
+import com.arcade.arkanoid.profile.ProfileSnapshot;
+import com.arcade.arkanoid.profile.ProfileStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * {@link ProfileStorage} round trips in both on-disk formats, including the atomic rename and
+ * backup rotation. Results depend heavily on the file system; compare runs from the same machine.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProfileStorageBenchmark {
+    @Param({"JSON", "BINARY"})
+    public ProfileFormat format;
+
+    private Path directory;
+    private ProfileStorage storage;
+    private ProfileSnapshot snapshot;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("arkanoid-bench");
+        storage = new ProfileStorage(directory.resolve("profile.json"),
+                ProfileStorage.DEFAULT_BACKUP_GENERATIONS, format);
+        PlayerProfile profile = PlayerProfile.newDefault();
+        profile.ensureDefaults();
+        snapshot = profile.snapshot();
+        storage.save(snapshot);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public boolean save() {
+        return storage.save(snapshot);
+    }
+
+    @Benchmark
+    public PlayerProfile load() {
+        return storage.loadIfPresent();
+    }
+}
@@ -0,0 +1,109 @@
+package com.arcade.arkanoid.bench;
+
+import com.arcade.arkanoid.engine.util.IOThreadPool;
+import com.arcade.arkanoid.profile.PlayerProfile;
+import com.arcade.arkanoid.profile.ProfileFormat;
+import com.arcade.arkanoid.profile.ProfileStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * {@link ProfileStore} lookups and profile switches on a shared cabinet with thousands of stored
+ * profiles. {@code switchHot} cycles through profiles that stay in the LRU cache; {@code switchCold}
+ * walks every profile, so each switch reads its shard file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProfileStoreBenchmark {
+    private static final int HOT_PROFILES = ProfileStore.DEFAULT_CACHE_CAPACITY / 2;
+
+    @Param({"10000"})
+    public int profiles;
+
+    private Path directory;
+    private ProfileStore store;
+    private String[] ids;
+    private String[] names;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException, ExecutionException {
+        directory = Files.createTempDirectory("arkanoid-bench");
+        store = new ProfileStore(directory.resolve("players"), ProfileFormat.BINARY,
+                ProfileStore.DEFAULT_CACHE_CAPACITY);
+        ids = new String[profiles];
+        names = new String[profiles];
+        for (int i = 0; i < profiles; i++) {
+            names[i] = "Player " + i;
+            ids[i] = store.create(names[i]).getPlayerId();
+        }
+        // Persistence runs in submission order, so this completes after every profile write
+        IOThreadPool.getInstance().submit(() -> { }).get();
+        store.flush();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        store.flush();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public ProfileStore.Entry findById() {
+        return store.findById(ids[next(profiles)]);
+    }
+
+    @Benchmark
+    public List<ProfileStore.Entry> findByName() {
+        return store.findByName(names[next(profiles)]);
+    }
+
+    @Benchmark
+    public PlayerProfile switchHot() {
+        return switchTo(ids[next(HOT_PROFILES)]);
+    }
+
+    @Benchmark
+    public PlayerProfile switchCold() {
+        return switchTo(ids[next(profiles)]);
+    }
+
+    /**
+     * The store side of {@code ProfileManager.switchProfileAsync} and {@code applyPendingSwitch}.
+     */
+    private PlayerProfile switchTo(String profileId) {
+        PlayerProfile profile = store.load(profileId);
+        store.touch(profileId);
+        return profile;
+    }
+
+    private int next(int bound) {
+        cursor = cursor + 1 < bound ? cursor + 1 : 0;
+        return cursor;
+    }
+}
@@ -13,6 +13,9 @@ import com.arcade.arkanoid.menu.save.SaveMenuScene;
 import com.arcade.arkanoid.menu.shop.ShopScene;
 import com.arcade.arkanoid.menu.settings.SettingsScene;
 
+import java.util.Random;
+import java.util.function.Supplier;
+
 public class ArkanoidGame extends Game {
     public static final String SCENE_MENU = "menu";
     public static final String SCENE_GAMEPLAY = "gameplay";
@@ -30,10 +33,18 @@ public class ArkanoidGame extends Game {
 
     @Override
     protected void registerScenes(SceneManager sceneManager) {
+        registerAllScenes(sceneManager, Random::new);
+    }
+
+    /**
+     * Registers every game scene. Scenes with random effects take a fresh generator from
+     * {@code randoms} each time they are built, so headless runs can seed them.
+     */
+    public static void registerAllScenes(SceneManager sceneManager, Supplier<Random> randoms) {
         sceneManager.register(SCENE_MENU, MainMenuScene::new);
-        sceneManager.registerPersistent(SCENE_GAMEPLAY, GameplayScene::new);
+        sceneManager.registerPersistent(SCENE_GAMEPLAY, context -> new GameplayScene(context, randoms.get()));
         sceneManager.registerPersistent(SCENE_PAUSE, PauseScene::new);
-        sceneManager.registerPersistent(SCENE_MAP, WorldMapScene::new);
+        sceneManager.registerPersistent(SCENE_MAP, context -> new WorldMapScene(context, randoms.get()));
         sceneManager.registerPersistent(SCENE_SAVE, SaveMenuScene::new);
         sceneManager.register(SCENE_PROFILE, ProfileDetailScene::new);
         sceneManager.registerPersistent(SCENE_SHOP, ShopScene::new);
@@ -1,6 +1,7 @@
 package com.arcade.arkanoid.economy;
 
 import com.arcade.arkanoid.profile.PlayerProfile;
+import com.arcade.arkanoid.profile.ProfileEvent;
 import com.arcade.arkanoid.profile.ProfileManager;
 
 import java.time.Instant;
@@ -9,6 +10,7 @@ import java.time.ZoneOffset;
 
 /**
  * Coordinates currencies, lives/energy, and daily bonus claims.
+ * Every mutation is journaled as a small {@link ProfileEvent} instead of rewriting the profile.
  */
 public class EconomyService {
     private static final int DEFAULT_DAILY_COIN_REWARD = 50;
@@ -29,7 +31,7 @@ public class EconomyService {
             return false;
         }
         profile.setCoins(profile.getCoins() - amount);
-        profileManager.saveProfile();
+        profileManager.recordEvent(ProfileEvent.coinsDelta(-amount));
         return true;
     }
 
@@ -38,8 +40,9 @@ public class EconomyService {
             return;
         }
         PlayerProfile profile = profileManager.getActiveProfile();
-        profile.setCoins(Math.max(0, profile.getCoins() + amount));
-        profileManager.saveProfile();
+        int previous = profile.getCoins();
+        profile.setCoins(Math.max(0, previous + amount));
+        profileManager.recordEvent(ProfileEvent.coinsDelta(profile.getCoins() - previous));
     }
 
     public boolean consumeLife() {
@@ -48,7 +51,7 @@ public class EconomyService {
             return false;
         }
         profile.setLives(profile.getLives() - 1);
-        profileManager.saveProfile();
+        profileManager.recordEvent(ProfileEvent.livesDelta(-1));
         return true;
     }
 
@@ -57,15 +60,17 @@ public class EconomyService {
             return;
         }
         PlayerProfile profile = profileManager.getActiveProfile();
-        int newLives = Math.min(profile.getMaxLives(), profile.getLives() + count);
+        int previous = profile.getLives();
+        int newLives = Math.min(profile.getMaxLives(), previous + count);
         profile.setLives(newLives);
-        profileManager.saveProfile();
+        profileManager.recordEvent(ProfileEvent.livesDelta(newLives - previous));
     }
 
     public void refillLives() {
         PlayerProfile profile = profileManager.getActiveProfile();
+        int previous = profile.getLives();
         profile.setLives(profile.getMaxLives());
-        profileManager.saveProfile();
+        profileManager.recordEvent(ProfileEvent.livesDelta(profile.getLives() - previous));
     }
 
     public void awardEnergy(int amount) {
@@ -73,9 +78,10 @@ public class EconomyService {
             return;
         }
         PlayerProfile profile = profileManager.getActiveProfile();
-        int newEnergy = Math.min(profile.getMaxEnergy(), profile.getEnergy() + amount);
+        int previous = profile.getEnergy();
+        int newEnergy = Math.min(profile.getMaxEnergy(), previous + amount);
         profile.setEnergy(newEnergy);
-        profileManager.saveProfile();
+        profileManager.recordEvent(ProfileEvent.energyDelta(newEnergy - previous));
     }
 
     public boolean consumeEnergy(int amount) {
@@ -87,7 +93,7 @@ public class EconomyService {
             return false;
         }
         profile.setEnergy(profile.getEnergy() - amount);
-        profileManager.saveProfile();
+        profileManager.recordEvent(ProfileEvent.energyDelta(-amount));
         return true;
     }
 
@@ -111,10 +117,13 @@ public class EconomyService {
 
         int bonusCoins = DEFAULT_DAILY_COIN_REWARD + (profile.getDailyStreak() - 1) * 10;
         int bonusLives = DEFAULT_DAILY_LIFE_REWARD;
+        int previousLives = profile.getLives();
         profile.setCoins(profile.getCoins() + bonusCoins);
-        profile.setLives(Math.min(profile.getMaxLives(), profile.getLives() + bonusLives));
+        profile.setLives(Math.min(profile.getMaxLives(), previousLives + bonusLives));
         profile.setLastDailyBonusEpochSeconds(now);
-        profileManager.saveProfile();
+        profileManager.recordEvent(ProfileEvent.dailyBonusClaimed(now, profile.getDailyStreak()));
+        profileManager.recordEvent(ProfileEvent.coinsDelta(bonusCoins));
+        profileManager.recordEvent(ProfileEvent.livesDelta(profile.getLives() - previousLives));
 
         return new DailyBonusResult(true, profile.getDailyStreak(), bonusCoins, bonusLives);
     }
@@ -1,5 +1,6 @@
 package com.arcade.arkanoid.engine.assets;
 
+import com.arcade.arkanoid.engine.util.IOLane;
 import com.arcade.arkanoid.engine.util.IOThreadPool;
 
 import javax.imageio.ImageIO;
@@ -22,10 +23,10 @@ public class AssetManager {
     }
 
     /**
-     * Load image asynchronously on I/O Thread.
+     * Load image asynchronously on the I/O asset lane.
      */
     public Future<?> loadImageAsync(String id, String resourcePath) {
-        return ioThreadPool.submit(() -> {
+        return ioThreadPool.submit(IOLane.ASSET, () -> {
             loadImage(id, resourcePath);
         });
     }
@@ -1,5 +1,7 @@
 package com.arcade.arkanoid.engine.audio;
 
+import com.arcade.arkanoid.engine.util.ExecutorProvider;
+
 import javazoom.jl.decoder.Decoder;
 import javazoom.jl.decoder.JavaLayerException;
 import javazoom.jl.player.AudioDeviceBase;
@@ -94,10 +96,10 @@ public class Mp3AudioAdapter implements AudioPlayer {
     }
 
     /**
-     * Starts the MP3 playback in a separate thread.
+     * Starts the MP3 playback in a separate thread (virtual when enabled).
      */
     private void startPlayback() {
-        playerThread = new Thread(() -> {
+        playerThread = ExecutorProvider.start("mp3-player-" + resourcePath, () -> {
             isPlaying = true;
             do {
                 try {
@@ -148,10 +150,7 @@ public class Mp3AudioAdapter implements AudioPlayer {
             } while (shouldLoop && !Thread.currentThread().isInterrupted());
 
             isPlaying = false;
-        }, "mp3-player-" + resourcePath);
-
-        playerThread.setDaemon(true);
-        playerThread.start();
+        });
     }
 
     @Override
@@ -1,9 +1,10 @@
 package com.arcade.arkanoid.engine.audio;
 
-import java.util.HashMap;
+import com.arcade.arkanoid.engine.util.ExecutorProvider;
+
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * Sound manager with dedicated Audio Thread Pool.
@@ -12,17 +13,14 @@ import java.util.concurrent.Executors;
  * Uses Factory Pattern to create appropriate audio players.
  */
 public class SoundManager {
-    private final Map<String, AudioPlayer> players = new HashMap<>();
+    private final Map<String, AudioPlayer> players = new ConcurrentHashMap<>();
     private final ExecutorService audioThreadPool;
     private volatile float globalVolume = 1.0f;
 
     public SoundManager() {
-        // Audio Thread Pool - for async sound effects and background music
-        this.audioThreadPool = Executors.newFixedThreadPool(4, r -> {
-            Thread t = new Thread(r, "audio-thread");
-            t.setDaemon(true);
-            return t;
-        });
+        // Audio Thread Pool - for async sound effects and background music; a virtual thread per
+        // task when enabled, otherwise 4 platform threads
+        this.audioThreadPool = ExecutorProvider.newBlockingExecutor("audio-thread", 4);
     }
 
     /**
@@ -4,6 +4,7 @@ import com.arcade.arkanoid.engine.assets.AssetManager;
 import com.arcade.arkanoid.engine.audio.SoundManager;
 import com.arcade.arkanoid.engine.input.InputManager;
 import com.arcade.arkanoid.engine.scene.SceneManager;
+import com.arcade.arkanoid.engine.util.ExecutorProvider;
 import com.arcade.arkanoid.engine.util.IOThreadPool;
 import com.arcade.arkanoid.economy.EconomyService;
 import com.arcade.arkanoid.engine.settings.SettingsManager;
@@ -33,6 +34,8 @@ public abstract class Game {
 
     protected Game(GameConfig config) {
         this.config = config;
+        // Before any service creates its threads
+        ExecutorProvider.configure(config.threadingMode());
         this.window = new GameWindow(config);
         this.inputManager = new InputManager();
         this.soundManager = new SoundManager();
@@ -67,12 +70,16 @@ public abstract class Game {
     }
 
     public void stop() {
-        // Save profile synchronously before shutdown
+        // Flush any coalesced profile write synchronously before shutdown
         profileManager.saveProfileSync();
 
         // Shutdown all threads
         loop.stop();
+        if (inputManager.getLatencyTracker().isEnabled()) {
+            System.out.println(inputManager.getLatencyTracker().report());
+        }
         soundManager.dispose();
+        // Drains queued saves, drops pending asset and prefetch work
         IOThreadPool.getInstance().shutdown();
         window.dispose();
     }
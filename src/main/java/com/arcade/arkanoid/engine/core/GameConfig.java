@@ -1,16 +1,24 @@
 package com.arcade.arkanoid.engine.core;
 
+import com.arcade.arkanoid.engine.util.ThreadingMode;
+
 public final class GameConfig {
     private final int width;
     private final int height;
     private final String title;
     private final int targetFps;
+    private final ThreadingMode threadingMode;
 
     public GameConfig(int width, int height, String title, int targetFps) {
+        this(width, height, title, targetFps, ThreadingMode.fromSystemProperty());
+    }
+
+    public GameConfig(int width, int height, String title, int targetFps, ThreadingMode threadingMode) {
         this.width = width;
         this.height = height;
         this.title = title;
         this.targetFps = targetFps;
+        this.threadingMode = threadingMode;
     }
 
     public static GameConfig defaultConfig() {
@@ -32,4 +40,11 @@ public final class GameConfig {
     public int targetFps() {
         return targetFps;
     }
+
+    /**
+     * Threads used for blocking audio and I/O work.
+     */
+    public ThreadingMode threadingMode() {
+        return threadingMode;
+    }
 }
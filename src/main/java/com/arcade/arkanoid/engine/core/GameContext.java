@@ -2,7 +2,10 @@ package com.arcade.arkanoid.engine.core;
 
 import com.arcade.arkanoid.engine.audio.SoundManager;
 import com.arcade.arkanoid.engine.assets.AssetManager;
+import com.arcade.arkanoid.engine.input.InputCommand;
 import com.arcade.arkanoid.engine.input.InputManager;
+import com.arcade.arkanoid.engine.input.InputSource;
+import com.arcade.arkanoid.engine.input.KeyboardInputSource;
 import com.arcade.arkanoid.engine.scene.SceneManager;
 import com.arcade.arkanoid.economy.EconomyService;
 import com.arcade.arkanoid.engine.settings.SettingsManager;
@@ -21,6 +24,10 @@ public final class GameContext {
     private final EconomyService economyService;
     private final SettingsManager settingsManager;
     private final LocalizationService localizationService;
+    private final InputCommand command = new InputCommand();
+    private volatile InputSource inputSource;
+    private long tick;
+    private boolean commandPolled;
 
     public GameContext(
             Game game,
@@ -46,6 +53,7 @@ public final class GameContext {
         this.economyService = economyService;
         this.settingsManager = settingsManager;
         this.localizationService = localizationService;
+        this.inputSource = input != null ? new KeyboardInputSource(input) : InputSource.IDLE;
     }
 
     public Game getGame() {
@@ -91,4 +99,41 @@ public final class GameContext {
     public LocalizationService getLocalizationService() {
         return localizationService;
     }
+
+    public InputSource getInputSource() {
+        return inputSource;
+    }
+
+    /**
+     * Replaces where gameplay commands come from, e.g. a replay or a bot. Takes effect from the
+     * next tick.
+     */
+    public void setInputSource(InputSource inputSource) {
+        this.inputSource = inputSource != null ? inputSource : InputSource.IDLE;
+    }
+
+    /**
+     * Starts a new update tick. Called by the game loop (or a headless driver) before each
+     * {@link SceneManager#update(double)}.
+     */
+    public void beginTick() {
+        tick++;
+        commandPolled = false;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * This tick's commands. The source is polled on first use in a tick, so letter shortcuts that
+     * scenes read from {@link InputManager} directly do not lose key presses to it.
+     */
+    public InputCommand getCommand() {
+        if (!commandPolled) {
+            inputSource.poll(tick, command);
+            commandPolled = true;
+        }
+        return command;
+    }
 }
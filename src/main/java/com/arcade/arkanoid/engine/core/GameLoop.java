@@ -1,5 +1,6 @@
 package com.arcade.arkanoid.engine.core;
 
+import com.arcade.arkanoid.engine.input.InputLatencyTracker;
 import com.arcade.arkanoid.engine.scene.SceneManager;
 
 import java.awt.Graphics2D;
@@ -11,6 +12,7 @@ public class GameLoop implements Runnable {
     private final GameContext context;
     private final SceneManager scenes;
     private final GameWindow window;
+    private final InputLatencyTracker latency;
     private Thread loopThread;
     private volatile boolean running;
 
@@ -19,6 +21,7 @@ public class GameLoop implements Runnable {
         this.context = context;
         this.scenes = scenes;
         this.window = window;
+        this.latency = context.getInput().getLatencyTracker();
     }
 
     public void start() {
@@ -56,11 +59,17 @@ public class GameLoop implements Runnable {
 
             // Prepare frame ONCE at the start - copy pending to frame
             context.getInput().prepareFrame();
+            // Swap in a profile loaded off-thread before any scene touches it this frame
+            context.getProfileManager().applyPendingSwitch();
 
             // Process accumulated time with fixed time steps
             int updateCount = 0;
             while (accumulator >= targetFrameTime && updateCount < MAX_UPDATES_PER_FRAME) {
                 double deltaSeconds = targetFrameTime / 1_000_000_000.0;
+                if (latency.isEnabled()) {
+                    latency.onTick(System.nanoTime());
+                }
+                context.beginTick();
                 scenes.update(deltaSeconds);
                 accumulator -= targetFrameTime;
                 updateCount++;
@@ -104,5 +113,8 @@ public class GameLoop implements Runnable {
         } while (strategy.contentsLost());
 
         Toolkit.getDefaultToolkit().sync();
+        if (latency.isEnabled()) {
+            latency.onPresented(scenes.getActiveSceneId(), System.nanoTime());
+        }
     }
 }
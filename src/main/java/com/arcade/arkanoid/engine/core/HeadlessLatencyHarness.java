@@ -0,0 +1,85 @@
+package com.arcade.arkanoid.engine.core;
+
+import com.arcade.arkanoid.engine.input.InputLatencyTracker;
+import com.arcade.arkanoid.engine.input.InputManager;
+import com.arcade.arkanoid.engine.scene.SceneManager;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Drives a {@link GameContext} frame by frame without a window so input latency can be measured
+ * in CI. Each frame mirrors {@link GameLoop}: drain input, run one fixed update, render into an
+ * offscreen image and "present" it. Key presses are injected through
+ * {@link InputManager#keyDown(int)} and tracked by the context's {@link InputLatencyTracker}.
+ */
+public final class HeadlessLatencyHarness {
+    private final GameContext context;
+    private final SceneManager scenes;
+    private final InputManager input;
+    private final InputLatencyTracker latency;
+    private final BufferedImage frame;
+    private final double tickSeconds;
+
+    public HeadlessLatencyHarness(GameContext context) {
+        this.context = context;
+        this.scenes = context.getScenes();
+        this.input = context.getInput();
+        this.latency = input.getLatencyTracker();
+        GameConfig config = context.getConfig();
+        this.frame = new BufferedImage(config.width(), config.height(), BufferedImage.TYPE_INT_RGB);
+        this.tickSeconds = 1.0 / config.targetFps();
+    }
+
+    /**
+     * Runs one frame: input drain, one update tick, render and present.
+     */
+    public void runFrame() {
+        input.prepareFrame();
+        context.getProfileManager().applyPendingSwitch();
+
+        latency.onTick(System.nanoTime());
+        context.beginTick();
+        scenes.update(tickSeconds);
+
+        Graphics2D graphics = frame.createGraphics();
+        try {
+            graphics.clearRect(0, 0, frame.getWidth(), frame.getHeight());
+            scenes.render(graphics);
+        } finally {
+            graphics.dispose();
+        }
+        latency.onPresented(scenes.getActiveSceneId(), System.nanoTime());
+    }
+
+    /**
+     * Taps {@code keyCode} {@code presses} times, holding it for {@code framesHeld} frames and
+     * leaving one idle frame between taps, and returns the latency stats for the active scene.
+     * Previous measurements are discarded.
+     */
+    public InputLatencyTracker.SceneStats measure(int keyCode, int presses, int framesHeld) {
+        if (presses < 1 || framesHeld < 1) {
+            throw new IllegalArgumentException("presses and framesHeld must be >= 1");
+        }
+        boolean wasEnabled = latency.isEnabled();
+        latency.setEnabled(true);
+        latency.reset();
+        try {
+            for (int i = 0; i < presses; i++) {
+                input.keyDown(keyCode);
+                for (int f = 0; f < framesHeld; f++) {
+                    runFrame();
+                }
+                input.keyUp(keyCode);
+                runFrame();
+            }
+            return latency.stats(scenes.getActiveSceneId());
+        } finally {
+            latency.setEnabled(wasEnabled);
+        }
+    }
+
+    public BufferedImage lastFrame() {
+        return frame;
+    }
+}
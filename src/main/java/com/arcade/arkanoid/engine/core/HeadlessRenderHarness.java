@@ -0,0 +1,192 @@
+package com.arcade.arkanoid.engine.core;
+
+import com.arcade.arkanoid.engine.scene.SceneManager;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+
+/**
+ * Measures scene render cost without a window. Each frame runs one fixed update, then renders the
+ * scene stack into an offscreen image; only the render is timed. Allocation per frame comes from
+ * the HotSpot per-thread allocation counter and is {@code -1} on JVMs without it.
+ *
+ * <p>Every rendered frame is folded into a pixel hash, so two runs over the same scene with the same
+ * frame count produce the same hash exactly when they drew the same pixels. Scenes must be built
+ * with fixed random seeds for that to hold.
+ */
+public final class HeadlessRenderHarness {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final GameContext context;
+    private final SceneManager scenes;
+    private final BufferedImage frame;
+    private final double tickSeconds;
+    private final com.sun.management.ThreadMXBean allocations;
+
+    public HeadlessRenderHarness(GameContext context) {
+        this.context = context;
+        this.scenes = context.getScenes();
+        GameConfig config = context.getConfig();
+        this.frame = new BufferedImage(config.width(), config.height(), BufferedImage.TYPE_INT_RGB);
+        this.tickSeconds = 1.0 / config.targetFps();
+        this.allocations = allocationCounter();
+    }
+
+    /**
+     * Switches to {@code sceneId}, runs {@code warmupFrames} unmeasured frames and then
+     * {@code frames} measured ones.
+     */
+    public RenderReport measure(String sceneId, int warmupFrames, int frames) {
+        if (warmupFrames < 0 || frames < 1) {
+            throw new IllegalArgumentException("warmupFrames must be >= 0 and frames >= 1");
+        }
+        scenes.switchTo(sceneId);
+        for (int i = 0; i < warmupFrames; i++) {
+            context.beginTick();
+            scenes.update(tickSeconds);
+            render();
+        }
+
+        long[] nanos = new long[frames];
+        long allocated = 0;
+        long hash = FNV_OFFSET;
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < frames; i++) {
+            context.beginTick();
+            scenes.update(tickSeconds);
+
+            long bytesBefore = allocations != null ? allocations.getThreadAllocatedBytes(threadId) : 0;
+            long start = System.nanoTime();
+            render();
+            nanos[i] = System.nanoTime() - start;
+            if (allocations != null) {
+                allocated += allocations.getThreadAllocatedBytes(threadId) - bytesBefore;
+            }
+            hash = foldHash(hash, frame);
+        }
+        long bytesPerFrame = allocations != null ? allocated / frames : -1;
+        return new RenderReport(sceneId, nanos, bytesPerFrame, hash);
+    }
+
+    public BufferedImage lastFrame() {
+        return frame;
+    }
+
+    /**
+     * FNV-1a over every pixel of {@code image}.
+     */
+    public static long pixelHash(BufferedImage image) {
+        return foldHash(FNV_OFFSET, image);
+    }
+
+    private void render() {
+        Graphics2D graphics = frame.createGraphics();
+        try {
+            graphics.clearRect(0, 0, frame.getWidth(), frame.getHeight());
+            scenes.render(graphics);
+        } finally {
+            graphics.dispose();
+        }
+    }
+
+    private static long foldHash(long hash, BufferedImage image) {
+        if (image.getRaster().getDataBuffer() instanceof DataBufferInt) {
+            int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            for (int pixel : pixels) {
+                hash = (hash ^ pixel) * FNV_PRIME;
+            }
+            return hash;
+        }
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                hash = (hash ^ image.getRGB(x, y)) * FNV_PRIME;
+            }
+        }
+        return hash;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean counter = (com.sun.management.ThreadMXBean) threads;
+        if (!counter.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        counter.setThreadAllocatedMemoryEnabled(true);
+        return counter;
+    }
+
+    /**
+     * Render timings for one scene.
+     */
+    public static final class RenderReport {
+        private final String sceneId;
+        private final long[] sortedNanos;
+        private final long totalNanos;
+        private final long bytesPerFrame;
+        private final long pixelHash;
+
+        RenderReport(String sceneId, long[] nanos, long bytesPerFrame, long pixelHash) {
+            this.sceneId = sceneId;
+            this.sortedNanos = nanos.clone();
+            Arrays.sort(sortedNanos);
+            long total = 0;
+            for (long value : nanos) {
+                total += value;
+            }
+            this.totalNanos = total;
+            this.bytesPerFrame = bytesPerFrame;
+            this.pixelHash = pixelHash;
+        }
+
+        public String sceneId() {
+            return sceneId;
+        }
+
+        public int frames() {
+            return sortedNanos.length;
+        }
+
+        /**
+         * Nearest-rank percentile of the render time, e.g. {@code percentileNanos(99)}.
+         */
+        public long percentileNanos(double percentile) {
+            int rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.length);
+            return sortedNanos[Math.max(0, Math.min(rank, sortedNanos.length) - 1)];
+        }
+
+        public long meanNanos() {
+            return totalNanos / sortedNanos.length;
+        }
+
+        public long maxNanos() {
+            return sortedNanos[sortedNanos.length - 1];
+        }
+
+        /**
+         * Mean bytes allocated by the render thread per frame, or {@code -1} when the JVM cannot
+         * count them.
+         */
+        public long bytesPerFrame() {
+            return bytesPerFrame;
+        }
+
+        public long pixelHash() {
+            return pixelHash;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s frames=%d p50=%dus p95=%dus p99=%dus max=%dus alloc=%dB/frame hash=%016x",
+                    sceneId, frames(), percentileNanos(50) / 1_000, percentileNanos(95) / 1_000,
+                    percentileNanos(99) / 1_000, maxNanos() / 1_000, bytesPerFrame, pixelHash);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.arcade.arkanoid.engine.input;
+
+/**
+ * Game actions for one update tick, independent of where they came from. {@code held} actions
+ * are active for the whole tick (paddle movement); {@code pressed} actions fired since the last
+ * tick (launch, pause, menu navigation). Both are bit sets of the action constants, so a tick
+ * packs into a single {@code long} for recording and replay. Menus read the same actions:
+ * {@link #PAUSE} also backs out of a menu, and {@link #CONFIRM} or {@link #LAUNCH} selects.
+ *
+ * <p>One instance is reused by {@code GameContext}; read it during the tick and do
+ * not hold on to it.
+ */
+public final class InputCommand {
+    public static final int MOVE_LEFT = 1;
+    public static final int MOVE_RIGHT = 1 << 1;
+    public static final int MOVE_UP = 1 << 2;
+    public static final int MOVE_DOWN = 1 << 3;
+    public static final int LAUNCH = 1 << 4;
+    public static final int PAUSE = 1 << 5;
+    public static final int CONFIRM = 1 << 6;
+    public static final int DELETE = 1 << 7;
+
+    private long tick;
+    private int held;
+    private int pressed;
+
+    public long tick() {
+        return tick;
+    }
+
+    public boolean isHeld(int action) {
+        return (held & action) != 0;
+    }
+
+    public boolean wasPressed(int action) {
+        return (pressed & action) != 0;
+    }
+
+    public int held() {
+        return held;
+    }
+
+    public int pressed() {
+        return pressed;
+    }
+
+    /**
+     * -1 when only left is held, 1 when only right is held, otherwise 0.
+     */
+    public int horizontal() {
+        boolean left = isHeld(MOVE_LEFT);
+        boolean right = isHeld(MOVE_RIGHT);
+        return left == right ? 0 : left ? -1 : 1;
+    }
+
+    public void set(long tick, int held, int pressed) {
+        this.tick = tick;
+        this.held = held;
+        this.pressed = pressed;
+    }
+
+    public void clear(long tick) {
+        set(tick, 0, 0);
+    }
+
+    /**
+     * {@code pressed} in the high half, {@code held} in the low half.
+     */
+    public long pack() {
+        return ((long) pressed << 32) | (held & 0xFFFFFFFFL);
+    }
+
+    public void unpack(long tick, long packed) {
+        set(tick, (int) packed, (int) (packed >>> 32));
+    }
+}
@@ -0,0 +1,228 @@
+package com.arcade.arkanoid.engine.input;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Follows key presses from arrival on the event thread to the frame that showed their effect.
+ * Each press is stamped when it arrives in {@link InputManager}, when the game loop drains it,
+ * when the first update tick after that starts, when gameplay reacts to it (e.g. the paddle
+ * changes direction) and when the next frame is presented. Completed presses feed per-scene
+ * latency histograms.
+ *
+ * <p>Disabled by default; enable with {@code -Darkanoid.latency=true} or
+ * {@link #setEnabled(boolean)}. Stamping methods belong to the game-loop thread; reports may be
+ * read from any thread.
+ */
+public final class InputLatencyTracker {
+    public static final String SYSTEM_PROPERTY = "arkanoid.latency";
+    private static final int MAX_PENDING = 32;
+    private static final String NO_SCENE = "none";
+
+    private volatile boolean enabled;
+
+    // Presses in flight, game-loop thread only
+    private final int[] pendingCodes = new int[MAX_PENDING];
+    private final long[] arrivedAt = new long[MAX_PENDING];
+    private final long[] consumedAt = new long[MAX_PENDING];
+    private final long[] tickedAt = new long[MAX_PENDING];
+    private final long[] reactedAt = new long[MAX_PENDING];
+    private int pendingCount;
+
+    private final Map<String, SceneStats> scenes = new LinkedHashMap<>();
+    private long dropped;
+
+    public InputLatencyTracker() {
+        this(Boolean.getBoolean(SYSTEM_PROPERTY));
+    }
+
+    public InputLatencyTracker(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            pendingCount = 0;
+        }
+    }
+
+    /**
+     * A new press of {@code keyCode} that arrived at {@code arrivalNanos} was drained into frame
+     * state at {@code consumedNanos}.
+     */
+    void onConsumed(int keyCode, long arrivalNanos, long consumedNanos) {
+        if (!enabled) {
+            return;
+        }
+        if (pendingCount == MAX_PENDING) {
+            synchronized (this) {
+                dropped++;
+            }
+            return;
+        }
+        int i = pendingCount++;
+        pendingCodes[i] = keyCode;
+        arrivedAt[i] = arrivalNanos;
+        consumedAt[i] = consumedNanos;
+        tickedAt[i] = 0L;
+        reactedAt[i] = 0L;
+    }
+
+    /**
+     * An update tick starts; presses drained before it are handled by this tick.
+     */
+    public void onTick(long nanos) {
+        for (int i = 0; i < pendingCount; i++) {
+            if (tickedAt[i] == 0L) {
+                tickedAt[i] = nanos;
+            }
+        }
+    }
+
+    /**
+     * Gameplay changed state in response to {@code keyCode}, e.g. paddle velocity.
+     */
+    public void onReaction(int keyCode, long nanos) {
+        for (int i = 0; i < pendingCount; i++) {
+            if (pendingCodes[i] == keyCode && reactedAt[i] == 0L) {
+                reactedAt[i] = nanos;
+                return;
+            }
+        }
+    }
+
+    /**
+     * A frame was shown; every press that has been through a tick completes here.
+     */
+    public void onPresented(String sceneId, long nanos) {
+        if (pendingCount == 0) {
+            return;
+        }
+        synchronized (this) {
+            SceneStats stats = null;
+            int kept = 0;
+            for (int i = 0; i < pendingCount; i++) {
+                if (tickedAt[i] == 0L) {
+                    copyPending(i, kept++);
+                    continue;
+                }
+                if (stats == null) {
+                    stats = statsFor(sceneId);
+                }
+                stats.queue.record(consumedAt[i] - arrivedAt[i]);
+                stats.tick.record(tickedAt[i] - arrivedAt[i]);
+                if (reactedAt[i] != 0L) {
+                    stats.reaction.record(reactedAt[i] - arrivedAt[i]);
+                }
+                stats.presented.record(nanos - arrivedAt[i]);
+            }
+            pendingCount = kept;
+        }
+    }
+
+    public synchronized SceneStats stats(String sceneId) {
+        return scenes.get(sceneId == null ? NO_SCENE : sceneId);
+    }
+
+    public synchronized List<String> sceneIds() {
+        return new ArrayList<>(scenes.keySet());
+    }
+
+    public synchronized long dropped() {
+        return dropped;
+    }
+
+    public synchronized void reset() {
+        scenes.clear();
+        dropped = 0;
+    }
+
+    /**
+     * One line per scene with input-to-photon percentiles in milliseconds.
+     */
+    public synchronized String report() {
+        StringBuilder builder = new StringBuilder("Input latency (ms)");
+        for (Map.Entry<String, SceneStats> entry : scenes.entrySet()) {
+            LatencyHistogram presented = entry.getValue().presented;
+            LatencyHistogram reaction = entry.getValue().reaction;
+            builder.append(String.format(Locale.ROOT,
+                    "%n  %s: n=%d p50=%.2f p95=%.2f p99=%.2f max=%.2f reaction-p95=%.2f",
+                    entry.getKey(),
+                    presented.count(),
+                    millis(presented.percentileNanos(50)),
+                    millis(presented.percentileNanos(95)),
+                    millis(presented.percentileNanos(99)),
+                    millis(presented.maxNanos()),
+                    millis(reaction.percentileNanos(95))));
+        }
+        if (dropped > 0) {
+            builder.append(String.format(Locale.ROOT, "%n  dropped=%d", dropped));
+        }
+        return builder.toString();
+    }
+
+    private SceneStats statsFor(String sceneId) {
+        return scenes.computeIfAbsent(sceneId == null ? NO_SCENE : sceneId, id -> new SceneStats());
+    }
+
+    private void copyPending(int from, int to) {
+        if (from == to) {
+            return;
+        }
+        pendingCodes[to] = pendingCodes[from];
+        arrivedAt[to] = arrivedAt[from];
+        consumedAt[to] = consumedAt[from];
+        tickedAt[to] = tickedAt[from];
+        reactedAt[to] = reactedAt[from];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Latency distributions for one scene, all measured from the press arriving.
+     */
+    public static final class SceneStats {
+        private final LatencyHistogram queue = new LatencyHistogram();
+        private final LatencyHistogram tick = new LatencyHistogram();
+        private final LatencyHistogram reaction = new LatencyHistogram();
+        private final LatencyHistogram presented = new LatencyHistogram();
+
+        /**
+         * Until the game loop drained the press.
+         */
+        public LatencyHistogram queue() {
+            return queue;
+        }
+
+        /**
+         * Until the update tick that handled it started.
+         */
+        public LatencyHistogram tick() {
+            return tick;
+        }
+
+        /**
+         * Until gameplay reacted; only presses that caused a reaction are counted.
+         */
+        public LatencyHistogram reaction() {
+            return reaction;
+        }
+
+        /**
+         * Until the frame showing the result was presented.
+         */
+        public LatencyHistogram presented() {
+            return presented;
+        }
+    }
+}
@@ -4,20 +4,44 @@ import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.util.Arrays;
 
+/**
+ * Keyboard state for the game loop. AWT callbacks only push timestamped transitions into a
+ * lock-free {@link KeyEventRing}; {@link #prepareFrame()} drains it on the game-loop thread into
+ * plain arrays, so queries never contend with the event thread. Key repeat is driven from the
+ * list of currently held keys rather than a scan of every key code.
+ *
+ * <p>Threading: {@code keyPressed}, {@code keyReleased} and {@link #resetAll()} are called from
+ * the AWT event thread; everything else belongs to the game-loop thread.
+ */
 public class InputManager implements KeyListener {
     private static final int KEY_RANGE = 512;
+    private static final int EVENT_CAPACITY = 256;
+    private static final long REPEAT_DELAY = 500_000_000L; // 500ms delay before repeat
+    private static final long REPEAT_INTERVAL = 40_000_000L; // 40ms between repeats (~25 repeats/sec)
+
+    private final KeyEventRing events = new KeyEventRing(EVENT_CAPACITY);
+    private final KeyEventRing.Sink applyEvent = this::apply;
+    private final InputLatencyTracker latency = new InputLatencyTracker();
+
+    // Game-loop thread state, filled from the ring by prepareFrame()
     private final boolean[] pressed = new boolean[KEY_RANGE];
-    private final int[] pendingJustPressedCount = new int[KEY_RANGE]; // Count presses
     private final boolean[] frameJustPressed = new boolean[KEY_RANGE];
-    private final long[] pressedTime = new long[KEY_RANGE]; // Track when key was pressed
-    private static final long REPEAT_DELAY = 500_000_000L; // 120ms delay before repeat
-    private static final long REPEAT_INTERVAL = 40_000_000L; // 40ms between repeats (~25 repeats/sec)
+    private final long[] pressedTime = new long[KEY_RANGE]; // When the current hold started
+    private final long[] nextRepeatTime = new long[KEY_RANGE];
+    private final int[] heldKeys = new int[KEY_RANGE];
+    private int heldCount;
+    private long frameTime;
+    private long drainTime;
 
-    public synchronized boolean isKeyPressed(int keyCode) {
+    public boolean isKeyPressed(int keyCode) {
         return keyCode >= 0 && keyCode < KEY_RANGE && pressed[keyCode];
     }
 
-    public synchronized boolean isKeyJustPressed(int keyCode) {
+    /**
+     * True once per press (or repeat) of {@code keyCode}; reading clears it, so a press is not
+     * lost on frames that run no update tick.
+     */
+    public boolean isKeyJustPressed(int keyCode) {
         if (keyCode >= 0 && keyCode < KEY_RANGE && frameJustPressed[keyCode]) {
             frameJustPressed[keyCode] = false; // Clear immediately after reading
             return true;
@@ -25,42 +49,56 @@ public class InputManager implements KeyListener {
         return false;
     }
 
+    /**
+     * {@link System#nanoTime()} at which the key went down, or 0 if it is not held. Lets gameplay
+     * account for presses that landed part-way through a tick.
+     */
+    public long pressedAtNanos(int keyCode) {
+        return isKeyPressed(keyCode) ? pressedTime[keyCode] : 0L;
+    }
+
+    /**
+     * {@link System#nanoTime()} of the last {@link #prepareFrame()}.
+     */
+    public long frameNanos() {
+        return frameTime;
+    }
+
+    /**
+     * Per-press latency stamps for this input; disabled unless {@code -Darkanoid.latency=true}.
+     */
+    public InputLatencyTracker getLatencyTracker() {
+        return latency;
+    }
+
     public void prepareFrame() {
-        synchronized (this) {
-            long currentTime = System.nanoTime();
-
-            // Process pending press counts
-            for (int i = 0; i < KEY_RANGE; i++) {
-                if (pendingJustPressedCount[i] > 0) {
-                    frameJustPressed[i] = true;
-                    pendingJustPressedCount[i] = 0; // Reset count
-                }
-            }
+        drainTime = System.nanoTime();
+        events.drain(applyEvent);
+        if (events.takeOverflow()) {
+            // Dropped transitions may include releases; start over rather than keep keys stuck.
+            releaseAll();
+        }
 
-            // Handle key repeat for held keys
-            for (int i = 0; i < KEY_RANGE; i++) {
-                if (pressed[i] && pressedTime[i] > 0) {
-                    long heldTime = currentTime - pressedTime[i];
-
-                    // Initial delay, then repeat at interval
-                    if (heldTime >= REPEAT_DELAY) {
-                        long timeSinceDelay = heldTime - REPEAT_DELAY;
-                        if (timeSinceDelay % REPEAT_INTERVAL < 16_000_000) { // ~1 frame tolerance
-                            frameJustPressed[i] = true;
-                        }
-                    }
-                }
+        long currentTime = System.nanoTime();
+        frameTime = currentTime;
+        for (int i = 0; i < heldCount; i++) {
+            int code = heldKeys[i];
+            if (currentTime >= nextRepeatTime[code]) {
+                frameJustPressed[code] = true;
+                long next = nextRepeatTime[code] + REPEAT_INTERVAL;
+                nextRepeatTime[code] = next > currentTime ? next : currentTime + REPEAT_INTERVAL;
             }
         }
     }
 
-    public synchronized void resetAll() {
-        Arrays.fill(pressed, false);
-        Arrays.fill(pendingJustPressedCount, 0);
-        Arrays.fill(frameJustPressed, false);
+    /**
+     * Releases every key, e.g. when the window loses focus. Safe to call from the event thread.
+     */
+    public void resetAll() {
+        events.offer(KeyEventRing.RESET, 0, System.nanoTime());
     }
 
-    public synchronized void clearFrameJustPressed() {
+    public void clearFrameJustPressed() {
         Arrays.fill(frameJustPressed, false);
     }
 
@@ -70,23 +108,80 @@ public class InputManager implements KeyListener {
     }
 
     @Override
-    public synchronized void keyPressed(KeyEvent e) {
-        int code = e.getKeyCode();
+    public void keyPressed(KeyEvent e) {
+        keyDown(e.getKeyCode());
+    }
+
+    @Override
+    public void keyReleased(KeyEvent e) {
+        keyUp(e.getKeyCode());
+    }
+
+    /**
+     * Injects a key press as if it came from AWT, e.g. for headless latency runs. The ring has a
+     * single producer, so synthetic input must not be mixed with a live window.
+     */
+    public void keyDown(int code) {
         if (code >= 0 && code < KEY_RANGE) {
-            if (!pressed[code]) {
-                pendingJustPressedCount[code]++; // Increment counter
-                pressedTime[code] = System.nanoTime(); // Start tracking hold time
-            }
-            pressed[code] = true;
+            events.offer(KeyEventRing.DOWN, code, System.nanoTime());
         }
     }
 
-    @Override
-    public synchronized void keyReleased(KeyEvent e) {
-        int code = e.getKeyCode();
+    /**
+     * Injects a key release; see {@link #keyDown(int)}.
+     */
+    public void keyUp(int code) {
         if (code >= 0 && code < KEY_RANGE) {
+            events.offer(KeyEventRing.UP, code, System.nanoTime());
+        }
+    }
+
+    private void apply(int kind, int code, long timestamp) {
+        switch (kind) {
+            case KeyEventRing.DOWN:
+                // OS auto-repeat sends further presses for a held key; repeat is ours to generate
+                if (!pressed[code]) {
+                    pressed[code] = true;
+                    frameJustPressed[code] = true;
+                    pressedTime[code] = timestamp;
+                    nextRepeatTime[code] = timestamp + REPEAT_DELAY;
+                    heldKeys[heldCount++] = code;
+                    if (latency.isEnabled()) {
+                        latency.onConsumed(code, timestamp, drainTime);
+                    }
+                }
+                break;
+            case KeyEventRing.UP:
+                if (pressed[code]) {
+                    pressed[code] = false;
+                    pressedTime[code] = 0;
+                    removeHeld(code);
+                }
+                break;
+            case KeyEventRing.RESET:
+                releaseAll();
+                clearFrameJustPressed();
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void releaseAll() {
+        for (int i = 0; i < heldCount; i++) {
+            int code = heldKeys[i];
             pressed[code] = false;
-            pressedTime[code] = 0; // Reset hold time
+            pressedTime[code] = 0;
+        }
+        heldCount = 0;
+    }
+
+    private void removeHeld(int code) {
+        for (int i = 0; i < heldCount; i++) {
+            if (heldKeys[i] == code) {
+                heldKeys[i] = heldKeys[--heldCount];
+                return;
+            }
         }
     }
 }
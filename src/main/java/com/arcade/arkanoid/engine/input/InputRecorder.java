@@ -0,0 +1,47 @@
+package com.arcade.arkanoid.engine.input;
+
+import java.util.Arrays;
+
+/**
+ * Passes another source through unchanged while keeping every tick's command, so a session can
+ * be replayed later with {@link #toReplay()}.
+ */
+public final class InputRecorder implements InputSource {
+    private final InputSource delegate;
+    private long[] frames = new long[1024];
+    private int count;
+    private long firstTick = -1;
+
+    public InputRecorder(InputSource delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void poll(long tick, InputCommand into) {
+        delegate.poll(tick, into);
+        if (firstTick < 0) {
+            firstTick = tick;
+        }
+        int index = (int) (tick - firstTick);
+        if (index < count) {
+            return; // Already recorded; replays must not see a tick twice
+        }
+        if (index >= frames.length) {
+            frames = Arrays.copyOf(frames, Math.max(frames.length * 2, index + 1));
+        }
+        // Ticks the game skipped polling for stay zero, i.e. idle
+        frames[index] = into.pack();
+        count = index + 1;
+    }
+
+    public int recordedTicks() {
+        return count;
+    }
+
+    /**
+     * A replay of everything recorded so far, starting at tick 0.
+     */
+    public ReplayInputSource toReplay() {
+        return new ReplayInputSource(Arrays.copyOf(frames, count));
+    }
+}
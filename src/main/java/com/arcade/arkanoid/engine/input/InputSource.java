@@ -0,0 +1,16 @@
+package com.arcade.arkanoid.engine.input;
+
+/**
+ * Supplies the {@link InputCommand} for each update tick: the keyboard, a recorded session, a
+ * scripted bot or anything else that can decide actions without AWT. Polled at most once per tick
+ * on the game-loop thread.
+ */
+@FunctionalInterface
+public interface InputSource {
+    /**
+     * A source that never does anything, e.g. for contexts without a keyboard.
+     */
+    InputSource IDLE = (tick, into) -> into.clear(tick);
+
+    void poll(long tick, InputCommand into);
+}
@@ -0,0 +1,84 @@
+package com.arcade.arkanoid.engine.input;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free single-producer/single-consumer ring of timestamped key transitions. The AWT event
+ * thread publishes, the game loop drains. Slots are parallel primitive arrays, so neither side
+ * allocates or blocks. If the consumer falls a full ring behind, further events are dropped and
+ * the overflow is reported once, so the consumer can resynchronise instead of keeping a key stuck.
+ */
+final class KeyEventRing {
+    static final int DOWN = 1;
+    static final int UP = 2;
+    static final int RESET = 3;
+
+    private final int mask;
+    private final int[] codes;
+    private final int[] kinds;
+    private final long[] timestamps;
+    // Producer-owned write index, read by the consumer
+    private final AtomicLong tail = new AtomicLong();
+    // Consumer-owned read index, read by the producer
+    private final AtomicLong head = new AtomicLong();
+    private volatile boolean overflowed;
+
+    KeyEventRing(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two >= 2");
+        }
+        this.mask = capacity - 1;
+        this.codes = new int[capacity];
+        this.kinds = new int[capacity];
+        this.timestamps = new long[capacity];
+    }
+
+    /**
+     * Producer side. Returns false if the ring was full and the event was dropped.
+     */
+    boolean offer(int kind, int code, long timestampNanos) {
+        long t = tail.get();
+        if (t - head.get() > mask) {
+            overflowed = true;
+            return false;
+        }
+        int slot = (int) t & mask;
+        kinds[slot] = kind;
+        codes[slot] = code;
+        timestamps[slot] = timestampNanos;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Consumer side. Hands every published event to {@code sink} in order.
+     */
+    int drain(Sink sink) {
+        long h = head.get();
+        long t = tail.get();
+        int drained = 0;
+        while (h < t) {
+            int slot = (int) h & mask;
+            sink.accept(kinds[slot], codes[slot], timestamps[slot]);
+            h++;
+            drained++;
+        }
+        head.lazySet(h);
+        return drained;
+    }
+
+    /**
+     * Consumer side. True once after events were dropped because the ring was full.
+     */
+    boolean takeOverflow() {
+        if (overflowed) {
+            overflowed = false;
+            return true;
+        }
+        return false;
+    }
+
+    interface Sink {
+        void accept(int kind, int code, long timestampNanos);
+    }
+}
@@ -0,0 +1,61 @@
+package com.arcade.arkanoid.engine.input;
+
+import java.awt.event.KeyEvent;
+
+/**
+ * Default bindings from {@link InputManager} keys to game actions: arrows or WASD to move, SPACE
+ * to launch, ESC to pause or go back, ENTER to confirm, DELETE or BACKSPACE to delete. Pressed
+ * actions consume the key's just-pressed flag, like reading it directly would.
+ */
+public final class KeyboardInputSource implements InputSource {
+    private final InputManager input;
+
+    public KeyboardInputSource(InputManager input) {
+        this.input = input;
+    }
+
+    @Override
+    public void poll(long tick, InputCommand into) {
+        int held = 0;
+        if (input.isKeyPressed(KeyEvent.VK_LEFT) || input.isKeyPressed(KeyEvent.VK_A)) {
+            held |= InputCommand.MOVE_LEFT;
+        }
+        if (input.isKeyPressed(KeyEvent.VK_RIGHT) || input.isKeyPressed(KeyEvent.VK_D)) {
+            held |= InputCommand.MOVE_RIGHT;
+        }
+        if (input.isKeyPressed(KeyEvent.VK_UP) || input.isKeyPressed(KeyEvent.VK_W)) {
+            held |= InputCommand.MOVE_UP;
+        }
+        if (input.isKeyPressed(KeyEvent.VK_DOWN) || input.isKeyPressed(KeyEvent.VK_S)) {
+            held |= InputCommand.MOVE_DOWN;
+        }
+
+        int pressed = 0;
+        // Read both bindings so neither leaves a stale just-pressed flag behind
+        if (input.isKeyJustPressed(KeyEvent.VK_LEFT) | input.isKeyJustPressed(KeyEvent.VK_A)) {
+            pressed |= InputCommand.MOVE_LEFT;
+        }
+        if (input.isKeyJustPressed(KeyEvent.VK_RIGHT) | input.isKeyJustPressed(KeyEvent.VK_D)) {
+            pressed |= InputCommand.MOVE_RIGHT;
+        }
+        if (input.isKeyJustPressed(KeyEvent.VK_UP) | input.isKeyJustPressed(KeyEvent.VK_W)) {
+            pressed |= InputCommand.MOVE_UP;
+        }
+        if (input.isKeyJustPressed(KeyEvent.VK_DOWN) | input.isKeyJustPressed(KeyEvent.VK_S)) {
+            pressed |= InputCommand.MOVE_DOWN;
+        }
+        if (input.isKeyJustPressed(KeyEvent.VK_SPACE)) {
+            pressed |= InputCommand.LAUNCH;
+        }
+        if (input.isKeyJustPressed(KeyEvent.VK_ESCAPE)) {
+            pressed |= InputCommand.PAUSE;
+        }
+        if (input.isKeyJustPressed(KeyEvent.VK_ENTER)) {
+            pressed |= InputCommand.CONFIRM;
+        }
+        if (input.isKeyJustPressed(KeyEvent.VK_DELETE) | input.isKeyJustPressed(KeyEvent.VK_BACK_SPACE)) {
+            pressed |= InputCommand.DELETE;
+        }
+        into.set(tick, held, pressed);
+    }
+}
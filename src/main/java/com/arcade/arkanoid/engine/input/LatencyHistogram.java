@@ -0,0 +1,65 @@
+package com.arcade.arkanoid.engine.input;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-resolution latency histogram: 50 microsecond buckets up to 200 ms plus an overflow
+ * bucket. Recording never allocates; percentiles are reported as bucket upper bounds.
+ */
+public final class LatencyHistogram {
+    private static final long BUCKET_NANOS = 50_000L;
+    private static final int BUCKETS = 4_000;
+
+    private final long[] counts = new long[BUCKETS + 1];
+    private long count;
+    private long sumNanos;
+    private long maxNanos;
+
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        int bucket = (int) Math.min(BUCKETS, value / BUCKET_NANOS);
+        counts[bucket]++;
+        count++;
+        sumNanos += value;
+        maxNanos = Math.max(maxNanos, value);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long maxNanos() {
+        return maxNanos;
+    }
+
+    public double meanNanos() {
+        return count == 0 ? 0.0 : (double) sumNanos / count;
+    }
+
+    /**
+     * Smallest bucket bound covering {@code percentile} (0-100) of samples, capped at the maximum
+     * observed value; 0 when empty.
+     */
+    public long percentileNanos(double percentile) {
+        if (count == 0) {
+            return 0L;
+        }
+        long rank = (long) Math.ceil(Math.max(0.0, Math.min(100.0, percentile)) / 100.0 * count);
+        rank = Math.max(1L, rank);
+        long seen = 0;
+        for (int i = 0; i <= BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return i == BUCKETS ? maxNanos : Math.min(maxNanos, (i + 1) * BUCKET_NANOS);
+            }
+        }
+        return maxNanos;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        count = 0;
+        sumNanos = 0;
+        maxNanos = 0;
+    }
+}
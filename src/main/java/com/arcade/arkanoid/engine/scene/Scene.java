@@ -11,12 +11,29 @@ public abstract class Scene {
         this.context = context;
     }
 
+    /**
+     * Loads the assets this scene needs (images, sounds, level data) so {@link #onEnter()} does
+     * not block. May run on a worker thread via {@link SceneManager#prepare(String)}, before the
+     * scene is entered; must be idempotent and must not touch other scenes.
+     */
+    public void preload() {
+    }
+
     public void onEnter() {
     }
 
     public void onExit() {
     }
 
+    /**
+     * How much of the screen this scene hides when pushed as an overlay, from 0 (a HUD that lets
+     * everything below keep running) to 1. At {@link SceneManager#FREEZE_OPACITY} or above the
+     * scenes below are frozen and drawn from a cached frame.
+     */
+    public double overlayOpacity() {
+        return 1.0;
+    }
+
     public abstract void update(double deltaTime);
 
     public abstract void render(Graphics2D graphics);
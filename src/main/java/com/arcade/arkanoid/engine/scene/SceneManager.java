@@ -1,18 +1,50 @@
 package com.arcade.arkanoid.engine.scene;
 
 import com.arcade.arkanoid.engine.core.GameContext;
+import com.arcade.arkanoid.engine.util.IOLane;
+import com.arcade.arkanoid.engine.util.IOThreadPool;
 
+import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 
+/**
+ * Owns the registered scenes and the active one. Scenes can be built and preloaded ahead of time
+ * on the I/O thread with {@link #prepare(String)}; {@link #switchTo(String, double)} fades out,
+ * waits for the target to be ready without blocking frames, swaps, and fades back in. The time
+ * each swap takes on the game-loop thread is kept as a {@link Hitch}.
+ *
+ * <p>Overlays ({@link #push(String)}/{@link #pop()}) stack on top of the active scene. An overlay
+ * whose {@link Scene#overlayOpacity()} reaches {@link #FREEZE_OPACITY} freezes everything below
+ * it: those scenes stop updating and are drawn from a single cached frame until it is popped.
+ */
 public class SceneManager {
+    public static final double DEFAULT_FADE_SECONDS = 0.25;
+    public static final double FREEZE_OPACITY = 0.5;
+    private static final int HITCH_HISTORY = 32;
+    private static final int PHASE_NONE = 0;
+    private static final int PHASE_FADE_OUT = 1;
+    private static final int PHASE_FADE_IN = 2;
+
     private static final class SceneEntry {
         final Function<GameContext, Scene> factory;
         final boolean persistent;
         Scene cachedInstance;
+        boolean preloaded;
+        Future<Scene> pending;
+        IOLane pendingLane;
 
         SceneEntry(Function<GameContext, Scene> factory, boolean persistent) {
             this.factory = factory;
@@ -21,10 +53,22 @@ public class SceneManager {
     }
 
     private final Map<String, SceneEntry> sceneEntries = new HashMap<>();
+    private final Deque<Hitch> hitches = new ArrayDeque<>(HITCH_HISTORY);
+    private final List<Scene> overlays = new ArrayList<>();
+    private final List<String> overlayIds = new ArrayList<>();
     private GameContext context;
     private Scene activeScene;
     private String activeSceneId;
 
+    // Frozen layers below the live ones, rendered once into frozenFrame
+    private BufferedImage frozenFrame;
+    private int frozenLayers;
+
+    private int phase = PHASE_NONE;
+    private String transitionTarget;
+    private double fadeSeconds;
+    private double transitionElapsed;
+
     public void bindContext(GameContext context) {
         this.context = context;
     }
@@ -41,47 +85,190 @@ public class SceneManager {
         sceneEntries.put(Objects.requireNonNull(id), new SceneEntry(Objects.requireNonNull(factory), persistent));
     }
 
-    public void switchTo(String id) {
-        SceneEntry entry = sceneEntries.get(id);
-        if (entry == null) {
-            throw new IllegalArgumentException("No scene registered for id: " + id);
+    /**
+     * Builds the scene and runs its {@link Scene#preload()} on the I/O asset lane. The next
+     * switch to {@code id} uses the prepared instance. Calling it again while a preparation is
+     * pending, or for a persistent scene that is already loaded, returns immediately; a queued
+     * {@link #prefetch(String)} of the same scene is promoted to the asset lane.
+     */
+    public Future<?> prepare(String id) {
+        return prepare(id, IOLane.ASSET);
+    }
+
+    /**
+     * Like {@link #prepare(String)} for scenes the player may go to next. Runs on the prefetch
+     * lane, and is cancelled if still queued when another scene is entered.
+     */
+    public Future<?> prefetch(String id) {
+        return prepare(id, IOLane.PREFETCH);
+    }
+
+    private Future<?> prepare(String id, IOLane lane) {
+        SceneEntry entry = requireEntry(id);
+        if (entry.pending != null) {
+            boolean promote = lane == IOLane.ASSET
+                    && entry.pendingLane == IOLane.PREFETCH
+                    && entry.pending.cancel(false);
+            if (!promote && !entry.pending.isCancelled()) {
+                return entry.pending;
+            }
+            entry.pending = null;
+        }
+        Scene existing = entry.persistent ? entry.cachedInstance : null;
+        if (existing != null && entry.preloaded) {
+            return CompletableFuture.completedFuture(existing);
         }
+        entry.pending = IOThreadPool.getInstance().submit(lane, () -> {
+            Scene scene = existing != null ? existing : entry.factory.apply(context);
+            scene.preload();
+            return scene;
+        });
+        entry.pendingLane = lane;
+        return entry.pending;
+    }
 
-        if (activeScene != null) {
-            activeScene.onExit();
+    /**
+     * True if switching to {@code id} now would not have to build or load anything.
+     */
+    public boolean isReady(String id) {
+        SceneEntry entry = requireEntry(id);
+        if (entry.pending != null) {
+            return entry.pending.isDone();
         }
+        return entry.persistent && entry.cachedInstance != null && entry.preloaded;
+    }
 
-        if (entry.persistent) {
-            if (entry.cachedInstance == null) {
-                entry.cachedInstance = entry.factory.apply(context);
-            }
-            activeScene = entry.cachedInstance;
-        } else {
-            activeScene = entry.factory.apply(context);
+    /**
+     * Switches immediately, building and loading the scene on this thread if it was not prepared.
+     * Cancels any fade in progress.
+     */
+    public void switchTo(String id) {
+        SceneEntry entry = requireEntry(id);
+        phase = PHASE_NONE;
+        transitionTarget = null;
+        activate(id, entry);
+    }
+
+    /**
+     * Fades the current scene out over {@code fadeSeconds} while {@code id} is prepared in the
+     * background, swaps once both are done, then fades in over the same time. The outgoing scene
+     * is not updated during the fade.
+     */
+    public void switchTo(String id, double fadeSeconds) {
+        requireEntry(id);
+        if (fadeSeconds <= 0 || activeScene == null) {
+            switchTo(id);
+            return;
         }
+        prepare(id);
+        phase = PHASE_FADE_OUT;
+        transitionTarget = id;
+        this.fadeSeconds = fadeSeconds;
+        transitionElapsed = 0;
+    }
 
-        activeSceneId = id;
-        activeScene.onEnter();
+    public boolean isTransitioning() {
+        return phase != PHASE_NONE;
+    }
+
+    /**
+     * Enters {@code id} as an overlay on top of the current scenes without exiting them.
+     */
+    public void push(String id) {
+        SceneEntry entry = requireEntry(id);
+        long start = System.nanoTime();
+        boolean prepared = isReady(id);
+
+        Scene overlay = obtain(id, entry);
+        overlays.add(overlay);
+        overlayIds.add(id);
+        frozenLayers = 0;
+        overlay.onEnter();
+
+        recordHitch(new Hitch(id, System.nanoTime() - start, prepared));
+    }
+
+    /**
+     * Exits the top overlay; the scenes below resume. Does nothing if there is no overlay.
+     */
+    public void pop() {
+        int top = overlays.size() - 1;
+        if (top < 0) {
+            return;
+        }
+        Scene overlay = overlays.remove(top);
+        overlayIds.remove(top);
+        frozenLayers = 0;
+        overlay.onExit();
+    }
+
+    public int overlayCount() {
+        return overlays.size();
     }
 
     public void update(double deltaTime) {
-        if (activeScene != null) {
-            activeScene.update(deltaTime);
+        if (phase == PHASE_FADE_OUT) {
+            transitionElapsed += deltaTime;
+            if (transitionElapsed >= fadeSeconds && isReady(transitionTarget)) {
+                String target = transitionTarget;
+                transitionTarget = null;
+                phase = PHASE_FADE_IN;
+                transitionElapsed = 0;
+                activate(target, sceneEntries.get(target));
+            }
+            return;
+        }
+        if (phase == PHASE_FADE_IN) {
+            transitionElapsed += deltaTime;
+            if (transitionElapsed >= fadeSeconds) {
+                phase = PHASE_NONE;
+            }
+        }
+        // Snapshot the stack so an overlay pushed during this tick starts updating next tick
+        int top = overlays.size();
+        for (int i = firstLiveLayer(); i <= top && i <= overlays.size(); i++) {
+            Scene scene = layer(i);
+            if (scene != null) {
+                scene.update(deltaTime);
+            }
         }
     }
 
     public void render(Graphics2D graphics) {
-        if (activeScene != null) {
-            activeScene.render(graphics);
+        int firstLive = firstLiveLayer();
+        if (firstLive > 0) {
+            drawFrozenLayers(graphics, firstLive);
+        }
+        for (int i = firstLive; i <= overlays.size(); i++) {
+            Scene scene = layer(i);
+            if (scene != null) {
+                scene.render(graphics);
+            }
+        }
+        if (phase != PHASE_NONE && context != null) {
+            double progress = Math.min(1.0, transitionElapsed / fadeSeconds);
+            double alpha = phase == PHASE_FADE_OUT ? progress : 1.0 - progress;
+            graphics.setColor(new Color(0, 0, 0, (int) Math.round(alpha * 255)));
+            graphics.fillRect(0, 0, context.getConfig().width(), context.getConfig().height());
         }
     }
 
+    /**
+     * The scene receiving input: the top overlay if there is one, otherwise the active scene.
+     */
     public Scene getActiveScene() {
-        return activeScene;
+        return overlays.isEmpty() ? activeScene : overlays.get(overlays.size() - 1);
     }
 
     public String getActiveSceneId() {
-        return activeSceneId;
+        return overlayIds.isEmpty() ? activeSceneId : overlayIds.get(overlayIds.size() - 1);
+    }
+
+    /**
+     * The scene under all overlays.
+     */
+    public Scene getBaseScene() {
+        return activeScene;
     }
 
     public Scene getPersistentScene(String id) {
@@ -89,9 +276,181 @@ public class SceneManager {
         if (entry == null || !entry.persistent) {
             return null;
         }
+        if (entry.pending != null) {
+            return obtain(id, entry);
+        }
+        if (entry.cachedInstance == null) {
+            entry.cachedInstance = entry.factory.apply(context);
+        }
+        return entry.cachedInstance;
+    }
+
+    /**
+     * Most recent scene swaps, oldest first.
+     */
+    public synchronized List<Hitch> recentHitches() {
+        return new ArrayList<>(hitches);
+    }
+
+    public synchronized Hitch lastHitch() {
+        return hitches.peekLast();
+    }
+
+    private void activate(String id, SceneEntry entry) {
+        long start = System.nanoTime();
+        boolean prepared = isReady(id);
+
+        cancelStalePrefetches(entry);
+        while (!overlays.isEmpty()) {
+            pop();
+        }
+        frozenFrame = null;
+        if (activeScene != null) {
+            activeScene.onExit();
+        }
+
+        activeScene = obtain(id, entry);
+        activeSceneId = id;
+        activeScene.onEnter();
+
+        recordHitch(new Hitch(id, System.nanoTime() - start, prepared));
+    }
+
+    /**
+     * The instance to enter for {@code entry}: the prepared one if there is one (waiting for it if
+     * necessary), otherwise built and preloaded on this thread.
+     */
+    private Scene obtain(String id, SceneEntry entry) {
+        Future<Scene> pending = entry.pending;
+        if (pending != null) {
+            entry.pending = null;
+            try {
+                Scene scene = pending.get();
+                if (entry.persistent) {
+                    entry.cachedInstance = scene;
+                    entry.preloaded = true;
+                }
+                return scene;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                System.err.println("Failed to prepare scene " + id + ": " + e.getCause());
+            } catch (CancellationException e) {
+                // Prefetch was dropped; load it here instead
+            }
+        }
+
+        if (!entry.persistent) {
+            Scene scene = entry.factory.apply(context);
+            scene.preload();
+            return scene;
+        }
         if (entry.cachedInstance == null) {
             entry.cachedInstance = entry.factory.apply(context);
         }
+        if (!entry.preloaded) {
+            entry.cachedInstance.preload();
+            entry.preloaded = true;
+        }
         return entry.cachedInstance;
     }
+
+    private void cancelStalePrefetches(SceneEntry target) {
+        for (SceneEntry entry : sceneEntries.values()) {
+            if (entry != target && entry.pending != null && entry.pendingLane == IOLane.PREFETCH
+                    && entry.pending.cancel(false)) {
+                entry.pending = null;
+            }
+        }
+    }
+
+    /**
+     * Layer 0 is the active scene, overlays follow bottom to top.
+     */
+    private Scene layer(int index) {
+        return index == 0 ? activeScene : overlays.get(index - 1);
+    }
+
+    /**
+     * Index of the lowest layer that still updates; everything below is frozen by an overlay.
+     */
+    private int firstLiveLayer() {
+        for (int i = overlays.size(); i > 0; i--) {
+            if (overlays.get(i - 1).overlayOpacity() >= FREEZE_OPACITY) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private void drawFrozenLayers(Graphics2D graphics, int count) {
+        int width = context.getConfig().width();
+        int height = context.getConfig().height();
+        if (frozenFrame == null || frozenLayers != count) {
+            if (frozenFrame == null) {
+                frozenFrame = graphics.getDeviceConfiguration().createCompatibleImage(width, height);
+            }
+            Graphics2D g = frozenFrame.createGraphics();
+            try {
+                g.setColor(Color.BLACK);
+                g.fillRect(0, 0, width, height);
+                for (int i = 0; i < count; i++) {
+                    Scene scene = layer(i);
+                    if (scene != null) {
+                        scene.render(g);
+                    }
+                }
+            } finally {
+                g.dispose();
+            }
+            frozenLayers = count;
+        }
+        graphics.drawImage(frozenFrame, 0, 0, null);
+    }
+
+    private SceneEntry requireEntry(String id) {
+        SceneEntry entry = sceneEntries.get(id);
+        if (entry == null) {
+            throw new IllegalArgumentException("No scene registered for id: " + id);
+        }
+        return entry;
+    }
+
+    private synchronized void recordHitch(Hitch hitch) {
+        if (hitches.size() == HITCH_HISTORY) {
+            hitches.removeFirst();
+        }
+        hitches.addLast(hitch);
+    }
+
+    /**
+     * Time one scene swap held up the game loop: exiting the old scene, obtaining the new one and
+     * entering it.
+     */
+    public static final class Hitch {
+        private final String sceneId;
+        private final long nanos;
+        private final boolean prepared;
+
+        Hitch(String sceneId, long nanos, boolean prepared) {
+            this.sceneId = sceneId;
+            this.nanos = nanos;
+            this.prepared = prepared;
+        }
+
+        public String sceneId() {
+            return sceneId;
+        }
+
+        public long nanos() {
+            return nanos;
+        }
+
+        /**
+         * Whether the scene was already prepared when the swap started.
+         */
+        public boolean prepared() {
+            return prepared;
+        }
+    }
 }
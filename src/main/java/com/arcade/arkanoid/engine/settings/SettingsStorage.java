@@ -1,35 +1,37 @@
 package com.arcade.arkanoid.engine.settings;
 
+import com.arcade.arkanoid.engine.util.AtomicFileWriter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 
 class SettingsStorage {
+    private static final int BACKUP_GENERATIONS = 2;
+
     private final ObjectMapper mapper;
     private final Path filePath;
+    private final AtomicFileWriter writer;
 
     SettingsStorage(Path filePath) {
         this.filePath = filePath;
+        this.writer = new AtomicFileWriter(filePath, BACKUP_GENERATIONS);
         this.mapper = new ObjectMapper()
                 .findAndRegisterModules()
                 .enable(SerializationFeature.INDENT_OUTPUT);
     }
 
     GameSettings loadOrDefault() {
-        if (Files.exists(filePath)) {
-            try (InputStream stream = Files.newInputStream(filePath, StandardOpenOption.READ)) {
-                GameSettings settings = mapper.readValue(stream, GameSettings.class);
-                settings.ensureDefaults();
-                return settings;
-            } catch (IOException e) {
-                System.err.println("Failed to read settings, using defaults: " + e.getMessage());
-            }
+        GameSettings settings = writer.readNewest(this::read);
+        if (settings != null) {
+            return settings;
+        }
+        if (writer.anyGenerationExists()) {
+            System.err.println("Failed to read settings, using defaults");
         }
         return new GameSettings();
     }
@@ -40,12 +42,7 @@ class SettingsStorage {
         }
         settings.ensureDefaults();
         try {
-            Files.createDirectories(filePath.getParent());
-        } catch (IOException e) {
-            System.err.println("Failed to create settings directory: " + e.getMessage());
-        }
-        try (OutputStream stream = Files.newOutputStream(filePath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
-            mapper.writeValue(stream, settings);
+            writer.write(stream -> mapper.writeValue(stream, settings));
         } catch (IOException e) {
             System.err.println("Failed to persist settings: " + e.getMessage());
         }
@@ -54,4 +51,12 @@ class SettingsStorage {
     Path getFilePath() {
         return filePath;
     }
+
+    private GameSettings read(Path path) throws IOException {
+        try (InputStream stream = Files.newInputStream(path, StandardOpenOption.READ)) {
+            GameSettings settings = mapper.readValue(stream, GameSettings.class);
+            settings.ensureDefaults();
+            return settings;
+        }
+    }
 }
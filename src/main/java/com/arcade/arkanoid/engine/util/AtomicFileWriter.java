@@ -0,0 +1,197 @@
+package com.arcade.arkanoid.engine.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Crash-safe file writer: content is serialised into a reused in-memory buffer, written to a
+ * temp file in the target directory, forced to disk and then atomically moved over the target, so
+ * the target always holds either the old or the new content. The previous versions are kept as
+ * rolling backups ({@code name.1} is the newest) so readers can fall back to the newest readable
+ * generation if the primary file is damaged.
+ */
+public class AtomicFileWriter {
+    private final Path target;
+    private final Path tempFile;
+    private final int generations;
+    private final ReusableBuffer buffer = new ReusableBuffer(4096);
+
+    /**
+     * Serialises content into the supplied stream.
+     */
+    @FunctionalInterface
+    public interface Content {
+        void writeTo(OutputStream stream) throws IOException;
+    }
+
+    /**
+     * Parses one candidate file; throwing marks the generation unreadable.
+     */
+    @FunctionalInterface
+    public interface Reader<T> {
+        T read(Path path) throws IOException;
+    }
+
+    /**
+     * @param target      file to replace atomically
+     * @param generations number of rolling backups to keep next to the target (0 disables backups)
+     */
+    public AtomicFileWriter(Path target, int generations) {
+        if (generations < 0) {
+            throw new IllegalArgumentException("generations must be >= 0");
+        }
+        this.target = target.toAbsolutePath();
+        this.tempFile = this.target.resolveSibling(this.target.getFileName() + ".tmp");
+        this.generations = generations;
+    }
+
+    /**
+     * Atomically replaces the target with the serialised content.
+     */
+    public synchronized void write(Content content) throws IOException {
+        buffer.reset();
+        content.writeTo(buffer);
+
+        Files.createDirectories(target.getParent());
+        try (FileChannel channel = FileChannel.open(tempFile,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer data = buffer.asByteBuffer();
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            channel.force(true);
+        }
+
+        rotateBackups();
+        moveIntoPlace(tempFile, target);
+        forceDirectory(target.getParent());
+    }
+
+    /**
+     * Returns the first generation that the reader parses successfully, newest first, or
+     * {@code null} when no generation exists or none is readable.
+     */
+    public <T> T readNewest(Reader<T> reader) {
+        for (Path candidate : generationsNewestFirst()) {
+            if (!Files.exists(candidate)) {
+                continue;
+            }
+            try {
+                T value = reader.read(candidate);
+                if (value != null) {
+                    if (!candidate.equals(target)) {
+                        System.err.println("Recovered " + target.getFileName() + " from backup " + candidate.getFileName());
+                    }
+                    return value;
+                }
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Skipping unreadable " + candidate.getFileName() + ": " + e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if the target or any backup generation exists on disk.
+     */
+    public boolean anyGenerationExists() {
+        for (Path candidate : generationsNewestFirst()) {
+            if (Files.exists(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Deletes the target and every backup generation, e.g. once their content has been migrated
+     * elsewhere and must no longer be found by {@link #readNewest}.
+     */
+    public synchronized void deleteAllGenerations() throws IOException {
+        for (Path candidate : generationsNewestFirst()) {
+            Files.deleteIfExists(candidate);
+        }
+        Files.deleteIfExists(tempFile);
+    }
+
+    public Path getTarget() {
+        return target;
+    }
+
+    public int getGenerations() {
+        return generations;
+    }
+
+    List<Path> generationsNewestFirst() {
+        List<Path> paths = new ArrayList<>(generations + 1);
+        paths.add(target);
+        for (int i = 1; i <= generations; i++) {
+            paths.add(backupPath(i));
+        }
+        return paths;
+    }
+
+    /**
+     * Shifts the backups one generation older and copies the current target into {@code name.1}.
+     * The target is copied rather than moved so it stays in place until the new content replaces it.
+     */
+    private void rotateBackups() throws IOException {
+        if (generations == 0 || !Files.exists(target)) {
+            return;
+        }
+        for (int i = generations - 1; i >= 1; i--) {
+            Path from = backupPath(i);
+            if (Files.exists(from)) {
+                moveIntoPlace(from, backupPath(i + 1));
+            }
+        }
+        Files.copy(target, backupPath(1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path backupPath(int generation) {
+        return target.resolveSibling(target.getFileName() + "." + generation);
+    }
+
+    private static void moveIntoPlace(Path from, Path to) throws IOException {
+        try {
+            Files.move(from, to, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Makes the renames in {@code directory} durable. Not every platform can open a directory for
+     * syncing (Windows cannot), in which case the renames are left to the file system.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException ignored) {
+            // Directory sync is best effort
+        }
+    }
+
+    /**
+     * Byte buffer whose backing array survives {@link #reset()} so steady-state saves do not allocate.
+     */
+    private static final class ReusableBuffer extends ByteArrayOutputStream {
+        ReusableBuffer(int initialCapacity) {
+            super(initialCapacity);
+        }
+
+        ByteBuffer asByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.arcade.arkanoid.engine.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out threads and executors for blocking work according to the configured
+ * {@link ThreadingMode}. Virtual threads are looked up reflectively, so the game still builds and
+ * runs on Java 11; where they are available each blocking task gets a cheap virtual thread
+ * instead of a pooled platform thread, and thread count stays flat however many sounds or file
+ * operations are in flight.
+ *
+ * <p>The {@link IOThreadPool} lane workers always stay on platform threads: they are few and
+ * long-lived, their priorities order the lanes, and persistence does file I/O while holding
+ * monitors, which pins a virtual thread's carrier on JDK 21-23.
+ *
+ * <p>Configure once at startup ({@code Game} does it from its config) before services create
+ * their pools; pools created earlier keep the mode they were created with.
+ */
+public final class ExecutorProvider {
+    private static final VirtualThreads VIRTUAL = VirtualThreads.lookup();
+    private static volatile ThreadingMode mode = ThreadingMode.fromSystemProperty();
+
+    private ExecutorProvider() {
+    }
+
+    public static void configure(ThreadingMode requested) {
+        mode = requested == null ? ThreadingMode.AUTO : requested;
+        if (mode == ThreadingMode.VIRTUAL && VIRTUAL == null) {
+            System.err.println("Virtual threads are not available on Java "
+                    + System.getProperty("java.specification.version") + ", using platform threads");
+        }
+    }
+
+    public static ThreadingMode mode() {
+        return mode;
+    }
+
+    public static boolean virtualThreadsSupported() {
+        return VIRTUAL != null;
+    }
+
+    /**
+     * True if new threads from this provider are virtual.
+     */
+    public static boolean usesVirtualThreads() {
+        return VIRTUAL != null && mode != ThreadingMode.PLATFORM;
+    }
+
+    /**
+     * Executor for blocking tasks: one virtual thread per task, or a fixed pool of
+     * {@code platformThreads} daemon threads.
+     */
+    public static ExecutorService newBlockingExecutor(String name, int platformThreads) {
+        if (usesVirtualThreads()) {
+            return VIRTUAL.perTaskExecutor(name);
+        }
+        return Executors.newFixedThreadPool(platformThreads, platformFactory(name, Thread.NORM_PRIORITY));
+    }
+
+    /**
+     * Factory for threads dedicated to one blocking job, e.g. a music player. Virtual threads
+     * ignore {@code priority}.
+     */
+    public static ThreadFactory threadFactory(String name, int priority) {
+        if (usesVirtualThreads()) {
+            return VIRTUAL.factory(name);
+        }
+        return platformFactory(name, priority);
+    }
+
+    /**
+     * Starts {@code task} on its own thread, virtual if enabled.
+     */
+    public static Thread start(String name, Runnable task) {
+        Thread thread = threadFactory(name, Thread.NORM_PRIORITY).newThread(task);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Daemon platform threads with the given priority, whatever the configured mode.
+     */
+    static ThreadFactory platformFactory(String name, int priority) {
+        AtomicInteger count = new AtomicInteger();
+        return r -> {
+            int index = count.getAndIncrement();
+            Thread t = new Thread(r, index == 0 ? name : name + "-" + index);
+            t.setDaemon(true);
+            t.setPriority(priority);
+            return t;
+        };
+    }
+
+    /**
+     * Reflective handle on {@code Thread.ofVirtual()} (Java 21+).
+     */
+    private static final class VirtualThreads {
+        private final Method ofVirtual;
+        private final Method name;
+        private final Method factory;
+        private final Method perTaskExecutor;
+
+        private VirtualThreads(Method ofVirtual, Method name, Method factory, Method perTaskExecutor) {
+            this.ofVirtual = ofVirtual;
+            this.name = name;
+            this.factory = factory;
+            this.perTaskExecutor = perTaskExecutor;
+        }
+
+        static VirtualThreads lookup() {
+            try {
+                Method ofVirtual = Thread.class.getMethod("ofVirtual");
+                Class<?> builder = Class.forName("java.lang.Thread$Builder");
+                return new VirtualThreads(ofVirtual,
+                        builder.getMethod("name", String.class),
+                        builder.getMethod("factory"),
+                        Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class));
+            } catch (ReflectiveOperationException e) {
+                return null;
+            }
+        }
+
+        ThreadFactory factory(String threadName) {
+            try {
+                Object builder = name.invoke(ofVirtual.invoke(null), threadName);
+                return (ThreadFactory) factory.invoke(builder);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to create virtual thread factory", e);
+            }
+        }
+
+        ExecutorService perTaskExecutor(String threadName) {
+            try {
+                return (ExecutorService) perTaskExecutor.invoke(null, factory(threadName));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to create virtual thread executor", e);
+            }
+        }
+    }
+}
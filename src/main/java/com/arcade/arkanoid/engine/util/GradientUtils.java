@@ -4,11 +4,19 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
 import java.awt.LinearGradientPaint;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.Shape;
+import java.awt.Transparency;
+import java.awt.font.FontRenderContext;
 import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Utility class for creating gradient effects and 3D text rendering.
@@ -40,6 +48,19 @@ public class GradientUtils {
     public static final Color MAGENTA = new Color(0x9900CC);
     public static final Color GLOW_COLOR = new Color(0, 200, 255);
 
+    // Gradient fill span relative to the text baseline
+    private static final int GRADIENT_TOP = -80;
+    private static final int GRADIENT_BOTTOM = 40;
+    private static final int TEXT_SPRITE_CAPACITY = 32;
+
+    // 3D text sprites, least recently used evicted first
+    private static final Map<SpriteKey, TextSprite> TEXT_SPRITES = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<SpriteKey, TextSprite> eldest) {
+            return size() > TEXT_SPRITE_CAPACITY;
+        }
+    };
+
     private GradientUtils() {
         // Utility class, no instantiation
     }
@@ -122,6 +143,8 @@ public class GradientUtils {
     /**
      * Draws 3D space text with shadow, glow, and gradient effects.
      * Creates futuristic sci-fi styled text with depth and neon effects.
+     * Each (text, font, quality) combination is rendered once into a cached
+     * translucent sprite, so repeated calls cost a single image blit.
      * 
      * @param g            graphics context
      * @param text         text to render
@@ -133,6 +156,80 @@ public class GradientUtils {
      */
     public static void draw3DSpaceText(Graphics2D g, String text, Font font, int x, int y,
             int shadowLayers, int glowLayers) {
+        TextSprite sprite = spriteFor(text, font, shadowLayers, glowLayers);
+        if (sprite.image != null) {
+            g.drawImage(sprite.image, x + sprite.offsetX, y + sprite.offsetY, null);
+        }
+    }
+
+    /**
+     * Renders the sprite for a 3D title ahead of time, e.g. while a scene loads,
+     * so the first frame that shows it does not pay for the vector passes.
+     */
+    public static void prepare3DSpaceText(String text, Font font, int shadowLayers, int glowLayers) {
+        spriteFor(text, font, shadowLayers, glowLayers);
+    }
+
+    /**
+     * Number of 3D text sprites currently cached.
+     */
+    public static int cached3DTextSprites() {
+        synchronized (TEXT_SPRITES) {
+            return TEXT_SPRITES.size();
+        }
+    }
+
+    public static void clear3DTextCache() {
+        synchronized (TEXT_SPRITES) {
+            TEXT_SPRITES.clear();
+        }
+    }
+
+    private static TextSprite spriteFor(String text, Font font, int shadowLayers, int glowLayers) {
+        SpriteKey key = new SpriteKey(text, font, shadowLayers, glowLayers);
+        synchronized (TEXT_SPRITES) {
+            TextSprite sprite = TEXT_SPRITES.get(key);
+            if (sprite == null) {
+                sprite = render3DSpaceTextSprite(text, font, shadowLayers, glowLayers);
+                TEXT_SPRITES.put(key, sprite);
+            }
+            return sprite;
+        }
+    }
+
+    /**
+     * Cache fill: runs the vector passes once into an image whose origin sits
+     * at {@code (-offsetX, -offsetY)} relative to the text baseline.
+     */
+    private static TextSprite render3DSpaceTextSprite(String text, Font font, int shadowLayers, int glowLayers) {
+        if (text == null || text.isEmpty()) {
+            return new TextSprite(null, 0, 0);
+        }
+        FontRenderContext frc = new FontRenderContext(null, true, false);
+        Rectangle bounds = new TextLayout(text, font, frc).getOutline(null).getBounds();
+        float glowStrokeWidth = glowLayers <= 4 ? 3f : 2f;
+        int glowMargin = (int) Math.ceil(Math.max(1, glowLayers) * glowStrokeWidth / 2f) + 2;
+        int minX = bounds.x - glowMargin;
+        int minY = bounds.y - glowMargin;
+        int maxX = bounds.x + bounds.width + Math.max(glowMargin, shadowLayers * 2 + 1);
+        int maxY = bounds.y + bounds.height + Math.max(glowMargin, shadowLayers + 1);
+
+        BufferedImage image = createTranslucentImage(maxX - minX, maxY - minY);
+        Graphics2D g = image.createGraphics();
+        try {
+            render3DSpaceText(g, text, font, -minX, -minY, shadowLayers, glowLayers);
+        } finally {
+            g.dispose();
+        }
+        return new TextSprite(image, minX, minY);
+    }
+
+    /**
+     * Vector implementation of {@link #draw3DSpaceText}; only used to fill the
+     * sprite cache.
+     */
+    private static void render3DSpaceText(Graphics2D g, String text, Font font, int x, int y,
+            int shadowLayers, int glowLayers) {
         g.setFont(font);
         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
@@ -141,10 +238,10 @@ public class GradientUtils {
 
         // Draw shadow layers
         int shadowAlpha = shadowLayers <= 3 ? 50 : 30;
+        g.setColor(new Color(0, 0, 0, shadowAlpha));
         for (int depth = shadowLayers; depth > 0; depth--) {
             Shape shadowOutline = textLayout
                     .getOutline(AffineTransform.getTranslateInstance(x + depth * 2, y + depth));
-            g.setColor(new Color(0, 0, 0, shadowAlpha));
             g.fill(shadowOutline);
         }
 
@@ -152,15 +249,15 @@ public class GradientUtils {
         Shape mainOutline = textLayout.getOutline(AffineTransform.getTranslateInstance(x, y));
         int glowAlpha = glowLayers <= 4 ? 15 : 8;
         float glowStrokeWidth = glowLayers <= 4 ? 3f : 2f;
+        g.setColor(new Color(0, 150, 255, glowAlpha));
         for (int glow = glowLayers; glow > 0; glow--) {
-            g.setColor(new Color(0, 150, 255, glowAlpha));
             g.setStroke(new BasicStroke(glow * glowStrokeWidth, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
             g.draw(mainOutline);
         }
 
         // Fill with gradient
         LinearGradientPaint gradient = new LinearGradientPaint(
-                x, y - 80, x, y + 40,
+                x, y + GRADIENT_TOP, x, y + GRADIENT_BOTTOM,
                 FULL_GRADIENT_FRACTIONS,
                 FULL_GRADIENT_COLORS);
         g.setPaint(gradient);
@@ -172,6 +269,14 @@ public class GradientUtils {
         g.draw(mainOutline);
     }
 
+    private static BufferedImage createTranslucentImage(int width, int height) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                    .getDefaultConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    }
+
     /**
      * Draws 3D space text with default settings (3 shadow layers, 4 glow layers).
      * Optimized version for performance-critical rendering.
@@ -199,4 +304,54 @@ public class GradientUtils {
     public static void draw3DSpaceTextFullQuality(Graphics2D g, String text, Font font, int x, int y) {
         draw3DSpaceText(g, text, font, x, y, 8, 12);
     }
+
+    /**
+     * Fills the sprite cache for {@link #draw3DSpaceTextFullQuality}.
+     */
+    public static void prepare3DSpaceTextFullQuality(String text, Font font) {
+        prepare3DSpaceText(text, font, 8, 12);
+    }
+
+    private static final class TextSprite {
+        private final BufferedImage image;
+        private final int offsetX;
+        private final int offsetY;
+
+        TextSprite(BufferedImage image, int offsetX, int offsetY) {
+            this.image = image;
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+        }
+    }
+
+    private static final class SpriteKey {
+        private final String text;
+        private final Font font;
+        private final int shadowLayers;
+        private final int glowLayers;
+
+        SpriteKey(String text, Font font, int shadowLayers, int glowLayers) {
+            this.text = text;
+            this.font = font;
+            this.shadowLayers = shadowLayers;
+            this.glowLayers = glowLayers;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof SpriteKey)) {
+                return false;
+            }
+            SpriteKey key = (SpriteKey) other;
+            return shadowLayers == key.shadowLayers
+                    && glowLayers == key.glowLayers
+                    && Objects.equals(text, key.text)
+                    && font.equals(key.font);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(text, font, shadowLayers, glowLayers);
+        }
+    }
 }
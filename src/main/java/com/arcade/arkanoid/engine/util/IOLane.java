@@ -0,0 +1,45 @@
+package com.arcade.arkanoid.engine.util;
+
+/**
+ * Work classes on the {@link IOThreadPool}. Each lane has its own worker threads and bounded
+ * queue, so a slow decode never delays a save and vice versa.
+ */
+public enum IOLane {
+    /**
+     * Profile saves, journal appends and profile loads. One thread keeps writes in order; a full
+     * queue blocks the caller rather than drop or reorder a write. Drained on shutdown.
+     */
+    PERSISTENCE(1, 1024, Thread.NORM_PRIORITY + 1),
+    /**
+     * Decodes and loads something is waiting for (images, scenes, message catalogues). A full
+     * queue runs the task on the caller.
+     */
+    ASSET(2, 64, Thread.NORM_PRIORITY),
+    /**
+     * Speculative loads that may never be used. A full queue rejects the task, queued tasks can be
+     * cancelled wholesale, and nothing here survives shutdown.
+     */
+    PREFETCH(1, 16, Thread.MIN_PRIORITY);
+
+    private final int threads;
+    private final int capacity;
+    private final int priority;
+
+    IOLane(int threads, int capacity, int priority) {
+        this.threads = threads;
+        this.capacity = capacity;
+        this.priority = priority;
+    }
+
+    public int threads() {
+        return threads;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int priority() {
+        return priority;
+    }
+}
@@ -1,21 +1,43 @@
 package com.arcade.arkanoid.engine.util;
 
-import java.util.concurrent.ExecutorService;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * I/O Thread Pool for async file operations.
- * Architecture: Separate thread for Save/Load game and Load resources.
+ * Architecture: one set of threads per {@link IOLane} (persistence, asset decode, prefetch), each
+ * with a bounded queue and its own backpressure policy, so saves, loads and speculative work do
+ * not queue behind each other. Calls without a lane go to {@link IOLane#PERSISTENCE}, which keeps
+ * the old single-thread ordering for profile writes.
  */
 public class IOThreadPool {
+    private static final long SHUTDOWN_DRAIN_MILLIS = 5_000;
+
     private static IOThreadPool instance;
-    private final ExecutorService ioThread;
+    private final Map<IOLane, Lane> lanes = new EnumMap<>(IOLane.class);
+    private final ScheduledExecutorService timer;
 
-    private IOThreadPool() {
-        // Single I/O Thread for file operations
-        this.ioThread = Executors.newSingleThreadExecutor(r -> {
-            Thread t = new Thread(r, "io-thread");
+    IOThreadPool() {
+        for (IOLane lane : IOLane.values()) {
+            lanes.put(lane, new Lane(lane));
+        }
+        // Only fires delayed tasks into their lane; never runs I/O itself
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "io-timer");
             t.setDaemon(true);
             return t;
         });
@@ -32,23 +54,351 @@ public class IOThreadPool {
     }
 
     /**
-     * Submit async I/O task.
+     * Submit async I/O task on the persistence lane.
      */
     public Future<?> submit(Runnable task) {
-        return ioThread.submit(task);
+        return submit(IOLane.PERSISTENCE, task);
     }
 
     /**
-     * Submit async I/O task with callback.
+     * Submit async I/O task with callback on the persistence lane.
      */
-    public <T> Future<T> submit(java.util.concurrent.Callable<T> task) {
-        return ioThread.submit(task);
+    public <T> Future<T> submit(Callable<T> task) {
+        return submit(IOLane.PERSISTENCE, task);
+    }
+
+    public Future<?> submit(IOLane lane, Runnable task) {
+        return submit(lane, Executors.callable(task));
     }
 
     /**
-     * Shutdown I/O thread.
+     * Queues {@code task} on {@code lane}. When the lane is full, persistence blocks until there
+     * is room, asset work runs on the calling thread and prefetch returns an already cancelled
+     * future.
+     */
+    public <T> Future<T> submit(IOLane lane, Callable<T> task) {
+        return lanes.get(lane).submit(task);
+    }
+
+    /**
+     * Run an I/O task on the persistence lane after the given delay.
+     */
+    public ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        return schedule(IOLane.PERSISTENCE, task, delay, unit);
+    }
+
+    public ScheduledFuture<?> schedule(IOLane lane, Runnable task, long delay, TimeUnit unit) {
+        return timer.schedule(() -> {
+            submit(lane, task);
+        }, delay, unit);
+    }
+
+    /**
+     * Cancels every prefetch that has not started yet, e.g. after the player went elsewhere.
+     * Returns how many were dropped.
+     */
+    public int cancelPrefetches() {
+        return lanes.get(IOLane.PREFETCH).cancelQueued();
+    }
+
+    public LaneStats stats(IOLane lane) {
+        return lanes.get(lane).stats();
+    }
+
+    /**
+     * Shutdown I/O threads: queued prefetch and asset work is dropped, persistence is drained so
+     * no save is lost (waiting at most a few seconds).
      */
     public void shutdown() {
-        ioThread.shutdown();
+        timer.shutdown();
+        lanes.get(IOLane.PREFETCH).close(true);
+        lanes.get(IOLane.ASSET).close(true);
+        Lane persistence = lanes.get(IOLane.PERSISTENCE);
+        persistence.close(false);
+        try {
+            if (!persistence.awaitIdle(SHUTDOWN_DRAIN_MILLIS)) {
+                System.err.println("Failed to drain persistence lane: "
+                        + persistence.stats().queueDepth() + " tasks left");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Point-in-time counters for one lane.
+     */
+    public static final class LaneStats {
+        private final IOLane lane;
+        private final int queueDepth;
+        private final int maxQueueDepth;
+        private final long completed;
+        private final long rejected;
+        private final long cancelled;
+        private final long meanWaitNanos;
+        private final long maxWaitNanos;
+
+        LaneStats(IOLane lane, int queueDepth, int maxQueueDepth, long completed, long rejected,
+                  long cancelled, long meanWaitNanos, long maxWaitNanos) {
+            this.lane = lane;
+            this.queueDepth = queueDepth;
+            this.maxQueueDepth = maxQueueDepth;
+            this.completed = completed;
+            this.rejected = rejected;
+            this.cancelled = cancelled;
+            this.meanWaitNanos = meanWaitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+        }
+
+        public IOLane lane() {
+            return lane;
+        }
+
+        public int queueDepth() {
+            return queueDepth;
+        }
+
+        public int maxQueueDepth() {
+            return maxQueueDepth;
+        }
+
+        public long completed() {
+            return completed;
+        }
+
+        /**
+         * Tasks turned away without running. Any lane rejects every task submitted after the
+         * pool is closed or shut down; while open, only the prefetch lane rejects, when its
+         * queue is full, because persistence blocks the caller and asset runs on it instead.
+         */
+        public long rejected() {
+            return rejected;
+        }
+
+        public long cancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Mean time tasks spent queued before a worker picked them up.
+         */
+        public long meanWaitNanos() {
+            return meanWaitNanos;
+        }
+
+        public long maxWaitNanos() {
+            return maxWaitNanos;
+        }
+
+        @Override
+        public String toString() {
+            return lane + "[depth=" + queueDepth + " max=" + maxQueueDepth + " done=" + completed
+                    + " rejected=" + rejected + " cancelled=" + cancelled
+                    + " waitMeanUs=" + meanWaitNanos / 1_000 + " waitMaxUs=" + maxWaitNanos / 1_000 + "]";
+        }
+    }
+
+    private static final class Lane {
+        private final IOLane lane;
+        private final BlockingQueue<LaneTask<?>> queue;
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong cancelled = new AtomicLong();
+        private final AtomicLong started = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private final Object idleLock = new Object();
+        private volatile boolean closed;
+        private volatile int maxDepth;
+        // Accepted tasks that have not finished yet, queued or running
+        private int inFlight;
+
+        Lane(IOLane lane) {
+            this.lane = lane;
+            this.queue = new ArrayBlockingQueue<>(lane.capacity());
+            // Platform workers in every threading mode: lane priorities only apply to them, and
+            // persistence blocks on file I/O inside monitors, which would pin a virtual carrier
+            ThreadFactory threads = ExecutorProvider.platformFactory(
+                    "io-" + lane.name().toLowerCase(Locale.ROOT), lane.priority());
+            for (int i = 0; i < lane.threads(); i++) {
+                threads.newThread(this::work).start();
+            }
+        }
+
+        <T> Future<T> submit(Callable<T> callable) {
+            LaneTask<T> task = new LaneTask<>(callable, this);
+            if (closed) {
+                return reject(task);
+            }
+            accept(task);
+            if (queue.offer(task)) {
+                noteDepth();
+                return task;
+            }
+            switch (lane) {
+                case PERSISTENCE:
+                    try {
+                        queue.put(task);
+                        noteDepth();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        task.cancel(false);
+                    }
+                    return task;
+                case ASSET:
+                    task.run();
+                    return task;
+                default:
+                    withdraw(task);
+                    return reject(task);
+            }
+        }
+
+        int cancelQueued() {
+            List<LaneTask<?>> drained = new ArrayList<>();
+            queue.drainTo(drained);
+            for (LaneTask<?> task : drained) {
+                task.cancel(false);
+            }
+            return drained.size();
+        }
+
+        void close(boolean dropQueued) {
+            closed = true;
+            if (dropQueued) {
+                cancelQueued();
+            }
+            synchronized (idleLock) {
+                idleLock.notifyAll();
+            }
+        }
+
+        boolean awaitIdle(long timeoutMillis) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + timeoutMillis;
+            synchronized (idleLock) {
+                while (inFlight > 0) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    idleLock.wait(remaining);
+                }
+            }
+            return true;
+        }
+
+        LaneStats stats() {
+            long startedCount = started.get();
+            long mean = startedCount == 0 ? 0 : totalWaitNanos.get() / startedCount;
+            return new LaneStats(lane, queue.size(), maxDepth, completed.get(), rejected.get(),
+                    cancelled.get(), mean, maxWaitNanos.get());
+        }
+
+        private <T> Future<T> reject(LaneTask<T> task) {
+            rejected.incrementAndGet();
+            task.cancel(false);
+            return task;
+        }
+
+        private void accept(LaneTask<?> task) {
+            task.accepted = true;
+            synchronized (idleLock) {
+                inFlight++;
+            }
+        }
+
+        /**
+         * Undoes {@link #accept} for a task turned away after all, so it is counted as rejected
+         * rather than also as cancelled.
+         */
+        private void withdraw(LaneTask<?> task) {
+            task.accepted = false;
+            synchronized (idleLock) {
+                inFlight--;
+                idleLock.notifyAll();
+            }
+        }
+
+        private void finished(LaneTask<?> task) {
+            if (task.isCancelled()) {
+                if (task.accepted) {
+                    cancelled.incrementAndGet();
+                }
+            } else {
+                completed.incrementAndGet();
+            }
+            if (task.accepted) {
+                synchronized (idleLock) {
+                    inFlight--;
+                    idleLock.notifyAll();
+                }
+            }
+        }
+
+        private void noteDepth() {
+            int depth = queue.size();
+            if (depth > maxDepth) {
+                maxDepth = depth;
+            }
+        }
+
+        private void work() {
+            while (true) {
+                LaneTask<?> task;
+                try {
+                    task = queue.poll(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (task == null) {
+                    if (closed) {
+                        return;
+                    }
+                    continue;
+                }
+                task.run();
+            }
+        }
+
+        void recordStart(long enqueuedAt) {
+            long wait = System.nanoTime() - enqueuedAt;
+            started.incrementAndGet();
+            totalWaitNanos.addAndGet(wait);
+            maxWaitNanos.accumulateAndGet(wait, Math::max);
+        }
+    }
+
+    private static final class LaneTask<T> extends FutureTask<T> {
+        private final Lane lane;
+        private final long enqueuedAt = System.nanoTime();
+        private volatile boolean accepted;
+
+        LaneTask(Callable<T> callable, Lane lane) {
+            super(callable);
+            this.lane = lane;
+        }
+
+        @Override
+        public void run() {
+            if (isDone()) {
+                return;
+            }
+            lane.recordStart(enqueuedAt);
+            super.run();
+        }
+
+        @Override
+        protected void done() {
+            lane.finished(this);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                lane.queue.remove(this);
+            }
+            return cancelled;
+        }
     }
 }
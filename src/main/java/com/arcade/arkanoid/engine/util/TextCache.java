@@ -0,0 +1,290 @@
+package com.arcade.arkanoid.engine.util;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.font.FontRenderContext;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cache of pre-rendered text sprites for HUD and menu strings. Each (text, font, color,
+ * antialiasing) combination is laid out and rasterised once into a translucent image, so later
+ * frames pay a single blit instead of font metrics, glyph layout and rasterisation. Numbers that
+ * change every frame (score, coins) are drawn from cached per-digit sprites rather than caching
+ * every value.
+ *
+ * <p>Entries are evicted least-recently-used once the cache exceeds its capacity. Hit, miss and
+ * eviction counters are kept for tuning. Intended for the render thread; lookups reuse a probe
+ * key and do not allocate on a hit.
+ */
+public final class TextCache {
+    public static final int DEFAULT_CAPACITY = 256;
+    private static final String[] DIGITS = { "0", "1", "2", "3", "4", "5", "6", "7", "8", "9" };
+    private static final String MINUS = "-";
+
+    private static TextCache instance;
+
+    private final LinkedHashMap<Key, Sprite> sprites;
+    private final Key probe = new Key();
+    private final int[] digitBuffer = new int[20];
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public TextCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be >= 1");
+        }
+        this.sprites = new LinkedHashMap<>(capacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Sprite> eldest) {
+                if (size() > capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Shared cache used by scenes and panel renderers.
+     */
+    public static synchronized TextCache getInstance() {
+        if (instance == null) {
+            instance = new TextCache(DEFAULT_CAPACITY);
+        }
+        return instance;
+    }
+
+    /**
+     * Draws {@code text} with its baseline at {@code y}, like {@link Graphics2D#drawString}.
+     */
+    public synchronized void drawString(Graphics2D g, String text, Font font, Color color, int x, int y) {
+        blit(g, sprite(g, text, font, color), x, y);
+    }
+
+    public synchronized void drawCentered(Graphics2D g, String text, Font font, Color color, int centerX, int y) {
+        Sprite sprite = sprite(g, text, font, color);
+        blit(g, sprite, centerX - sprite.advance / 2, y);
+    }
+
+    /**
+     * Advance width of {@code text}, matching {@code getFontMetrics(font).stringWidth(text)}.
+     */
+    public synchronized int stringWidth(Graphics2D g, String text, Font font, Color color) {
+        return sprite(g, text, font, color).advance;
+    }
+
+    /**
+     * Draws a decimal number from cached digit sprites without formatting it to a string.
+     */
+    public synchronized void drawNumber(Graphics2D g, long value, Font font, Color color, int x, int y) {
+        int count = splitDigits(value);
+        int cursor = x;
+        if (value < 0) {
+            Sprite minus = sprite(g, MINUS, font, color);
+            blit(g, minus, cursor, y);
+            cursor += minus.advance;
+        }
+        for (int i = count - 1; i >= 0; i--) {
+            Sprite digit = sprite(g, DIGITS[digitBuffer[i]], font, color);
+            blit(g, digit, cursor, y);
+            cursor += digit.advance;
+        }
+    }
+
+    public synchronized int numberWidth(Graphics2D g, long value, Font font, Color color) {
+        int count = splitDigits(value);
+        int width = value < 0 ? sprite(g, MINUS, font, color).advance : 0;
+        for (int i = 0; i < count; i++) {
+            width += sprite(g, DIGITS[digitBuffer[i]], font, color).advance;
+        }
+        return width;
+    }
+
+    public synchronized void drawCenteredNumber(Graphics2D g, long value, Font font, Color color, int centerX, int y) {
+        drawNumber(g, value, font, color, centerX - numberWidth(g, value, font, color) / 2, y);
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    public synchronized int size() {
+        return sprites.size();
+    }
+
+    /**
+     * Fraction of lookups served from the cache, or 0 before the first lookup.
+     */
+    public synchronized double hitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public synchronized void clear() {
+        sprites.clear();
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    private Sprite sprite(Graphics2D g, String text, Font font, Color color) {
+        if (text == null) {
+            text = "";
+        }
+        probe.set(text, font, color.getRGB(),
+                g.getRenderingHint(RenderingHints.KEY_ANTIALIASING),
+                g.getRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING),
+                g.getRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS));
+        Sprite sprite = sprites.get(probe);
+        if (sprite != null) {
+            hits++;
+            return sprite;
+        }
+        misses++;
+        sprite = render(g, text, font, color);
+        sprites.put(probe.copy(), sprite);
+        return sprite;
+    }
+
+    private static Sprite render(Graphics2D target, String text, Font font, Color color) {
+        int advance = target.getFontMetrics(font).stringWidth(text);
+        if (text.isEmpty()) {
+            return new Sprite(null, 0, 0, advance);
+        }
+        FontRenderContext frc = target.getFontRenderContext();
+        Rectangle bounds = font.createGlyphVector(frc, text).getPixelBounds(frc, 0, 0);
+        // One pixel of slack on each side for antialiased edges.
+        bounds.grow(1, 1);
+        if (bounds.width <= 0 || bounds.height <= 0) {
+            return new Sprite(null, 0, 0, advance);
+        }
+        BufferedImage image = target.getDeviceConfiguration()
+                .createCompatibleImage(bounds.width, bounds.height, Transparency.TRANSLUCENT);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            copyHint(target, g, RenderingHints.KEY_ANTIALIASING);
+            copyHint(target, g, RenderingHints.KEY_TEXT_ANTIALIASING);
+            copyHint(target, g, RenderingHints.KEY_FRACTIONALMETRICS);
+            g.setFont(font);
+            g.setColor(color);
+            g.drawString(text, -bounds.x, -bounds.y);
+        } finally {
+            g.dispose();
+        }
+        return new Sprite(image, bounds.x, bounds.y, advance);
+    }
+
+    private static void copyHint(Graphics2D from, Graphics2D to, RenderingHints.Key key) {
+        Object value = from.getRenderingHint(key);
+        if (value != null) {
+            to.setRenderingHint(key, value);
+        }
+    }
+
+    private static void blit(Graphics2D g, Sprite sprite, int x, int y) {
+        if (sprite.image != null) {
+            g.drawImage(sprite.image, x + sprite.offsetX, y + sprite.offsetY, null);
+        }
+    }
+
+    /**
+     * Fills {@link #digitBuffer} least-significant digit first and returns the digit count.
+     */
+    private int splitDigits(long value) {
+        int count = 0;
+        long remaining = value;
+        do {
+            digitBuffer[count++] = (int) Math.abs(remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        return count;
+    }
+
+    private static final class Sprite {
+        private final BufferedImage image;
+        private final int offsetX;
+        private final int offsetY;
+        private final int advance;
+
+        Sprite(BufferedImage image, int offsetX, int offsetY, int advance) {
+            this.image = image;
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+            this.advance = advance;
+        }
+    }
+
+    private static final class Key {
+        private String text;
+        private Font font;
+        private int rgb;
+        private Object antialiasing;
+        private Object textAntialiasing;
+        private Object fractionalMetrics;
+        private int hash;
+
+        void set(String text, Font font, int rgb, Object antialiasing, Object textAntialiasing,
+                Object fractionalMetrics) {
+            this.text = text;
+            this.font = font;
+            this.rgb = rgb;
+            this.antialiasing = antialiasing;
+            this.textAntialiasing = textAntialiasing;
+            this.fractionalMetrics = fractionalMetrics;
+            int h = text.hashCode();
+            h = 31 * h + font.hashCode();
+            h = 31 * h + rgb;
+            h = 31 * h + Objects.hashCode(antialiasing);
+            h = 31 * h + Objects.hashCode(textAntialiasing);
+            h = 31 * h + Objects.hashCode(fractionalMetrics);
+            this.hash = h;
+        }
+
+        Key copy() {
+            Key copy = new Key();
+            copy.set(text, font, rgb, antialiasing, textAntialiasing, fractionalMetrics);
+            return copy;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return rgb == key.rgb
+                    && text.equals(key.text)
+                    && font.equals(key.font)
+                    && antialiasing == key.antialiasing
+                    && textAntialiasing == key.textAntialiasing
+                    && fractionalMetrics == key.fractionalMetrics;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
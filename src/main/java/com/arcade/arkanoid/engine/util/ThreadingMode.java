@@ -0,0 +1,42 @@
+package com.arcade.arkanoid.engine.util;
+
+import java.util.Locale;
+
+/**
+ * How per-task blocking work (audio effects, music playback) gets its threads; the I/O lanes
+ * always use platform threads. Chosen in
+ * {@link com.arcade.arkanoid.engine.core.GameConfig}; override with
+ * {@code -Darkanoid.threads=platform|virtual|auto}.
+ */
+public enum ThreadingMode {
+    /**
+     * Fixed pools of platform threads, as on Java 11.
+     */
+    PLATFORM,
+    /**
+     * Virtual threads; falls back to {@link #PLATFORM} on a JDK without them.
+     */
+    VIRTUAL,
+    /**
+     * Virtual threads where the JDK has them, platform threads otherwise.
+     */
+    AUTO;
+
+    public static final String SYSTEM_PROPERTY = "arkanoid.threads";
+
+    public static ThreadingMode fromSystemProperty() {
+        return parse(System.getProperty(SYSTEM_PROPERTY), AUTO);
+    }
+
+    static ThreadingMode parse(String value, ThreadingMode fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown threading mode '" + value.trim() + "', using " + fallback);
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.arcade.arkanoid.gameplay;
+
+import com.arcade.arkanoid.gameplay.levels.TagSet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-tick queue of gameplay events backed by a preallocated ring of mutable slots. The collision
+ * code only publishes; objectives, audio, power-ups and any later consumer subscribe once and see
+ * every event when the scene drains the bus at the end of its gameplay step. Publishing and
+ * draining never allocate once the ring has grown to the busiest tick's size.
+ *
+ * <p>Not thread-safe: publish and drain from the game-loop thread only.
+ */
+public final class GameplayEventBus {
+    public static final int BRICK_HIT = 1;
+    public static final int BRICK_DESTROYED = 2;
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final List<Subscriber> subscribers = new ArrayList<>();
+    private Slot[] ring;
+    private int head;
+    private int size;
+    private long tick;
+
+    public GameplayEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public GameplayEventBus(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be >= 1");
+        }
+        ring = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new Slot();
+        }
+    }
+
+    /**
+     * Receives each drained event. The slot is reused afterwards, so copy any field that must
+     * outlive the call.
+     */
+    public interface Subscriber {
+        void onEvent(Slot event);
+    }
+
+    public void subscribe(Subscriber subscriber) {
+        if (subscriber != null && !subscribers.contains(subscriber)) {
+            subscribers.add(subscriber);
+        }
+    }
+
+    public void unsubscribe(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Queues an event about the brick at {@code (column, row)}. {@code centerX}/{@code centerY} are
+     * the brick's centre in arena coordinates, for consumers that spawn things where it stood.
+     */
+    public void publish(int type, int column, int row, TagSet tags, int points, double centerX, double centerY) {
+        if (size == ring.length) {
+            grow();
+        }
+        Slot slot = ring[(head + size) % ring.length];
+        slot.type = type;
+        slot.column = column;
+        slot.row = row;
+        slot.tags = tags != null ? tags : TagSet.EMPTY;
+        slot.points = points;
+        slot.centerX = centerX;
+        slot.centerY = centerY;
+        slot.tick = tick;
+        size++;
+    }
+
+    /**
+     * Delivers every queued event to every subscriber in publish order, then advances the tick.
+     * Events published by a subscriber during the drain are delivered in the same pass.
+     */
+    public void drain() {
+        while (size > 0) {
+            Slot slot = ring[head];
+            for (int i = 0; i < subscribers.size(); i++) {
+                subscribers.get(i).onEvent(slot);
+            }
+            slot.tags = TagSet.EMPTY;
+            head = (head + 1) % ring.length;
+            size--;
+        }
+        tick++;
+    }
+
+    /**
+     * Drops queued events and restarts the tick counter, e.g. when a level is (re)loaded.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            ring[(head + i) % ring.length].tags = TagSet.EMPTY;
+        }
+        head = 0;
+        size = 0;
+        tick = 0;
+    }
+
+    public int pending() {
+        return size;
+    }
+
+    public int capacity() {
+        return ring.length;
+    }
+
+    public long currentTick() {
+        return tick;
+    }
+
+    private void grow() {
+        Slot[] larger = new Slot[ring.length * 2];
+        for (int i = 0; i < size; i++) {
+            larger[i] = ring[(head + i) % ring.length];
+        }
+        for (int i = size; i < larger.length; i++) {
+            larger[i] = new Slot();
+        }
+        ring = larger;
+        head = 0;
+    }
+
+    /**
+     * One reusable event record. Fields are only meaningful inside {@link Subscriber#onEvent}.
+     */
+    public static final class Slot {
+        private int type;
+        private int column;
+        private int row;
+        private TagSet tags = TagSet.EMPTY;
+        private int points;
+        private double centerX;
+        private double centerY;
+        private long tick;
+
+        private Slot() {
+        }
+
+        public int type() {
+            return type;
+        }
+
+        public int column() {
+            return column;
+        }
+
+        public int row() {
+            return row;
+        }
+
+        public TagSet tags() {
+            return tags;
+        }
+
+        public int points() {
+            return points;
+        }
+
+        public double centerX() {
+            return centerX;
+        }
+
+        public double centerY() {
+            return centerY;
+        }
+
+        public long tick() {
+            return tick;
+        }
+    }
+}
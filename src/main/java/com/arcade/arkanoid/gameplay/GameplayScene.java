@@ -3,10 +3,13 @@ package com.arcade.arkanoid.gameplay;
 import com.arcade.arkanoid.ArkanoidGame;
 import com.arcade.arkanoid.engine.assets.AssetManager;
 import com.arcade.arkanoid.engine.core.GameContext;
+import com.arcade.arkanoid.engine.input.InputCommand;
+import com.arcade.arkanoid.engine.input.InputLatencyTracker;
 import com.arcade.arkanoid.engine.input.InputManager;
 import com.arcade.arkanoid.engine.scene.Scene;
 import com.arcade.arkanoid.engine.audio.SoundManager;
 import com.arcade.arkanoid.engine.audio.StageMusicManager;
+import com.arcade.arkanoid.engine.util.TextCache;
 import com.arcade.arkanoid.gameplay.entities.Ball;
 import com.arcade.arkanoid.gameplay.entities.Brick;
 import com.arcade.arkanoid.gameplay.entities.Paddle;
@@ -14,8 +17,10 @@ import com.arcade.arkanoid.gameplay.entities.PowerUp;
 import com.arcade.arkanoid.gameplay.cosmetics.SkinCatalog;
 import com.arcade.arkanoid.gameplay.levels.LevelDefinition;
 import com.arcade.arkanoid.gameplay.levels.LevelManager;
+import com.arcade.arkanoid.gameplay.levels.TagRegistry;
 import com.arcade.arkanoid.gameplay.objectives.ObjectiveEngine;
 import com.arcade.arkanoid.gameplay.objectives.StandardObjectiveEngine;
+import com.arcade.arkanoid.gameplay.system.BrickCollisionSystem;
 import com.arcade.arkanoid.gameplay.system.GameplayPanelRenderer;
 import com.arcade.arkanoid.gameplay.system.GameplayVisualEffects;
 import com.arcade.arkanoid.gameplay.system.PowerUpController;
@@ -23,17 +28,18 @@ import com.arcade.arkanoid.gameplay.system.PaddleGunSystem;
 import com.arcade.arkanoid.localization.LocalizationService;
 import com.arcade.arkanoid.menu.PauseScene;
 import com.arcade.arkanoid.profile.PlayerProfile;
+import com.arcade.arkanoid.profile.ProfileEvent;
 
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.event.KeyEvent;
-import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Consumer;
 
 public class GameplayScene extends Scene {
     private static final double BASE_PADDLE_WIDTH = 120;
@@ -47,27 +53,38 @@ public class GameplayScene extends Scene {
     private static final int MAX_LIVES = 9;
     private static final int MAX_SIMULTANEOUS_BALLS = 5;
     private static final double FIRE_BALL_DURATION_SECONDS = 5.0;
+    // Same faces the overlays used to derive from the panel's title font each frame
+    private static final Font MESSAGE_FONT = new Font("BoldPixels", Font.PLAIN, 25);
+    private static final Font PROMPT_FONT = new Font("BoldPixels", Font.BOLD, 20);
+    private static final Color PROMPT_COLOR = new Color(255, 255, 255, 200);
 
     public static final int SIDE_PANEL_WIDTH = GameplayPanelRenderer.getPanelWidth();
 
     private final LevelManager levelManager = new LevelManager();
     private final GameplayPanelRenderer panelRenderer = GameplayPanelRenderer.getInstance();
     private final GameplayVisualEffects visualEffects = GameplayVisualEffects.getInstance();
-    private final Random random = new Random();
+    private final Random random;
 
     private final List<Brick> bricks = new ArrayList<>();
     private final List<Ball> balls = new ArrayList<>();
     private final List<Ball> pendingBalls = new ArrayList<>();
+    // Reused every tick so iterating while balls are lost or added does not allocate
+    private final List<Ball> ballSnapshot = new ArrayList<>();
     private final ObjectiveEngine objectiveEngine = new StandardObjectiveEngine();
     private final ObjectiveEngine.Listener objectiveListener = new SceneObjectiveListener();
     private final PowerUpController powerUpController;
     private final PaddleGunSystem paddleGunSystem = new PaddleGunSystem();
+    private final BrickCollisionSystem brickCollisions = new BrickCollisionSystem();
     private final SoundManager soundManager;
+    private final GameplayEventBus events = new GameplayEventBus();
+    private final Consumer<Brick> brickDestroyedHandler = this::onBrickDestroyed;
+    private final PowerUpController.Listener powerUpHandler = this::applyPowerUp;
 
     private Paddle paddle;
     private double currentBallSpeed;
     private int score = 0;
     private int lives = 3;
+    private int paddleDirection = 0;
     private boolean awaitingLaunch = true;
     private boolean paused = false;
     private boolean initialized = false;
@@ -76,21 +93,49 @@ public class GameplayScene extends Scene {
     private String statusMessage = "";
     private LevelDefinition activeLevel;
     private final LocalizationService localization;
+    private final int launchPromptMessage;
     private BufferedImage paddleImage = null;
     private BufferedImage backgroundImage = null;
 
     public GameplayScene(GameContext context) {
+        this(context, new Random());
+    }
+
+    /**
+     * @param random drives launch angles and power-up drops; pass a fixed seed for a reproducible
+     *               session
+     */
+    public GameplayScene(GameContext context, Random random) {
         super(context);
+        this.random = random;
         this.localization = context.getLocalizationService();
+        this.launchPromptMessage = localization.handle("gameplay.prompt.launch");
         this.powerUpController = new PowerUpController(random, POWERUP_DROP_CHANCE, POWERUP_SIZE);
         this.soundManager = new SoundManager();
+        events.subscribe(this::forwardToObjectives);
+        events.subscribe(this::playEventSound);
+        events.subscribe(this::spawnPowerUpFrom);
+    }
+
+    /**
+     * Decodes the background and effect sounds; run ahead of time by the scene manager.
+     */
+    @Override
+    public void preload() {
+        loadBackgroundImage();
+        soundManager.load("brick_hit", "/sounds/brick.mp3");
+        soundManager.load("life_gain", "/sounds/life.mp3");
+        soundManager.load("multi_ball", "/sounds/multi.mp3");
+        soundManager.load("slow_ball", "/sounds/slow.mp3");
+        soundManager.load("fire_ball", "/sounds/fire.mp3");
+        soundManager.load("expand_paddle", "/sounds/extend.mp3");
+        soundManager.load("paddle_gun", "/sounds/gun.MP3");
     }
 
     @Override
     public void onEnter() {
         refreshActiveSkins();
         System.out.println("onen");
-        loadBackgroundImage();
         if (!initialized) {
             startNewGame();
             initialized = true;
@@ -98,14 +143,6 @@ public class GameplayScene extends Scene {
         paused = false;
         statusMessage = "";
 
-        soundManager.load("brick_hit", "/sounds/brick.mp3");
-        soundManager.load("life_gain", "/sounds/life.mp3");
-        soundManager.load("multi_ball", "/sounds/multi.mp3");
-        soundManager.load("slow_ball", "/sounds/slow.mp3");
-        soundManager.load("fire_ball", "/sounds/fire.mp3");
-        soundManager.load("expand_paddle", "/sounds/extend.mp3");
-        soundManager.load("paddle_gun", "/sounds/gun.MP3");
-
         StageMusicManager stageMusic = StageMusicManager.getInstance();
         stageMusic.setVolume(context.getSettingsManager().getMusicVolume() / 100f);
         stageMusic.playStageMusic("stage", "/sounds/stage.mp3");
@@ -188,7 +225,7 @@ public class GameplayScene extends Scene {
         PauseScene pauseScene = (PauseScene) context.getScenes().getPersistentScene(ArkanoidGame.SCENE_PAUSE);
         if (pauseScene != null) {
             pauseScene.bindGameplay(this);
-            context.getScenes().switchTo(ArkanoidGame.SCENE_PAUSE);
+            context.getScenes().push(ArkanoidGame.SCENE_PAUSE);
         }
     }
 
@@ -231,10 +268,12 @@ public class GameplayScene extends Scene {
      */
     private void clearGameState() {
         bricks.clear();
+        events.clear();
         powerUpController.reset();
         paddleGunSystem.reset();
         balls.clear();
         pendingBalls.clear();
+        paddleDirection = 0;
         awaitingLaunch = true;
         stageCleared = false;
     }
@@ -263,10 +302,14 @@ public class GameplayScene extends Scene {
         resetBall();
     }
 
-    private Ball primaryBall() {
+    Ball primaryBall() {
         return balls.isEmpty() ? null : balls.get(0);
     }
 
+    Paddle paddle() {
+        return paddle;
+    }
+
     private Ball createBall(SkinCatalog.BallSkin skin) {
         return new Ball(0, 0, BALL_SIZE, skin.fillColor(), skin.borderColor());
     }
@@ -324,12 +367,14 @@ public class GameplayScene extends Scene {
         double brickHeight = 24;
 
         java.util.Set<String> addedPositions = new java.util.HashSet<>();
+        TagRegistry tagRegistry = definition.tagRegistry();
 
         definition.bricks().forEach(blueprint -> {
             if (!isValidBrickPosition(blueprint, cols, rows, addedPositions))
                 return;
 
-            Brick brick = createBrick(blueprint, brickWidth, brickHeight, gap, horizontalPadding, verticalPadding);
+            Brick brick = createBrick(blueprint, tagRegistry, brickWidth, brickHeight, gap, horizontalPadding,
+                    verticalPadding);
             bricks.add(brick);
         });
     }
@@ -371,7 +416,7 @@ public class GameplayScene extends Scene {
     /**
      * Factory method to create a brick from blueprint.
      */
-    private Brick createBrick(LevelDefinition.BrickBlueprint blueprint,
+    private Brick createBrick(LevelDefinition.BrickBlueprint blueprint, TagRegistry tagRegistry,
             double brickWidth, double brickHeight, double gap, double horizontalPadding, double verticalPadding) {
         int column = blueprint.column();
         int row = blueprint.row();
@@ -381,7 +426,8 @@ public class GameplayScene extends Scene {
         int scoreValue = 50 * hitPoints;
 
         return new Brick(x, y, brickWidth, brickHeight, hitPoints, scoreValue,
-                column, row, blueprint.brickType(), blueprint.tags(), blueprint.modifiers());
+                column, row, blueprint.brickType(), blueprint.tags(),
+                tagRegistry.maskOf(blueprint.tags()), blueprint.modifiers());
     }
 
     @Override
@@ -389,18 +435,18 @@ public class GameplayScene extends Scene {
         if (paused)
             return;
 
-        InputManager input = context.getInput();
-        if (input.isKeyJustPressed(KeyEvent.VK_ESCAPE)) {
+        InputCommand command = context.getCommand();
+        if (command.wasPressed(InputCommand.PAUSE)) {
             pauseGame();
             return;
         }
 
         if (gameOver) {
-            handleGameOverInput(input);
+            handleGameOverInput(command);
             return;
         }
 
-        updateGameplay(input, deltaTime);
+        updateGameplay(command, deltaTime);
         objectiveEngine.update(deltaTime);
 
         if (!gameOver && !stageCleared && isLevelComplete()) {
@@ -411,8 +457,8 @@ public class GameplayScene extends Scene {
     /**
      * Factory method to update gameplay mechanics.
      */
-    private void updateGameplay(InputManager input, double deltaTime) {
-        handleMovementInput(input);
+    private void updateGameplay(InputCommand command, double deltaTime) {
+        handleMovementInput(command);
         paddle.update(deltaTime);
 
         int width = context.getConfig().width();
@@ -422,20 +468,15 @@ public class GameplayScene extends Scene {
 
         if (awaitingLaunch) {
             attachBallToPaddle();
-            if (input.isKeyJustPressed(KeyEvent.VK_SPACE))
+            if (command.wasPressed(InputCommand.LAUNCH))
                 launchBall();
         } else {
             updateBalls(deltaTime);
         }
 
-        paddleGunSystem.update(deltaTime, paddle, bricks, this::onBrickDestroyed);
-        powerUpController.update(deltaTime, paddle, context.getConfig().height(), this::applyPowerUp);
-
-        objectiveEngine.update(deltaTime);
-
-        if (!gameOver && !stageCleared && isLevelComplete()) {
-            handleLevelCompletion();
-        }
+        paddleGunSystem.update(deltaTime, paddle, bricks, brickDestroyedHandler);
+        events.drain();
+        powerUpController.update(deltaTime, paddle, context.getConfig().height(), powerUpHandler);
     }
 
     @Override
@@ -460,7 +501,7 @@ public class GameplayScene extends Scene {
 
             visualEffects.drawGameAreaBorder(g2, canvasWidth, canvasHeight);
             renderArena(g2);
-            panelRenderer.render(g2, canvasWidth, canvasHeight, score, lives, activeLevel, objectiveEngine.snapshot());
+            panelRenderer.render(g2, canvasWidth, canvasHeight, score, lives, activeLevel, objectiveEngine);
             String message = null;
             if (!statusMessage.isBlank()) {
                 message = statusMessage;
@@ -494,57 +535,64 @@ public class GameplayScene extends Scene {
     }
 
     private void renderCenterMessage(Graphics2D graphics, String message, int canvasWidth, int canvasHeight) {
-        Font previous = graphics.getFont();
-        graphics.setFont(previous.deriveFont(Font.PLAIN, 25f));
-        graphics.setColor(Color.WHITE);
-        int textWidth = graphics.getFontMetrics().stringWidth(message);
-        int x = (canvasWidth - textWidth) / 2;
-        int y = canvasHeight / 2;
-        graphics.drawString(message, x, y);
-        graphics.setFont(previous);
+        TextCache.getInstance().drawCentered(graphics, message, MESSAGE_FONT, Color.WHITE,
+                canvasWidth / 2, canvasHeight / 2);
     }
 
     private void renderLaunchPrompt(Graphics2D graphics, int canvasWidth, int canvasHeight) {
-        String prompt = localization.translate("gameplay.prompt.launch");
+        String prompt = localization.translate(launchPromptMessage);
         if (prompt == null || prompt.isBlank()) {
             return;
         }
-        Font previous = graphics.getFont();
-        graphics.setFont(previous.deriveFont(Font.BOLD, 20f));
-        graphics.setColor(new Color(255, 255, 255, 200));
-        int textWidth = graphics.getFontMetrics().stringWidth(prompt);
-        int x = (canvasWidth - textWidth) / 2;
-        int y = canvasHeight - 36;
-        graphics.drawString(prompt, x, y);
-        graphics.setFont(previous);
+        TextCache.getInstance().drawCentered(graphics, prompt, PROMPT_FONT, PROMPT_COLOR,
+                canvasWidth / 2, canvasHeight - 36);
     }
 
     private boolean isLevelComplete() {
-        return objectiveEngine.arePrimaryObjectivesMet() || bricks.stream().allMatch(Brick::isDestroyed);
+        if (objectiveEngine.arePrimaryObjectivesMet()) {
+            return true;
+        }
+        for (int i = 0; i < bricks.size(); i++) {
+            if (!bricks.get(i).isDestroyed()) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private void handleGameOverInput(InputManager input) {
-        if (input.isKeyJustPressed(KeyEvent.VK_ENTER)) {
+    private void handleGameOverInput(InputCommand command) {
+        if (command.wasPressed(InputCommand.CONFIRM)) {
             startNewGame();
             return;
         }
-        if (input.isKeyJustPressed(KeyEvent.VK_ESCAPE)) {
+        if (command.wasPressed(InputCommand.PAUSE)) {
             StageMusicManager.getInstance().stop();
             context.getScenes().switchTo(ArkanoidGame.SCENE_MENU);
         }
     }
 
-    private void handleMovementInput(InputManager input) {
-        boolean left = input.isKeyPressed(KeyEvent.VK_LEFT) || input.isKeyPressed(KeyEvent.VK_A);
-        boolean right = input.isKeyPressed(KeyEvent.VK_RIGHT) || input.isKeyPressed(KeyEvent.VK_D);
-
-        if (left && !right) {
+    private void handleMovementInput(InputCommand command) {
+        int direction = command.horizontal();
+        if (direction < 0) {
             paddle.moveLeft();
-        } else if (right && !left) {
+        } else if (direction > 0) {
             paddle.moveRight();
         } else {
             paddle.stop();
         }
+
+        if (direction != paddleDirection) {
+            paddleDirection = direction;
+            InputManager input = context.getInput();
+            InputLatencyTracker latency = input.getLatencyTracker();
+            if (direction != 0 && latency.isEnabled()) {
+                // Credit whichever of the two bindings is actually held
+                int code = direction < 0
+                        ? (input.isKeyPressed(KeyEvent.VK_LEFT) ? KeyEvent.VK_LEFT : KeyEvent.VK_A)
+                        : (input.isKeyPressed(KeyEvent.VK_RIGHT) ? KeyEvent.VK_RIGHT : KeyEvent.VK_D);
+                latency.onReaction(code, System.nanoTime());
+            }
+        }
     }
 
     private void attachBallToPaddle() {
@@ -577,8 +625,13 @@ public class GameplayScene extends Scene {
     }
 
     private void updateBalls(double deltaTime) {
-        List<Ball> snapshot = new ArrayList<>(balls);
-        for (Ball ballRef : snapshot) {
+        ballSnapshot.clear();
+        // Element by element: addAll(Collection) copies through a temporary toArray()
+        for (int i = 0; i < balls.size(); i++) {
+            ballSnapshot.add(balls.get(i));
+        }
+        for (int i = 0; i < ballSnapshot.size(); i++) {
+            Ball ballRef = ballSnapshot.get(i);
             ballRef.update(deltaTime);
             if (constrainBallWithinArena(ballRef)) {
                 continue;
@@ -586,6 +639,7 @@ public class GameplayScene extends Scene {
             handlePaddleCollision(ballRef);
             handleBrickCollisions(ballRef);
         }
+        ballSnapshot.clear();
         if (!pendingBalls.isEmpty()) {
             balls.addAll(pendingBalls);
             pendingBalls.clear();
@@ -642,11 +696,9 @@ public class GameplayScene extends Scene {
     }
 
     private void handlePaddleCollision(Ball ballRef) {
-        Rectangle2D ballBounds = ballRef.getBounds();
-        Rectangle2D paddleBounds = paddle.getBounds();
-        if (ballBounds.intersects(paddleBounds) && ballRef.getVelocity().y > 0) {
-            double paddleCenter = paddleBounds.getCenterX();
-            double ballCenter = ballBounds.getCenterX();
+        if (ballRef.intersects(paddle) && ballRef.getVelocity().y > 0) {
+            double paddleCenter = paddle.getPosition().x + paddle.getWidth() / 2.0;
+            double ballCenter = ballRef.getPosition().x + ballRef.getWidth() / 2.0;
             double offset = (ballCenter - paddleCenter) / (paddle.getWidth() / 2.0);
             offset = Math.max(-1, Math.min(1, offset));
             double angle = Math.toRadians(60 * offset);
@@ -657,45 +709,45 @@ public class GameplayScene extends Scene {
     }
 
     private void handleBrickCollisions(Ball ballRef) {
-        Rectangle2D ballBounds = ballRef.getBounds();
-        for (Brick brick : bricks) {
-            if (brick.isDestroyed())
-                continue;
-            Rectangle2D brickBounds = brick.getBounds();
-            if (brickBounds.intersects(ballBounds)) {
-                Rectangle2D intersection = brickBounds.createIntersection(ballBounds);
-                if (!ballRef.isFireActive()) {
-                    if (intersection.getWidth() >= intersection.getHeight()) {
-                        ballRef.invertY();
-                    } else {
-                        ballRef.invertX();
-                    }
-                }
-                brick.hit();
-                soundManager.play("brick_hit");
-                if (ballRef.isFireActive()) {
-                    while (!brick.isDestroyed()) {
-                        brick.hit();
-                    }
-                }
-                if (brick.isDestroyed()) {
-                    onBrickDestroyed(brick);
-                }
-                normalizeBallSpeed(ballRef);
-                break;
-            }
+        Brick brick = brickCollisions.resolve(ballRef, bricks);
+        if (brick == null) {
+            return;
+        }
+        publishBrickEvent(GameplayEventBus.BRICK_HIT, brick, 0);
+        if (brick.isDestroyed()) {
+            onBrickDestroyed(brick);
         }
+        normalizeBallSpeed(ballRef);
     }
 
     private void onBrickDestroyed(Brick brick) {
         score += brick.getScoreValue();
-        objectiveEngine.handleEvent(new ObjectiveEngine.ScoreAwardedEvent(brick.getScoreValue()));
-        objectiveEngine.handleEvent(new ObjectiveEngine.BrickClearedEvent(
-                brick.getGridColumn(),
-                brick.getGridRow(),
-                brick.getBlueprintType(),
-                brick.getTags()));
-        powerUpController.maybeSpawnFrom(brick);
+        publishBrickEvent(GameplayEventBus.BRICK_DESTROYED, brick, brick.getScoreValue());
+    }
+
+    private void publishBrickEvent(int type, Brick brick, int points) {
+        events.publish(type, brick.getGridColumn(), brick.getGridRow(), brick.getTagSet(), points,
+                brick.getPosition().x + brick.getWidth() / 2.0,
+                brick.getPosition().y + brick.getHeight() / 2.0);
+    }
+
+    private void forwardToObjectives(GameplayEventBus.Slot event) {
+        if (event.type() == GameplayEventBus.BRICK_DESTROYED) {
+            objectiveEngine.onScoreAwarded(event.points());
+            objectiveEngine.onBrickCleared(event.column(), event.row(), event.tags());
+        }
+    }
+
+    private void playEventSound(GameplayEventBus.Slot event) {
+        if (event.type() == GameplayEventBus.BRICK_HIT) {
+            soundManager.play("brick_hit");
+        }
+    }
+
+    private void spawnPowerUpFrom(GameplayEventBus.Slot event) {
+        if (event.type() == GameplayEventBus.BRICK_DESTROYED) {
+            powerUpController.maybeSpawnAt(event.centerX(), event.centerY());
+        }
     }
 
     private void applyPowerUp(PowerUp.Type type) {
@@ -794,7 +846,7 @@ public class GameplayScene extends Scene {
     private void updateProfileProgress(PlayerProfile profile) {
         profile.markLevelCompleted(activeLevel.id());
         profile.unlockLevel(activeLevel.id());
-        context.getProfileManager().saveProfile();
+        context.getProfileManager().recordEvent(ProfileEvent.levelCompleted(activeLevel.id()));
     }
 
     /**
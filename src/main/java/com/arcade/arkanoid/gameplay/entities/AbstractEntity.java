@@ -29,6 +29,20 @@ public abstract class AbstractEntity {
         return new Rectangle2D.Double(position.x, position.y, width, height);
     }
 
+    /**
+     * Same test as {@code getBounds().intersects(other.getBounds())} without allocating; used on
+     * the per-tick collision paths.
+     */
+    public boolean intersects(AbstractEntity other) {
+        if (width <= 0 || height <= 0 || other.width <= 0 || other.height <= 0) {
+            return false;
+        }
+        return other.position.x + other.width > position.x
+                && other.position.y + other.height > position.y
+                && other.position.x < position.x + width
+                && other.position.y < position.y + height;
+    }
+
     public Vector2D getPosition() {
         return position;
     }
@@ -3,8 +3,6 @@ package com.arcade.arkanoid.gameplay.entities;
 import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.util.LinkedList;
-import java.util.Queue;
 
 public class Ball extends AbstractEntity {
     private Color baseFillColor;
@@ -13,16 +11,12 @@ public class Ball extends AbstractEntity {
     private Color borderColor;
     private boolean fireActive;
     private double fireTimer;
-    private final Queue<TrailPoint> trail = new LinkedList<>();
     private static final int MAX_TRAIL_LENGTH = 8;
-    
-    private static class TrailPoint {
-        double x, y;
-        TrailPoint(double x, double y) {
-            this.x = x;
-            this.y = y;
-        }
-    }
+    // Ring buffer of recent centres, oldest at trailStart; fixed arrays so update never allocates
+    private final double[] trailX = new double[MAX_TRAIL_LENGTH];
+    private final double[] trailY = new double[MAX_TRAIL_LENGTH];
+    private int trailStart;
+    private int trailSize;
 
     public Ball(double x, double y, double size, Color color) {
         this(x, y, size, color, color.darker());
@@ -54,7 +48,8 @@ public class Ball extends AbstractEntity {
         position.y = y;
         velocity.x = 0;
         velocity.y = 0;
-        trail.clear();
+        trailStart = 0;
+        trailSize = 0;
     }
 
 
@@ -69,9 +64,13 @@ public class Ball extends AbstractEntity {
             }
         }
         if (velocity.x != 0 || velocity.y != 0) {
-            trail.add(new TrailPoint(position.x + width / 2, position.y + height / 2));
-            if (trail.size() > MAX_TRAIL_LENGTH) {
-                trail.poll();
+            int slot = (trailStart + trailSize) % MAX_TRAIL_LENGTH;
+            trailX[slot] = position.x + width / 2;
+            trailY[slot] = position.y + height / 2;
+            if (trailSize < MAX_TRAIL_LENGTH) {
+                trailSize++;
+            } else {
+                trailStart = (trailStart + 1) % MAX_TRAIL_LENGTH;
             }
         }
     }
@@ -123,18 +122,19 @@ public class Ball extends AbstractEntity {
     @Override
     public void render(Graphics2D graphics) {
         // Draw trail with fading effect
-        if (!trail.isEmpty()) {
-            int index = 0;
-            int size = trail.size();
-            for (TrailPoint point : trail) {
+        if (trailSize > 0) {
+            int size = trailSize;
+            for (int index = 0; index < size; index++) {
+                int slot = (trailStart + index) % MAX_TRAIL_LENGTH;
+                double pointX = trailX[slot];
+                double pointY = trailY[slot];
                 float alpha = (float) index / size * 0.5f; // Fade from 0 to 0.5
-                int trailSize = (int) (width * (0.4 + 0.6 * index / size)); // Size from 40% to 100%
+                int pointSize = (int) (width * (0.4 + 0.6 * index / size)); // Size from 40% to 100%
                 
                 graphics.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
                 graphics.setColor(fillColor);
-                graphics.fillOval((int) (point.x - trailSize / 2), (int) (point.y - trailSize / 2), 
-                                 trailSize, trailSize);
-                index++;
+                graphics.fillOval((int) (pointX - pointSize / 2), (int) (pointY - pointSize / 2), 
+                                 pointSize, pointSize);
             }
             graphics.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
         }
@@ -1,10 +1,18 @@
 package com.arcade.arkanoid.gameplay.entities;
 
+import com.arcade.arkanoid.gameplay.levels.TagSet;
+
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.util.List;
 
 public class Brick extends AbstractEntity {
+    // Shared so a hit does not allocate
+    private static final Color ONE_HIT_COLOR = new Color(0xFF7043);
+    private static final Color TWO_HIT_COLOR = new Color(0xFFA000);
+    private static final Color THREE_HIT_COLOR = new Color(0xF44336);
+    private static final Color STRONG_COLOR = new Color(0x9C27B0);
+
     private int hitPoints;
     private Color color;
     private final int scoreValue;
@@ -12,6 +20,7 @@ public class Brick extends AbstractEntity {
     private final int gridRow;
     private final String blueprintType;
     private final List<String> tags;
+    private final TagSet tagSet;
     private final List<String> modifiers;
 
     public Brick(double x, double y, double width, double height, int hitPoints, int scoreValue) {
@@ -29,6 +38,25 @@ public class Brick extends AbstractEntity {
             String blueprintType,
             List<String> tags,
             List<String> modifiers) {
+        this(x, y, width, height, hitPoints, scoreValue, gridColumn, gridRow, blueprintType, tags, TagSet.EMPTY,
+                modifiers);
+    }
+
+    /**
+     * @param tagSet {@code tags} interned through the level's tag registry
+     */
+    public Brick(double x,
+            double y,
+            double width,
+            double height,
+            int hitPoints,
+            int scoreValue,
+            int gridColumn,
+            int gridRow,
+            String blueprintType,
+            List<String> tags,
+            TagSet tagSet,
+            List<String> modifiers) {
         super(x, y, width, height);
         this.hitPoints = Math.max(0, hitPoints);
         this.scoreValue = scoreValue;
@@ -37,6 +65,7 @@ public class Brick extends AbstractEntity {
         this.gridRow = gridRow;
         this.blueprintType = blueprintType == null ? "basic" : blueprintType;
         this.tags = tags == null ? List.of() : List.copyOf(tags);
+        this.tagSet = tagSet == null ? TagSet.EMPTY : tagSet;
         this.modifiers = modifiers == null ? List.of() : List.copyOf(modifiers);
     }
 
@@ -78,6 +107,10 @@ public class Brick extends AbstractEntity {
         return tags;
     }
 
+    public TagSet getTagSet() {
+        return tagSet;
+    }
+
     public List<String> getModifiers() {
         return modifiers;
     }
@@ -86,13 +119,13 @@ public class Brick extends AbstractEntity {
         int normalized = Math.max(1, strength);
         switch (normalized) {
             case 1:
-                return new Color(0xFF7043);
+                return ONE_HIT_COLOR;
             case 2:
-                return new Color(0xFFA000);
+                return TWO_HIT_COLOR;
             case 3:
-                return new Color(0xF44336);
+                return THREE_HIT_COLOR;
             default:
-                return new Color(0x9C27B0);
+                return STRONG_COLOR;
         }
     }
 
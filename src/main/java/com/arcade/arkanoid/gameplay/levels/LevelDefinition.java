@@ -14,6 +14,7 @@ public class LevelDefinition implements LevelSchema {
     private final List<ObjectiveDefinition> objectives;
     private final List<BoosterSlot> boosters;
     private final List<RewardTier> rewardTiers;
+    private volatile TagRegistry tagRegistry;
 
     public LevelDefinition(String id,
                            String displayName,
@@ -87,6 +88,16 @@ public class LevelDefinition implements LevelSchema {
         return rewardTiers;
     }
 
+    @Override
+    public TagRegistry tagRegistry() {
+        TagRegistry registry = tagRegistry;
+        if (registry == null) {
+            registry = TagRegistry.of(this);
+            tagRegistry = registry;
+        }
+        return registry;
+    }
+
     public int columns() {
         return board.columns();
     }
@@ -29,6 +29,14 @@ public interface LevelSchema {
 
     List<RewardTier> rewardTiers();
 
+    /**
+     * Tag ids for this level. Implementations should cache the registry; the default rebuilds it,
+     * which still yields the same ids on every call.
+     */
+    default TagRegistry tagRegistry() {
+        return TagRegistry.of(this);
+    }
+
     enum Difficulty {
         STORY,
         CHALLENGE,
@@ -0,0 +1,101 @@
+package com.arcade.arkanoid.gameplay.levels;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interns the tag strings used by a level (brick tags and objective tracked tags) into small
+ * integer ids so tag matching during play is a bitmask test instead of string comparison.
+ * Ids are assigned in level order, so two registries built from the same level agree.
+ */
+public final class TagRegistry {
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    public static TagRegistry of(LevelSchema level) {
+        TagRegistry registry = new TagRegistry();
+        if (level == null) {
+            return registry;
+        }
+        for (LevelSchema.BrickBlueprint brick : level.bricks()) {
+            registry.internAll(brick.tags());
+        }
+        for (LevelSchema.ObjectiveDefinition objective : level.objectives()) {
+            registry.internAll(objective.target().trackedTags());
+        }
+        return registry;
+    }
+
+    /**
+     * Returns the id for {@code tag}, assigning the next free id if it is new; blank tags get -1.
+     */
+    public int intern(String tag) {
+        if (tag == null || tag.isEmpty()) {
+            return -1;
+        }
+        Integer existing = ids.get(tag);
+        if (existing != null) {
+            return existing;
+        }
+        int id = names.size();
+        ids.put(tag, id);
+        names.add(tag);
+        return id;
+    }
+
+    /**
+     * Returns the id for {@code tag}, or -1 if the level never uses it.
+     */
+    public int idOf(String tag) {
+        if (tag == null) {
+            return -1;
+        }
+        Integer id = ids.get(tag);
+        return id == null ? -1 : id;
+    }
+
+    public String nameOf(int id) {
+        return id >= 0 && id < names.size() ? names.get(id) : null;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Builds the mask for a tag list; tags the level never interned are ignored because nothing
+     * can match them.
+     */
+    public TagSet maskOf(Collection<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return TagSet.EMPTY;
+        }
+        long bits = 0L;
+        BitSet overflow = null;
+        for (String tag : tags) {
+            int id = idOf(tag);
+            if (id < 0) {
+                continue;
+            }
+            if (id < Long.SIZE) {
+                bits |= 1L << id;
+            } else {
+                if (overflow == null) {
+                    overflow = new BitSet();
+                }
+                overflow.set(id - Long.SIZE);
+            }
+        }
+        return TagSet.of(bits, overflow);
+    }
+
+    private void internAll(List<String> tags) {
+        for (String tag : tags) {
+            intern(tag);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.arcade.arkanoid.gameplay.levels;
+
+import java.util.BitSet;
+
+/**
+ * Immutable set of interned tag ids from a {@link TagRegistry}. The first 64 ids live in a single
+ * {@code long} so the common case matches with one AND; higher ids overflow into a {@link BitSet}.
+ */
+public final class TagSet {
+    public static final TagSet EMPTY = new TagSet(0L, null);
+
+    private final long bits;
+    private final BitSet overflow;
+
+    private TagSet(long bits, BitSet overflow) {
+        this.bits = bits;
+        this.overflow = overflow;
+    }
+
+    static TagSet of(long bits, BitSet overflow) {
+        if (bits == 0L && (overflow == null || overflow.isEmpty())) {
+            return EMPTY;
+        }
+        return new TagSet(bits, overflow == null || overflow.isEmpty() ? null : overflow);
+    }
+
+    /**
+     * Returns true if the two sets share at least one tag. Does not allocate.
+     */
+    public boolean intersects(TagSet other) {
+        if ((bits & other.bits) != 0L) {
+            return true;
+        }
+        return overflow != null && other.overflow != null && overflow.intersects(other.overflow);
+    }
+
+    public boolean contains(int tagId) {
+        if (tagId < 0) {
+            return false;
+        }
+        if (tagId < Long.SIZE) {
+            return (bits & (1L << tagId)) != 0L;
+        }
+        return overflow != null && overflow.get(tagId - Long.SIZE);
+    }
+
+    public boolean isEmpty() {
+        return bits == 0L && overflow == null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.arcade.arkanoid.gameplay.objectives;
 
 import com.arcade.arkanoid.gameplay.levels.LevelSchema;
+import com.arcade.arkanoid.gameplay.levels.TagSet;
 
 import java.util.List;
 import java.util.Objects;
@@ -25,6 +26,22 @@ public interface ObjectiveEngine {
      */
     void handleEvent(ObjectiveEvent event);
 
+    /**
+     * Primitive form of {@link ScoreAwardedEvent} for per-tick gameplay paths; engines may override
+     * it to skip the event allocation.
+     */
+    default void onScoreAwarded(int points) {
+        handleEvent(new ScoreAwardedEvent(points));
+    }
+
+    /**
+     * Primitive form of {@link BrickClearedEvent}. {@code tags} must come from the bound level's
+     * tag registry.
+     */
+    default void onBrickCleared(int column, int row, TagSet tags) {
+        handleEvent(new BrickClearedEvent(column, row, "", List.of(), tags));
+    }
+
     /**
      * Advances timers or other continuous objectives.
      */
@@ -40,6 +57,50 @@ public interface ObjectiveEngine {
      */
     List<ObjectiveState> snapshot();
 
+    /**
+     * Monotonically increasing counter bumped whenever any objective state changes, including
+     * rebinding and resets.
+     */
+    long revision();
+
+    /**
+     * Returns the current snapshot if the revision moved past {@code lastRevision}, otherwise
+     * {@code null} so callers can keep whatever they derived from the previous snapshot.
+     */
+    default List<ObjectiveState> snapshotIfChanged(long lastRevision) {
+        return revision() == lastRevision ? null : snapshot();
+    }
+
+    /**
+     * Non-optional objectives still in progress.
+     */
+    int primaryOutstanding();
+
+    int primaryCompleted();
+
+    int primaryFailed();
+
+    /**
+     * Number of {@link #update(double)} ticks since the level was bound or last reset.
+     */
+    long currentTick();
+
+    /**
+     * Tick at which the objective first completed in the current attempt, or -1.
+     */
+    long completionTick(String objectiveId);
+
+    void addCountsListener(CountsListener listener);
+
+    void removeCountsListener(CountsListener listener);
+
+    /**
+     * Notified whenever a primary objective changes status, for HUD, analytics and balancing tools.
+     */
+    interface CountsListener {
+        void onPrimaryCountsChanged(int outstanding, int completed, int failed, long tick);
+    }
+
     interface Listener {
         void onObjectiveProgress(ObjectiveState state);
 
@@ -65,6 +126,11 @@ public interface ObjectiveEngine {
             return TYPE;
         }
 
+        @Override
+        public EventKind kind() {
+            return EventKind.SCORE_AWARDED;
+        }
+
         public int points() {
             return points;
         }
@@ -72,6 +138,22 @@ public interface ObjectiveEngine {
 
     interface ObjectiveEvent {
         String type();
+
+        /**
+         * Dispatch key used by engines to route the event to interested objectives only.
+         */
+        EventKind kind();
+    }
+
+    /**
+     * Every concrete {@link ObjectiveEvent}; engines index their subscription tables by ordinal.
+     */
+    enum EventKind {
+        SCORE_AWARDED,
+        BRICK_CLEARED,
+        COLLECTIBLE_DELIVERED,
+        MOVE_CONSUMED,
+        TIMER_EXPIRED
     }
 
     final class BrickClearedEvent implements ObjectiveEvent {
@@ -81,8 +163,17 @@ public interface ObjectiveEngine {
         private final int row;
         private final String brickType;
         private final List<String> tags;
+        private final TagSet tagSet;
 
         public BrickClearedEvent(int column, int row, String brickType, List<String> tags) {
+            this(column, row, brickType, tags, null);
+        }
+
+        /**
+         * @param tagSet the brick's tags interned through the bound level's tag registry, or
+         *               {@code null} to have the engine resolve {@code tags} itself
+         */
+        public BrickClearedEvent(int column, int row, String brickType, List<String> tags, TagSet tagSet) {
             if (column < 0) {
                 throw new IllegalArgumentException("column must be >= 0");
             }
@@ -93,6 +184,7 @@ public interface ObjectiveEngine {
             this.row = row;
             this.brickType = Objects.requireNonNull(brickType, "brickType");
             this.tags = tags == null ? List.of() : List.copyOf(tags);
+            this.tagSet = tagSet;
         }
 
         @Override
@@ -100,6 +192,15 @@ public interface ObjectiveEngine {
             return TYPE;
         }
 
+        @Override
+        public EventKind kind() {
+            return EventKind.BRICK_CLEARED;
+        }
+
+        public TagSet tagSet() {
+            return tagSet;
+        }
+
         public int column() {
             return column;
         }
@@ -133,6 +234,11 @@ public interface ObjectiveEngine {
             return TYPE;
         }
 
+        @Override
+        public EventKind kind() {
+            return EventKind.COLLECTIBLE_DELIVERED;
+        }
+
         public String collectibleId() {
             return collectibleId;
         }
@@ -149,6 +255,11 @@ public interface ObjectiveEngine {
         public String type() {
             return TYPE;
         }
+
+        @Override
+        public EventKind kind() {
+            return EventKind.MOVE_CONSUMED;
+        }
     }
 
     final class TimerExpiredEvent implements ObjectiveEvent {
@@ -158,6 +269,11 @@ public interface ObjectiveEngine {
         public String type() {
             return TYPE;
         }
+
+        @Override
+        public EventKind kind() {
+            return EventKind.TIMER_EXPIRED;
+        }
     }
 
     final class ObjectiveState {
@@ -168,8 +284,14 @@ public interface ObjectiveEngine {
         private final int target;
         private final double ratio;
         private final List<String> tags;
+        private final long completedAtTick;
 
         public ObjectiveState(String id, boolean optional, Status status, int progress, int target, double ratio, List<String> tags) {
+            this(id, optional, status, progress, target, ratio, tags, -1);
+        }
+
+        public ObjectiveState(String id, boolean optional, Status status, int progress, int target, double ratio,
+                List<String> tags, long completedAtTick) {
             this.id = Objects.requireNonNull(id, "id");
             this.optional = optional;
             this.status = Objects.requireNonNull(status, "status");
@@ -183,6 +305,7 @@ public interface ObjectiveEngine {
             this.target = target;
             this.ratio = ratio;
             this.tags = tags == null ? List.of() : List.copyOf(tags);
+            this.completedAtTick = completedAtTick;
         }
 
         public String id() {
@@ -212,6 +335,13 @@ public interface ObjectiveEngine {
         public List<String> tags() {
             return tags;
         }
+
+        /**
+         * Engine tick of the first completion in this attempt, or -1 if not completed.
+         */
+        public long completedAtTick() {
+            return completedAtTick;
+        }
     }
 
     enum Status {
@@ -1,16 +1,31 @@
 package com.arcade.arkanoid.gameplay.objectives;
 
 import com.arcade.arkanoid.gameplay.levels.LevelSchema;
+import com.arcade.arkanoid.gameplay.levels.TagRegistry;
+import com.arcade.arkanoid.gameplay.levels.TagSet;
 import com.arcade.arkanoid.gameplay.objectives.ObjectiveEngine.Status;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
+/**
+ * Default objective engine. At {@link #bind} time it builds one subscription table per
+ * {@link EventKind} holding only the trackers that consume that event, so dispatch cost is
+ * proportional to the interested objectives rather than to every objective in the level.
+ * Tracked tags are interned through the level's {@link TagRegistry} so tag filters are a single
+ * mask test. Each tracker caches its {@link ObjectiveState} and the engine caches the snapshot
+ * list; both are rebuilt only after a change bumps the {@link #revision()}. Primary objective
+ * counts are maintained on every status transition so completion checks are O(1).
+ */
 public class StandardObjectiveEngine implements ObjectiveEngine {
+    private static final Tracker[] NO_TRACKERS = new Tracker[0];
+
     private static final Listener NO_OP_LISTENER = new Listener() {
         @Override
         public void onObjectiveProgress(ObjectiveState state) {
@@ -26,8 +41,22 @@ public class StandardObjectiveEngine implements ObjectiveEngine {
     };
 
     private final Map<String, Tracker> trackers = new LinkedHashMap<>();
+    private final Tracker[][] subscribers = new Tracker[EventKind.values().length][];
+    private Tracker[] timedTrackers = NO_TRACKERS;
+    private TagRegistry tagRegistry = new TagRegistry();
     private LevelSchema levelSchema;
     private Listener listener = NO_OP_LISTENER;
+    private long revision;
+    private List<ObjectiveState> cachedSnapshot;
+    private final List<CountsListener> countsListeners = new ArrayList<>();
+    private int primaryTotal;
+    private int primaryCompleted;
+    private int primaryFailed;
+    private long tick;
+
+    public StandardObjectiveEngine() {
+        Arrays.fill(subscribers, NO_TRACKERS);
+    }
 
     @Override
     public void bind(LevelSchema levelSchema, Listener listener) {
@@ -38,7 +67,10 @@ public class StandardObjectiveEngine implements ObjectiveEngine {
 
     @Override
     public void resetProgress() {
+        tick = 0;
         trackers.values().forEach(Tracker::reset);
+        recountPrimary();
+        markChanged();
     }
 
     @Override
@@ -46,144 +78,242 @@ public class StandardObjectiveEngine implements ObjectiveEngine {
         if (event == null) {
             return;
         }
-        if (event instanceof BrickClearedEvent) {
-            handleBrickCleared((BrickClearedEvent) event);
-        } else if (event instanceof ScoreAwardedEvent) {
-            handleScoreAwarded((ScoreAwardedEvent) event);
-        } else if (event instanceof TimerExpiredEvent) {
-            handleTimerExpired();
-        } else if (event instanceof MoveConsumedEvent) {
-            handleMoveConsumed();
-        } else if (event instanceof CollectibleDeliveredEvent) {
-            handleCollectibleDelivered((CollectibleDeliveredEvent) event);
+        Tracker[] interested = subscribers[event.kind().ordinal()];
+        if (interested == null || interested.length == 0) {
+            return;
+        }
+        switch (event.kind()) {
+            case BRICK_CLEARED:
+                BrickClearedEvent cleared = (BrickClearedEvent) event;
+                handleBrickCleared(interested,
+                        cleared.tagSet() != null ? cleared.tagSet() : tagRegistry.maskOf(cleared.tags()));
+                break;
+            case SCORE_AWARDED:
+                handleScoreAwarded(interested, ((ScoreAwardedEvent) event).points());
+                break;
+            case TIMER_EXPIRED:
+                handleTimerExpired(interested);
+                break;
+            case MOVE_CONSUMED:
+                handleMoveConsumed(interested);
+                break;
+            case COLLECTIBLE_DELIVERED:
+                handleCollectibleDelivered(interested, (CollectibleDeliveredEvent) event);
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void onScoreAwarded(int points) {
+        if (points < 0) {
+            throw new IllegalArgumentException("points must be >= 0");
         }
+        handleScoreAwarded(subscribers[EventKind.SCORE_AWARDED.ordinal()], points);
+    }
+
+    @Override
+    public void onBrickCleared(int column, int row, TagSet tags) {
+        handleBrickCleared(subscribers[EventKind.BRICK_CLEARED.ordinal()], tags != null ? tags : TagSet.EMPTY);
     }
 
     @Override
     public void update(double deltaSeconds) {
-        for (Tracker tracker : trackers.values()) {
+        tick++;
+        for (Tracker tracker : timedTrackers) {
             tracker.update(deltaSeconds, listener);
         }
     }
 
     @Override
     public boolean arePrimaryObjectivesMet() {
-        if (trackers.isEmpty()) {
-            return false;
-        }
-        return trackers.values().stream()
-                .filter(tracker -> !tracker.definition.optional())
-                .allMatch(tracker -> tracker.status == Status.COMPLETED);
+        return !trackers.isEmpty() && primaryCompleted == primaryTotal;
     }
 
     @Override
-    public List<ObjectiveState> snapshot() {
-        return trackers.values()
-                .stream()
-                .map(Tracker::toState)
-                .collect(Collectors.toList());
+    public int primaryOutstanding() {
+        return primaryTotal - primaryCompleted - primaryFailed;
     }
 
-    private void rebuildTrackers() {
-        trackers.clear();
-        if (levelSchema == null) {
-            return;
-        }
-        for (LevelSchema.ObjectiveDefinition definition : levelSchema.objectives()) {
-            Tracker tracker = new Tracker(definition);
-            trackers.put(definition.id(), tracker);
+    @Override
+    public int primaryCompleted() {
+        return primaryCompleted;
+    }
+
+    @Override
+    public int primaryFailed() {
+        return primaryFailed;
+    }
+
+    @Override
+    public long currentTick() {
+        return tick;
+    }
+
+    @Override
+    public long completionTick(String objectiveId) {
+        Tracker tracker = objectiveId == null ? null : trackers.get(objectiveId);
+        return tracker == null ? -1 : tracker.completedAtTick;
+    }
+
+    @Override
+    public void addCountsListener(CountsListener listener) {
+        if (listener != null && !countsListeners.contains(listener)) {
+            countsListeners.add(listener);
         }
     }
 
-    private void handleBrickCleared(BrickClearedEvent event) {
-        for (Tracker tracker : trackers.values()) {
-            if (!tracker.isActive()) {
-                continue;
-            }
-            if (ObjectiveTypes.CLEAR_TAGGED_BRICKS.equals(tracker.type())) {
-                if (matchesAnyTag(tracker.trackedTags(), event.tags())) {
-                    tracker.increment(1, listener);
-                }
+    @Override
+    public void removeCountsListener(CountsListener listener) {
+        countsListeners.remove(listener);
+    }
+
+    @Override
+    public List<ObjectiveState> snapshot() {
+        List<ObjectiveState> snapshot = cachedSnapshot;
+        if (snapshot == null) {
+            List<ObjectiveState> states = new ArrayList<>(trackers.size());
+            for (Tracker tracker : trackers.values()) {
+                states.add(tracker.toState());
             }
+            snapshot = Collections.unmodifiableList(states);
+            cachedSnapshot = snapshot;
         }
+        return snapshot;
     }
 
-    private void handleScoreAwarded(ScoreAwardedEvent event) {
+    @Override
+    public long revision() {
+        return revision;
+    }
+
+    private void markChanged() {
+        revision++;
+        cachedSnapshot = null;
+    }
+
+    private void recountPrimary() {
+        primaryTotal = 0;
+        primaryCompleted = 0;
+        primaryFailed = 0;
         for (Tracker tracker : trackers.values()) {
-            if (!tracker.isActive()) {
-                continue;
-            }
-            if (ObjectiveTypes.SCORE.equals(tracker.type())) {
-                tracker.increment(event.points(), listener);
+            if (!tracker.definition.optional()) {
+                primaryTotal++;
+                countPrimary(tracker.status, 1);
             }
         }
+        notifyCounts();
     }
 
-    private void handleCollectibleDelivered(CollectibleDeliveredEvent event) {
-        List<String> eventTags = new ArrayList<>();
-        if (event.collectibleId() != null) {
-            eventTags.add(event.collectibleId());
+    private void countPrimary(Status status, int delta) {
+        if (status == Status.COMPLETED) {
+            primaryCompleted += delta;
+        } else if (status == Status.FAILED) {
+            primaryFailed += delta;
         }
-        if (event.sourceTag() != null && !event.sourceTag().isEmpty()) {
-            eventTags.add(event.sourceTag());
+    }
+
+    private void notifyCounts() {
+        for (int i = 0; i < countsListeners.size(); i++) {
+            countsListeners.get(i).onPrimaryCountsChanged(primaryOutstanding(), primaryCompleted, primaryFailed, tick);
         }
-        for (Tracker tracker : trackers.values()) {
-            if (!tracker.isActive()) {
-                continue;
-            }
-            if (ObjectiveTypes.DELIVER_COLLECTIBLES.equals(tracker.type())) {
-                if (matchesAnyTag(tracker.trackedTags(), eventTags)) {
-                    tracker.increment(1, listener);
+    }
+
+    private void rebuildTrackers() {
+        trackers.clear();
+        List<List<Tracker>> tables = new ArrayList<>(subscribers.length);
+        for (int i = 0; i < subscribers.length; i++) {
+            tables.add(new ArrayList<>());
+        }
+        List<Tracker> timed = new ArrayList<>();
+        tagRegistry = levelSchema != null ? levelSchema.tagRegistry() : new TagRegistry();
+        if (levelSchema != null) {
+            for (LevelSchema.ObjectiveDefinition definition : levelSchema.objectives()) {
+                Tracker tracker = new Tracker(definition, tagRegistry);
+                trackers.put(definition.id(), tracker);
+                EventKind consumed = tracker.type.consumedEvent;
+                if (consumed != null) {
+                    tables.get(consumed.ordinal()).add(tracker);
+                }
+                // A timer expiry fails every objective still in progress.
+                tables.get(EventKind.TIMER_EXPIRED.ordinal()).add(tracker);
+                if (tracker.initialTimeLimit > 0) {
+                    timed.add(tracker);
                 }
             }
         }
+        for (int i = 0; i < subscribers.length; i++) {
+            subscribers[i] = tables.get(i).toArray(NO_TRACKERS);
+        }
+        timedTrackers = timed.toArray(NO_TRACKERS);
+        tick = 0;
+        recountPrimary();
+        markChanged();
     }
 
-    private void handleMoveConsumed() {
-        for (Tracker tracker : trackers.values()) {
-            tracker.onMoveConsumed(listener);
+    private void handleBrickCleared(Tracker[] interested, TagSet eventTags) {
+        for (Tracker tracker : interested) {
+            if (tracker.isActive() && tracker.matches(eventTags)) {
+                tracker.increment(1, listener);
+            }
         }
     }
 
-    private void handleTimerExpired() {
-        for (Tracker tracker : trackers.values()) {
-            tracker.failDueToTimer(listener);
+    private void handleScoreAwarded(Tracker[] interested, int points) {
+        for (Tracker tracker : interested) {
+            if (tracker.isActive()) {
+                tracker.increment(points, listener);
+            }
         }
     }
 
-    private boolean matchesAnyTag(List<String> trackedTags, List<String> eventTags) {
-        if (trackedTags == null || trackedTags.isEmpty()) {
-            return true;
-        }
-        if (eventTags == null || eventTags.isEmpty()) {
-            return false;
+    private void handleCollectibleDelivered(Tracker[] interested, CollectibleDeliveredEvent event) {
+        List<String> tags = new ArrayList<>(2);
+        tags.add(event.collectibleId());
+        if (event.sourceTag() != null && !event.sourceTag().isEmpty()) {
+            tags.add(event.sourceTag());
         }
-        for (String tag : trackedTags) {
-            if (tag == null || tag.isEmpty()) {
-                continue;
-            }
-            for (String eventTag : eventTags) {
-                if (tag.equals(eventTag)) {
-                    return true;
-                }
+        TagSet eventTags = tagRegistry.maskOf(tags);
+        for (Tracker tracker : interested) {
+            if (tracker.isActive() && tracker.matches(eventTags)) {
+                tracker.increment(1, listener);
             }
         }
-        return false;
     }
 
-    private static class Tracker {
+    private void handleMoveConsumed(Tracker[] interested) {
+        for (Tracker tracker : interested) {
+            tracker.increment(1, listener);
+        }
+    }
+
+    private void handleTimerExpired(Tracker[] interested) {
+        for (Tracker tracker : interested) {
+            tracker.failDueToTimer(listener);
+        }
+    }
+
+    private class Tracker {
         private final LevelSchema.ObjectiveDefinition definition;
+        private final ObjectiveType type;
         private final int target;
-        private final List<String> trackedTags;
+        private final boolean matchesAnyTag;
+        private final TagSet trackedMask;
         private final double initialTimeLimit;
         private int progress;
         private Status status;
         private double timeRemaining;
+        private long completedAtTick;
+        private ObjectiveState state;
 
-        Tracker(LevelSchema.ObjectiveDefinition definition) {
+        Tracker(LevelSchema.ObjectiveDefinition definition, TagRegistry tagRegistry) {
             this.definition = Objects.requireNonNull(definition, "definition");
+            this.type = ObjectiveType.fromId(definition.type());
             this.target = Math.max(0, definition.target().amount());
-            this.trackedTags = definition.target().trackedTags();
+            List<String> trackedTags = definition.target().trackedTags();
+            this.matchesAnyTag = trackedTags == null || trackedTags.isEmpty();
+            this.trackedMask = tagRegistry.maskOf(trackedTags);
             this.initialTimeLimit = definition.target().hasTimeLimit()
                     ? definition.target().timeLimitSeconds()
                     : -1.0;
@@ -194,22 +324,24 @@ public class StandardObjectiveEngine implements ObjectiveEngine {
             this.progress = 0;
             if (target == 0) {
                 status = Status.COMPLETED;
+                completedAtTick = 0;
             } else {
                 status = Status.IN_PROGRESS;
+                completedAtTick = -1;
             }
             this.timeRemaining = initialTimeLimit;
+            this.state = null;
         }
 
         boolean isActive() {
             return status == Status.IN_PROGRESS;
         }
 
-        String type() {
-            return definition.type();
-        }
-
-        List<String> trackedTags() {
-            return trackedTags;
+        /**
+         * Objectives without tracked tags accept every event; otherwise one shared tag is enough.
+         */
+        boolean matches(TagSet eventTags) {
+            return matchesAnyTag || trackedMask.intersects(eventTags);
         }
 
         void increment(int amount, Listener listener) {
@@ -218,9 +350,12 @@ public class StandardObjectiveEngine implements ObjectiveEngine {
             }
             int previous = progress;
             progress = Math.min(progress + amount, target);
+            if (progress != previous) {
+                changed();
+            }
             listener.onObjectiveProgress(toState());
             if (progress >= target && previous < target) {
-                status = Status.COMPLETED;
+                transitionTo(Status.COMPLETED);
                 listener.onObjectiveCompleted(toState());
             }
         }
@@ -231,7 +366,7 @@ public class StandardObjectiveEngine implements ObjectiveEngine {
             }
             timeRemaining -= deltaSeconds;
             if (timeRemaining <= 0) {
-                status = Status.FAILED;
+                transitionTo(Status.FAILED);
                 listener.onObjectiveFailed(toState());
             }
         }
@@ -240,20 +375,37 @@ public class StandardObjectiveEngine implements ObjectiveEngine {
             if (!isActive()) {
                 return;
             }
-            status = Status.FAILED;
+            transitionTo(Status.FAILED);
             listener.onObjectiveFailed(toState());
         }
 
-        void onMoveConsumed(Listener listener) {
-            if (!isActive()) {
-                return;
+        private void transitionTo(Status next) {
+            Status previous = status;
+            status = next;
+            if (next == Status.COMPLETED && completedAtTick < 0) {
+                completedAtTick = tick;
             }
-            if (ObjectiveTypes.MOVE_LIMIT.equals(type())) {
-                increment(1, listener);
+            changed();
+            if (!definition.optional()) {
+                countPrimary(previous, -1);
+                countPrimary(next, 1);
+                notifyCounts();
             }
         }
 
+        private void changed() {
+            state = null;
+            markChanged();
+        }
+
         ObjectiveState toState() {
+            if (state == null) {
+                state = buildState();
+            }
+            return state;
+        }
+
+        private ObjectiveState buildState() {
             double ratio;
             if (target > 0) {
                 ratio = Math.min(1.0, (double) progress / target);
@@ -267,18 +419,42 @@ public class StandardObjectiveEngine implements ObjectiveEngine {
                     progress,
                     target,
                     ratio,
-                    definition.tags()
+                    definition.tags(),
+                    completedAtTick
             );
         }
     }
 
-    private static final class ObjectiveTypes {
-        private static final String CLEAR_TAGGED_BRICKS = "clear-tagged-bricks";
-        private static final String DELIVER_COLLECTIBLES = "deliver-collectibles";
-        private static final String SCORE = "score";
-        private static final String MOVE_LIMIT = "move-limit";
+    /**
+     * Objective types understood by this engine, resolved once from the level's type string.
+     */
+    private enum ObjectiveType {
+        CLEAR_TAGGED_BRICKS("clear-tagged-bricks", EventKind.BRICK_CLEARED),
+        DELIVER_COLLECTIBLES("deliver-collectibles", EventKind.COLLECTIBLE_DELIVERED),
+        SCORE("score", EventKind.SCORE_AWARDED),
+        MOVE_LIMIT("move-limit", EventKind.MOVE_CONSUMED),
+        UNKNOWN(null, null);
+
+        private static final Map<String, ObjectiveType> BY_ID = new HashMap<>();
+
+        static {
+            for (ObjectiveType type : values()) {
+                if (type.id != null) {
+                    BY_ID.put(type.id, type);
+                }
+            }
+        }
+
+        private final String id;
+        private final EventKind consumedEvent;
+
+        ObjectiveType(String id, EventKind consumedEvent) {
+            this.id = id;
+            this.consumedEvent = consumedEvent;
+        }
 
-        private ObjectiveTypes() {
+        static ObjectiveType fromId(String id) {
+            return id == null ? UNKNOWN : BY_ID.getOrDefault(id, UNKNOWN);
         }
     }
 }
@@ -0,0 +1,52 @@
+package com.arcade.arkanoid.gameplay.system;
+
+import com.arcade.arkanoid.gameplay.entities.Ball;
+import com.arcade.arkanoid.gameplay.entities.Brick;
+
+import java.util.List;
+
+/**
+ * Resolves ball-vs-brick contacts: bounces the ball off the first live brick it overlaps and
+ * applies the hit. Scoring, events and speed normalisation stay with the caller.
+ */
+public final class BrickCollisionSystem {
+
+    /**
+     * Resolves at most one contact for {@code ball} and returns the brick that was hit, or
+     * {@code null} when the ball touches no live brick. A fire ball passes straight through and
+     * destroys the brick outright.
+     */
+    public Brick resolve(Ball ball, List<Brick> bricks) {
+        // Indexed loop and overlap arithmetic instead of bounds rectangles: runs every tick per ball
+        for (int i = 0; i < bricks.size(); i++) {
+            Brick brick = bricks.get(i);
+            if (brick.isDestroyed())
+                continue;
+            if (brick.intersects(ball)) {
+                if (!ball.isFireActive()) {
+                    double overlapWidth = overlap(brick.getPosition().x, brick.getWidth(),
+                            ball.getPosition().x, ball.getWidth());
+                    double overlapHeight = overlap(brick.getPosition().y, brick.getHeight(),
+                            ball.getPosition().y, ball.getHeight());
+                    if (overlapWidth >= overlapHeight) {
+                        ball.invertY();
+                    } else {
+                        ball.invertX();
+                    }
+                }
+                brick.hit();
+                if (ball.isFireActive()) {
+                    while (!brick.isDestroyed()) {
+                        brick.hit();
+                    }
+                }
+                return brick;
+            }
+        }
+        return null;
+    }
+
+    private static double overlap(double start, double length, double otherStart, double otherLength) {
+        return Math.min(start + length, otherStart + otherLength) - Math.max(start, otherStart);
+    }
+}
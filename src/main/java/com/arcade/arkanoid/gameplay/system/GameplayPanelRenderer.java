@@ -1,9 +1,11 @@
 package com.arcade.arkanoid.gameplay.system;
 
 import com.arcade.arkanoid.engine.util.GradientUtils;
+import com.arcade.arkanoid.engine.util.TextCache;
 import com.arcade.arkanoid.gameplay.levels.LevelDefinition;
 import com.arcade.arkanoid.gameplay.objectives.ObjectiveEngine;
 
+import java.awt.AlphaComposite;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
@@ -23,14 +25,25 @@ public class GameplayPanelRenderer {
     private static final Font VALUE_FONT = new Font("BoldPixels", Font.PLAIN, 30);
     private static final Font SMALL_VALUE_FONT = new Font("BoldPixels", Font.PLAIN, 25);
     private static final Font OBJECTIVE_FONT = new Font("BoldPixels", Font.PLAIN, 16);
+    private static final int OBJECTIVES_TOP = 210;
+    private static final int OBJECTIVE_LINE_HEIGHT = 25;
+    // Space above the first baseline for glyph ascent
+    private static final int OBJECTIVE_ASCENT_PADDING = 20;
 
     // Singleton instance
     private static GameplayPanelRenderer instance;
 
+    private final TextCache textCache = TextCache.getInstance();
+
     // Cached panel background/border for performance
     private BufferedImage cachedPanelBackground;
     private int cachedHeight = -1;
 
+    // Objectives section re-rendered only when the engine's revision changes
+    private BufferedImage cachedObjectives;
+    private ObjectiveEngine cachedObjectivesEngine;
+    private long cachedObjectivesRevision = -1;
+
     private GameplayPanelRenderer() {
         // Private constructor for singleton
     }
@@ -67,6 +80,58 @@ public class GameplayPanelRenderer {
         drawPanelContent(g, screenWidth - PANEL_WIDTH, PANEL_WIDTH, screenHeight, false, 0, 0, level, objectives);
     }
 
+    /**
+     * Same as {@link #render(Graphics2D, int, int, int, int, LevelDefinition, List)}, but pulls
+     * objective states from the engine only when its revision changed and otherwise blits the
+     * cached objectives image.
+     */
+    public void render(Graphics2D g, int screenWidth, int screenHeight,
+            int score, int lives, LevelDefinition level, ObjectiveEngine objectives) {
+        if (cachedPanelBackground == null || cachedHeight != screenHeight) {
+            createCachedPanelBackground(screenHeight);
+            cachedHeight = screenHeight;
+        }
+
+        g.drawImage(cachedPanelBackground, 0, 0, null);
+        g.drawImage(cachedPanelBackground, screenWidth - PANEL_WIDTH, 0, null);
+
+        int rightX = screenWidth - PANEL_WIDTH;
+        drawLeftContent(g, 0, PANEL_WIDTH, score, lives);
+        drawRightHeader(g, rightX, PANEL_WIDTH, level);
+        refreshObjectivesImage(g, objectives);
+        if (cachedObjectives != null) {
+            g.drawImage(cachedObjectives, rightX, OBJECTIVES_TOP - OBJECTIVE_ASCENT_PADDING, null);
+        }
+    }
+
+    private void refreshObjectivesImage(Graphics2D target, ObjectiveEngine engine) {
+        long lastRevision = engine == cachedObjectivesEngine ? cachedObjectivesRevision : -1;
+        List<ObjectiveEngine.ObjectiveState> states = engine.snapshotIfChanged(lastRevision);
+        if (states == null) {
+            return;
+        }
+        cachedObjectivesEngine = engine;
+        cachedObjectivesRevision = engine.revision();
+        if (states.isEmpty()) {
+            cachedObjectives = null;
+            return;
+        }
+        int height = OBJECTIVE_ASCENT_PADDING + states.size() * OBJECTIVE_LINE_HEIGHT;
+        if (cachedObjectives == null || cachedObjectives.getHeight() != height) {
+            cachedObjectives = new BufferedImage(PANEL_WIDTH, height, BufferedImage.TYPE_INT_ARGB);
+        }
+        Graphics2D g = cachedObjectives.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(0, 0, PANEL_WIDTH, height);
+            g.setComposite(AlphaComposite.SrcOver);
+            g.setRenderingHints(target.getRenderingHints());
+            drawObjectives(g, 0, PANEL_WIDTH, OBJECTIVE_ASCENT_PADDING, states);
+        } finally {
+            g.dispose();
+        }
+    }
+
     /**
      * Creates cached panel background with all static visual effects.
      */
@@ -158,18 +223,24 @@ public class GameplayPanelRenderer {
 
     private void drawLeftContent(Graphics2D g, int x, int w, int score, int lives) {
         int centerX = x + w / 2;
-        drawSection(g, centerX, 80, "SCORE", String.valueOf(score), VALUE_FONT);
+        drawSection(g, centerX, 80, "SCORE", null, null);
+        // Score changes every few frames; draw it from cached digit sprites
+        textCache.drawCenteredNumber(g, score, VALUE_FONT, Color.WHITE, centerX, 120);
         drawSection(g, centerX, 200, "LIVES", null, null);
         drawLives(g, centerX, 220, lives);
     }
 
     private void drawRightContent(Graphics2D g, int x, int w, LevelDefinition level,
             List<ObjectiveEngine.ObjectiveState> objectives) {
+        drawRightHeader(g, x, w, level);
+        drawObjectives(g, x, w, OBJECTIVES_TOP, objectives);
+    }
+
+    private void drawRightHeader(Graphics2D g, int x, int w, LevelDefinition level) {
         int centerX = x + w / 2;
         String levelName = level != null ? level.displayName() : "---";
         drawSection(g, centerX, 80, "LEVEL", levelName, SMALL_VALUE_FONT);
         drawSection(g, centerX, 180, "MISSION", null, null);
-        drawObjectives(g, x, w, 210, objectives);
     }
 
     /**
@@ -210,7 +281,7 @@ public class GameplayPanelRenderer {
         int y = startY;
         for (ObjectiveEngine.ObjectiveState obj : objectives) {
             drawObjectiveLine(g, x, w, y, obj);
-            y += 25;
+            y += OBJECTIVE_LINE_HEIGHT;
         }
     }
 
@@ -229,8 +300,6 @@ public class GameplayPanelRenderer {
     }
 
     private void drawCenteredText(Graphics2D g, String text, Font font, Color color, int centerX, int y) {
-        g.setFont(font);
-        g.setColor(color);
-        g.drawString(text, centerX - g.getFontMetrics().stringWidth(text) / 2, y);
+        textCache.drawCentered(g, text, font, color, centerX, y);
     }
 }
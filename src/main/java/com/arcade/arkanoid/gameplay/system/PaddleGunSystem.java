@@ -95,7 +95,7 @@ public final class PaddleGunSystem {
                     if (brick.isDestroyed()) {
                         continue;
                     }
-                    if (bullet.getBounds().intersects(brick.getBounds())) {
+                    if (bullet.intersects(brick)) {
                         brick.hit();
                         if (brick.isDestroyed() && onBrickDestroyed != null) {
                             onBrickDestroyed.accept(brick);
@@ -7,7 +7,6 @@ import com.arcade.arkanoid.gameplay.entities.PowerUp;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
@@ -16,6 +15,15 @@ import java.util.Random;
  * Handles spawning, updating, and rendering of power-ups so GameplayScene stays focused on high-level flow.
  */
 public final class PowerUpController {
+    private static final PowerUp.Type[] DROP_TYPES = {
+            PowerUp.Type.EXPAND_PADDLE,
+            PowerUp.Type.SLOW_BALL,
+            PowerUp.Type.MULTI_BALL,
+            PowerUp.Type.FIRE_BALL,
+            PowerUp.Type.PADDLE_GUN,
+            PowerUp.Type.EXTRA_LIFE
+    };
+
     private final List<PowerUp> activePowerUps = new ArrayList<>();
     private final Random random;
     private final double dropChance;
@@ -36,22 +44,25 @@ public final class PowerUpController {
     }
 
     public void maybeSpawnFrom(Brick brick) {
-        if (brick == null || random.nextDouble() > dropChance) {
+        if (brick == null) {
+            return;
+        }
+        maybeSpawnAt(brick.getPosition().x + brick.getWidth() / 2.0,
+                brick.getPosition().y + brick.getHeight() / 2.0);
+    }
+
+    /**
+     * Rolls the drop chance for a power-up centred on {@code (centerX, centerY)}.
+     */
+    public void maybeSpawnAt(double centerX, double centerY) {
+        if (random.nextDouble() > dropChance) {
             return;
         }
 
-        PowerUp.Type[] types = {
-                PowerUp.Type.EXPAND_PADDLE,
-                PowerUp.Type.SLOW_BALL,
-                PowerUp.Type.MULTI_BALL,
-                PowerUp.Type.FIRE_BALL,
-                PowerUp.Type.PADDLE_GUN,
-                PowerUp.Type.EXTRA_LIFE
-        };
-        PowerUp.Type type = types[random.nextInt(types.length)];
-
-        double spawnX = brick.getPosition().x + brick.getWidth() / 2.0 - powerUpSize / 2.0;
-        double spawnY = brick.getPosition().y + brick.getHeight() / 2.0 - powerUpSize / 2.0;
+        PowerUp.Type type = DROP_TYPES[random.nextInt(DROP_TYPES.length)];
+
+        double spawnX = centerX - powerUpSize / 2.0;
+        double spawnY = centerY - powerUpSize / 2.0;
         PowerUp powerUp = new PowerUp(spawnX, spawnY, powerUpSize, type, colorFor(type));
         activePowerUps.add(powerUp);
     }
@@ -61,19 +72,19 @@ public final class PowerUpController {
             return;
         }
 
-        Iterator<PowerUp> iterator = activePowerUps.iterator();
-        while (iterator.hasNext()) {
-            PowerUp powerUp = iterator.next();
+        // Indexed so the per-tick pass does not allocate an iterator
+        for (int i = 0; i < activePowerUps.size(); i++) {
+            PowerUp powerUp = activePowerUps.get(i);
             powerUp.update(deltaTime);
             if (powerUp.getPosition().y > arenaHeight) {
-                iterator.remove();
+                activePowerUps.remove(i--);
                 continue;
             }
-            if (powerUp.getBounds().intersects(paddle.getBounds())) {
+            if (powerUp.intersects(paddle)) {
                 if (listener != null) {
                     listener.onCollected(powerUp.getType());
                 }
-                iterator.remove();
+                activePowerUps.remove(i--);
             }
         }
     }
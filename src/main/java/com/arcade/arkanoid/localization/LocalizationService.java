@@ -1,48 +1,99 @@
 package com.arcade.arkanoid.localization;
 
 import com.arcade.arkanoid.engine.settings.SettingsManager;
+import com.arcade.arkanoid.engine.util.IOLane;
+import com.arcade.arkanoid.engine.util.IOThreadPool;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Future;
 
+/**
+ * Resolves UI strings through a compiled {@link MessageCatalogue}. Hot call sites resolve their
+ * keys once with {@link #handle(String)} and translate by handle; the string overloads remain for
+ * one-off messages. Switching locale builds the new catalogue on the I/O Thread and swaps it in
+ * atomically, so rendering never sees a half-loaded bundle.
+ */
 public class LocalizationService {
     private static final String DEFAULT_BUNDLE = "i18n/messages_en.json";
     private final ObjectMapper mapper = new ObjectMapper();
     private final SettingsManager settingsManager;
+    private final MessageHandles handles = new MessageHandles();
 
-    private Locale activeLocale;
-    private Map<String, String> messages = Collections.emptyMap();
+    private volatile Locale activeLocale;
+    private volatile MessageCatalogue catalogue;
 
     public LocalizationService(SettingsManager settingsManager) {
         this.settingsManager = settingsManager;
-        setLocale(settingsManager.resolveLocale());
+        Locale initial = settingsManager.resolveLocale();
+        if (initial == null) {
+            initial = Locale.ENGLISH;
+        }
+        this.activeLocale = initial;
+        this.catalogue = compile(initial);
     }
 
-    public void setLocale(Locale locale) {
-        if (locale == null) {
-            locale = Locale.ENGLISH;
-        }
-        this.activeLocale = locale;
-        this.messages = loadBundleForLocale(locale);
-        settingsManager.setLocale(locale);
+    /**
+     * Switches locale. The catalogue is compiled on the I/O asset lane and replaces the current one
+     * when ready; until then the previous language keeps rendering. A newer request supersedes an
+     * older one still in flight.
+     */
+    public Future<?> setLocale(Locale locale) {
+        Locale requested = locale == null ? Locale.ENGLISH : locale;
+        this.activeLocale = requested;
+        settingsManager.setLocale(requested);
+        return IOThreadPool.getInstance().submit(IOLane.ASSET, () -> {
+            MessageCatalogue compiled = compile(requested);
+            synchronized (this) {
+                if (requested.equals(activeLocale)) {
+                    catalogue = compiled;
+                }
+            }
+        });
     }
 
     public Locale getActiveLocale() {
         return activeLocale;
     }
 
+    /**
+     * Catalogue currently used for lookups; its locale lags {@link #getActiveLocale()} while a
+     * switch is being compiled.
+     */
+    public MessageCatalogue getCatalogue() {
+        return catalogue;
+    }
+
+    /**
+     * Resolves {@code key} to a handle that stays valid across locale switches.
+     */
+    public int handle(String key) {
+        return handles.handleOf(key);
+    }
+
+    public String translate(int handle) {
+        return catalogue.text(handle);
+    }
+
+    public String translate(int handle, Object... args) {
+        return catalogue.format(handle, args);
+    }
+
+    public String translate(String key) {
+        return catalogue.text(handles.handleOf(key));
+    }
+
     public String translate(String key, Object... args) {
-        String pattern = messages.getOrDefault(key, key);
-        if (args == null || args.length == 0) {
-            return pattern;
-        }
-        return MessageFormat.format(pattern, args);
+        return catalogue.format(handles.handleOf(key), args);
+    }
+
+    private MessageCatalogue compile(Locale locale) {
+        return MessageCatalogue.compile(locale, loadBundleForLocale(locale), handles);
     }
 
     private Map<String, String> loadBundleForLocale(Locale locale) {
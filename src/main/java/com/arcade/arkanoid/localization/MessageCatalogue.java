@@ -0,0 +1,84 @@
+package com.arcade.arkanoid.localization;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable, compiled view of one locale's bundle. Messages are stored in arrays indexed by
+ * handle: argument-free lookups return the cached pattern string and patterns with placeholders
+ * are parsed once into a {@link MessageFormat}. Keys interned after compilation fall back to the
+ * raw bundle map, matching the old lookup behaviour.
+ */
+public final class MessageCatalogue {
+    private final Locale locale;
+    private final Map<String, String> bundle;
+    private final MessageHandles handles;
+    private final String[] patterns;
+    private final MessageFormat[] formats;
+
+    private MessageCatalogue(Locale locale, Map<String, String> bundle, MessageHandles handles) {
+        this.locale = locale;
+        this.bundle = bundle;
+        this.handles = handles;
+        for (String key : bundle.keySet()) {
+            handles.handleOf(key);
+        }
+        int size = handles.size();
+        this.patterns = new String[size];
+        this.formats = new MessageFormat[size];
+        for (Map.Entry<String, String> entry : bundle.entrySet()) {
+            int handle = handles.handleOf(entry.getKey());
+            String pattern = entry.getValue();
+            patterns[handle] = pattern;
+            if (pattern != null && pattern.indexOf('{') >= 0) {
+                formats[handle] = parse(entry.getKey(), pattern);
+            }
+        }
+    }
+
+    static MessageCatalogue compile(Locale locale, Map<String, String> bundle, MessageHandles handles) {
+        return new MessageCatalogue(locale, bundle, handles);
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns the message for {@code handle} without formatting, or its key if the bundle lacks it.
+     */
+    String text(int handle) {
+        if (handle >= 0 && handle < patterns.length) {
+            String pattern = patterns[handle];
+            if (pattern != null) {
+                return pattern;
+            }
+        }
+        String key = handles.keyOf(handle);
+        return key == null ? null : bundle.getOrDefault(key, key);
+    }
+
+    String format(int handle, Object[] args) {
+        if (args == null || args.length == 0) {
+            return text(handle);
+        }
+        MessageFormat format = handle >= 0 && handle < formats.length ? formats[handle] : null;
+        if (format == null) {
+            return MessageFormat.format(text(handle), args);
+        }
+        // MessageFormat keeps parse state per instance; render and update may share a catalogue.
+        synchronized (format) {
+            return format.format(args);
+        }
+    }
+
+    private static MessageFormat parse(String key, String pattern) {
+        try {
+            return new MessageFormat(pattern);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid message pattern for " + key + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.arcade.arkanoid.localization;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns message keys to dense integer handles shared by every catalogue of one
+ * {@link LocalizationService}, so a handle resolved once stays valid across locale switches.
+ */
+final class MessageHandles {
+    private final ConcurrentHashMap<String, Integer> handles = new ConcurrentHashMap<>();
+    private volatile String[] keys = new String[0];
+
+    int handleOf(String key) {
+        if (key == null) {
+            return -1;
+        }
+        Integer handle = handles.get(key);
+        return handle != null ? handle : intern(key);
+    }
+
+    String keyOf(int handle) {
+        String[] snapshot = keys;
+        return handle >= 0 && handle < snapshot.length ? snapshot[handle] : null;
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    private synchronized int intern(String key) {
+        Integer existing = handles.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        String[] grown = new String[keys.length + 1];
+        System.arraycopy(keys, 0, grown, 0, keys.length);
+        int handle = keys.length;
+        grown[handle] = key;
+        keys = grown;
+        handles.put(key, handle);
+        return handle;
+    }
+}
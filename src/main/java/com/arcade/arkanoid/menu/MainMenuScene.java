@@ -2,10 +2,13 @@ package com.arcade.arkanoid.menu;
 
 import com.arcade.arkanoid.ArkanoidGame;
 import com.arcade.arkanoid.engine.core.GameContext;
+import com.arcade.arkanoid.engine.input.InputCommand;
 import com.arcade.arkanoid.engine.input.InputManager;
 import com.arcade.arkanoid.engine.scene.Scene;
+import com.arcade.arkanoid.engine.scene.SceneManager;
 import com.arcade.arkanoid.engine.util.FontLoader;
 import com.arcade.arkanoid.engine.util.GradientUtils;
+import com.arcade.arkanoid.engine.util.TextCache;
 import com.arcade.arkanoid.engine.assets.AssetManager;
 import com.arcade.arkanoid.engine.audio.BackgroundMusicManager;
 import com.arcade.arkanoid.gameplay.GameplayScene;
@@ -18,7 +21,6 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.GradientPaint;
 import java.awt.Graphics2D;
-import java.awt.RenderingHints;
 import java.awt.event.KeyEvent;
 import java.awt.image.BufferedImage;
 
@@ -42,9 +44,16 @@ public class MainMenuScene extends Scene {
     private final Font hintFont = new Font("BoldPixels", Font.PLAIN, 16);
     private final Font iconLabelFont = new Font("BoldPixels", Font.PLAIN, 28);
 
+    private static final String TITLE = "ARKANOID";
+    private static final String SUBTITLE = "REBORN";
     private static final int ICON_SIZE = 60;
     private static final int ICON_MARGIN = 30;
     private static final int ICON_LABEL_OFFSET = 20;
+    private static final Color OPTION_COLOR = new Color(220, 220, 220);
+    private static final Color SELECTOR_COLOR = new Color(0xFFEB3B);
+    private static final Color HINT_COLOR = new Color(190, 190, 190);
+
+    private final TextCache textCache = TextCache.getInstance();
 
     private final LocalizationService localization;
     private final EconomyService economy;
@@ -57,8 +66,6 @@ public class MainMenuScene extends Scene {
     private BufferedImage tutorialIcon;
     private double animationTime = 0;
 
-    private BufferedImage cachedTitle;
-    private BufferedImage cachedSubtitle;
 
     /**
      * Constructs a new MainMenuScene.
@@ -91,7 +98,8 @@ public class MainMenuScene extends Scene {
         BackgroundMusicManager musicManager = BackgroundMusicManager.getInstance();
         musicManager.setVolume(settings.getMusicVolume() / 100f);
         musicManager.playTheme("menu_theme", "/sounds/theme_song.mp3");
-        createCachedTitles();
+        GradientUtils.prepare3DSpaceTextFullQuality(TITLE, titleFont);
+        GradientUtils.prepare3DSpaceTextFullQuality(SUBTITLE, subtitleFont);
 
         GameplayScene gameplay = (GameplayScene) context.getScenes().getPersistentScene(ArkanoidGame.SCENE_GAMEPLAY);
         boolean resumeAvailable = gameplay != null && gameplay.isSessionActive();
@@ -101,6 +109,7 @@ public class MainMenuScene extends Scene {
                 : new MenuAction[] { MenuAction.WORLD_MAP, MenuAction.SHOP, MenuAction.SAVE_SLOTS,
                         MenuAction.SETTINGS, MenuAction.EXIT };
         selectedIndex = 0;
+        context.getScenes().prefetch(ArkanoidGame.SCENE_MAP);
     }
 
     /**
@@ -120,6 +129,7 @@ public class MainMenuScene extends Scene {
     @Override
     public void update(double deltaTime) {
         animationTime += deltaTime;
+        // Letter shortcuts have no game action, so they stay on the keyboard
         InputManager input = context.getInput();
 
         if (input.isKeyJustPressed(KeyEvent.VK_P)) {
@@ -135,12 +145,13 @@ public class MainMenuScene extends Scene {
         if (options.length == 0)
             return;
 
-        int move = input.isKeyJustPressed(KeyEvent.VK_UP) || input.isKeyJustPressed(KeyEvent.VK_W) ? -1
-                : input.isKeyJustPressed(KeyEvent.VK_DOWN) || input.isKeyJustPressed(KeyEvent.VK_S) ? 1 : 0;
+        InputCommand command = context.getCommand();
+        int move = command.wasPressed(InputCommand.MOVE_UP) ? -1
+                : command.wasPressed(InputCommand.MOVE_DOWN) ? 1 : 0;
 
         if (move != 0) {
             selectedIndex = (selectedIndex + move + options.length) % options.length;
-        } else if (input.isKeyJustPressed(KeyEvent.VK_ENTER) || input.isKeyJustPressed(KeyEvent.VK_SPACE)) {
+        } else if (command.wasPressed(InputCommand.CONFIRM | InputCommand.LAUNCH)) {
             handleSelection();
         }
     }
@@ -157,7 +168,7 @@ public class MainMenuScene extends Scene {
         GameplayScene gameplay = (GameplayScene) context.getScenes().getPersistentScene(ArkanoidGame.SCENE_GAMEPLAY);
         switch (action) {
             case WORLD_MAP:
-                context.getScenes().switchTo(ArkanoidGame.SCENE_MAP);
+                context.getScenes().switchTo(ArkanoidGame.SCENE_MAP, SceneManager.DEFAULT_FADE_SECONDS);
                 break;
             case SHOP:
                 context.getScenes().switchTo(ArkanoidGame.SCENE_SHOP);
@@ -165,7 +176,7 @@ public class MainMenuScene extends Scene {
             case RESUME:
                 if (gameplay != null && gameplay.isSessionActive()) {
                     BackgroundMusicManager.getInstance().stopTheme();
-                    context.getScenes().switchTo(ArkanoidGame.SCENE_GAMEPLAY);
+                    context.getScenes().switchTo(ArkanoidGame.SCENE_GAMEPLAY, SceneManager.DEFAULT_FADE_SECONDS);
                 }
                 break;
             case SAVE_SLOTS:
@@ -227,11 +238,8 @@ public class MainMenuScene extends Scene {
             g.drawImage(icon, drawX, drawY, drawW, drawH, null);
         }
 
-        g.setFont(iconLabelFont);
-        g.setColor(Color.WHITE);
-        int textX = x + (ICON_SIZE - g.getFontMetrics().stringWidth(label)) / 2;
         int textY = ICON_MARGIN + ICON_SIZE + ICON_LABEL_OFFSET;
-        g.drawString(label, textX, textY);
+        textCache.drawCentered(g, label, iconLabelFont, Color.WHITE, x + ICON_SIZE / 2, textY);
     }
 
     /**
@@ -254,36 +262,6 @@ public class MainMenuScene extends Scene {
         drawIconWithLabel(g, tutorialIcon, "TUTORIAL", width - ICON_SIZE - ICON_MARGIN);
     }
 
-    /**
-     * Creates cached BufferedImages for title and subtitle to improve performance.
-     * These are rendered once at high quality and reused every frame.
-     */
-    private void createCachedTitles() {
-        String title = "ARKANOID";
-        int titleWidth = (int) titleFont.createGlyphVector(
-                new java.awt.font.FontRenderContext(null, true, true), title).getVisualBounds().getWidth();
-        int titleHeight = 200;
-
-        cachedTitle = new BufferedImage(titleWidth + 100, titleHeight, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g = cachedTitle.createGraphics();
-        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-        GradientUtils.draw3DSpaceTextFullQuality(g, title, titleFont, 50, 100);
-        g.dispose();
-
-        String subtitle = "REBORN";
-        int subtitleWidth = (int) subtitleFont.createGlyphVector(
-                new java.awt.font.FontRenderContext(null, true, true), subtitle).getVisualBounds().getWidth();
-        int subtitleHeight = 150;
-
-        cachedSubtitle = new BufferedImage(subtitleWidth + 100, subtitleHeight, BufferedImage.TYPE_INT_ARGB);
-        g = cachedSubtitle.createGraphics();
-        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-        GradientUtils.draw3DSpaceTextFullQuality(g, subtitle, subtitleFont, 50, 50);
-        g.dispose();
-    }
-
     /**
      * Renders the main menu scene.
      * Draws title, hint, and UI elements.
@@ -297,41 +275,27 @@ public class MainMenuScene extends Scene {
         drawPlayerStats(graphics);
         drawTutorialIcon(graphics);
 
-        if (cachedTitle != null) {
-            String title = "ARKANOID";
-            int titleWidth = graphics.getFontMetrics(titleFont).stringWidth(title);
-            int titleX = (width - titleWidth) / 2 - 50;
-            int titleY = 50;
-            graphics.drawImage(cachedTitle, titleX, titleY, null);
-        }
+        int titleWidth = graphics.getFontMetrics(titleFont).stringWidth(TITLE);
+        GradientUtils.draw3DSpaceTextFullQuality(graphics, TITLE, titleFont, (width - titleWidth) / 2, 150);
 
-        if (cachedSubtitle != null) {
-            String subtitle = "REBORN";
-            graphics.setFont(subtitleFont);
-            int subtitleWidth = graphics.getFontMetrics().stringWidth(subtitle);
-            int subtitleX = (width - subtitleWidth) / 2 - 50;
-            int subtitleY = 200;
-            graphics.drawImage(cachedSubtitle, subtitleX, subtitleY, null);
-        }
+        int subtitleWidth = graphics.getFontMetrics(subtitleFont).stringWidth(SUBTITLE);
+        GradientUtils.draw3DSpaceTextFullQuality(graphics, SUBTITLE, subtitleFont, (width - subtitleWidth) / 2, 250);
 
-        graphics.setFont(optionFont);
         for (int i = 0; i < options.length; i++) {
             String option = labelFor(options[i]);
-            int optionWidth = graphics.getFontMetrics().stringWidth(option);
+            Color color = i == selectedIndex ? Color.WHITE : OPTION_COLOR;
+            int optionWidth = textCache.stringWidth(graphics, option, optionFont, color);
             int x = (width - optionWidth) / 2;
             int y = 340 + i * 70;
             if (i == selectedIndex) {
-                graphics.setColor(new Color(0xFFEB3B));
-                graphics.drawString(">", x - 40, y);
+                textCache.drawString(graphics, ">", optionFont, SELECTOR_COLOR, x - 40, y);
             }
-            graphics.setColor(i == selectedIndex ? Color.WHITE : new Color(220, 220, 220));
-            graphics.drawString(option, x, y);
+            textCache.drawString(graphics, option, optionFont, color, x, y);
         }
 
-        graphics.setFont(hintFont);
-        graphics.setColor(new Color(190, 190, 190));
-        graphics.drawString(localization.translate("menu.hint.profile"), 40, context.getConfig().height() - 30);
-        graphics.drawString(localization.translate("menu.hint.tutorial"), 40, context.getConfig().height() - 60);
+        int height = context.getConfig().height();
+        textCache.drawString(graphics, localization.translate("menu.hint.profile"), hintFont, HINT_COLOR, 40, height - 30);
+        textCache.drawString(graphics, localization.translate("menu.hint.tutorial"), hintFont, HINT_COLOR, 40, height - 60);
     }
 
     /**
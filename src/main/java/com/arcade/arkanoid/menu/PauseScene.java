@@ -2,16 +2,20 @@ package com.arcade.arkanoid.menu;
 
 import com.arcade.arkanoid.ArkanoidGame;
 import com.arcade.arkanoid.engine.core.GameContext;
-import com.arcade.arkanoid.engine.input.InputManager;
+import com.arcade.arkanoid.engine.input.InputCommand;
 import com.arcade.arkanoid.engine.scene.Scene;
 import com.arcade.arkanoid.gameplay.GameplayScene;
 
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
-import java.awt.event.KeyEvent;
 
+/**
+ * Pause menu pushed as an overlay on gameplay; the arena stays visible, frozen, underneath.
+ */
 public class PauseScene extends Scene {
+    private static final Color BACKDROP = new Color(0, 0, 0, 150);
+    private static final Color SELECTED_COLOR = new Color(0xFFEB3B);
     private final Font titleFont = new Font("BoldPixels", Font.PLAIN, 80);
     private final Font optionFont = new Font("BoldPixels", Font.PLAIN, 40);
     private final String[] options = { "Resume", "Restart Level", "Main Menu" };
@@ -32,20 +36,25 @@ public class PauseScene extends Scene {
         selected = 0;
     }
 
+    @Override
+    public double overlayOpacity() {
+        return BACKDROP.getAlpha() / 255.0;
+    }
+
     @Override
     public void update(double deltaTime) {
-        InputManager input = context.getInput();
+        InputCommand command = context.getCommand();
 
-        if (input.isKeyJustPressed(KeyEvent.VK_UP) || input.isKeyJustPressed(KeyEvent.VK_W)) {
+        if (command.wasPressed(InputCommand.MOVE_UP)) {
             selected = (selected - 1 + options.length) % options.length;
         }
-        if (input.isKeyJustPressed(KeyEvent.VK_DOWN) || input.isKeyJustPressed(KeyEvent.VK_S)) {
+        if (command.wasPressed(InputCommand.MOVE_DOWN)) {
             selected = (selected + 1) % options.length;
         }
-        if (input.isKeyJustPressed(KeyEvent.VK_ENTER) || input.isKeyJustPressed(KeyEvent.VK_SPACE)) {
+        if (command.wasPressed(InputCommand.CONFIRM | InputCommand.LAUNCH)) {
             executeSelection();
         }
-        if (input.isKeyJustPressed(KeyEvent.VK_ESCAPE)) {
+        if (command.wasPressed(InputCommand.PAUSE)) {
             resumeGameplay();
         }
     }
@@ -72,7 +81,7 @@ public class PauseScene extends Scene {
         if (gameplayScene != null) {
             gameplayScene.resumeFromPause();
         }
-        context.getScenes().switchTo(ArkanoidGame.SCENE_GAMEPLAY);
+        context.getScenes().pop();
     }
 
     @Override
@@ -80,12 +89,8 @@ public class PauseScene extends Scene {
         int width = context.getConfig().width();
         int height = context.getConfig().height();
 
-        if (gameplayScene != null) {
-            gameplayScene.render(graphics);
-        }
-
-        // Semi-transparent overlay
-        graphics.setColor(new Color(0, 0, 0, 150));
+        // Gameplay below is drawn by the scene manager from its frozen frame
+        graphics.setColor(BACKDROP);
         graphics.fillRect(0, 0, width, height);
 
         graphics.setColor(Color.WHITE);
@@ -100,7 +105,7 @@ public class PauseScene extends Scene {
             int textWidth = graphics.getFontMetrics().stringWidth(option);
             int x = (width - textWidth) / 2;
             int y = height / 2 + i * 50;
-            graphics.setColor(i == selected ? new Color(0xFFEB3B) : Color.LIGHT_GRAY);
+            graphics.setColor(i == selected ? SELECTED_COLOR : Color.LIGHT_GRAY);
             graphics.drawString(option, x, y);
         }
     }
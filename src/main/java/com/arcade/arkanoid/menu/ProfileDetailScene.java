@@ -2,14 +2,13 @@ package com.arcade.arkanoid.menu;
 
 import com.arcade.arkanoid.ArkanoidGame;
 import com.arcade.arkanoid.engine.core.GameContext;
-import com.arcade.arkanoid.engine.input.InputManager;
+import com.arcade.arkanoid.engine.input.InputCommand;
 import com.arcade.arkanoid.engine.scene.Scene;
 import com.arcade.arkanoid.engine.audio.BackgroundMusicManager;
 import com.arcade.arkanoid.localization.LocalizationService;
 import com.arcade.arkanoid.profile.PlayerProfile;
 
 import java.awt.*;
-import java.awt.event.KeyEvent;
 import java.awt.image.BufferedImage;
 import java.time.Duration;
 import java.time.Instant;
@@ -63,11 +62,10 @@ public class ProfileDetailScene extends Scene {
     @Override
     public void update(double deltaTime) {
         animationTime += deltaTime;
-        InputManager input = context.getInput();
+        InputCommand command = context.getCommand();
 
         // Press ESC or ENTER to go back
-        if (input.isKeyJustPressed(KeyEvent.VK_ESCAPE) ||
-                input.isKeyJustPressed(KeyEvent.VK_ENTER)) {
+        if (command.wasPressed(InputCommand.PAUSE | InputCommand.CONFIRM)) {
             context.getScenes().switchTo(ArkanoidGame.SCENE_MENU);
         }
     }
@@ -2,7 +2,7 @@ package com.arcade.arkanoid.menu;
 
 import com.arcade.arkanoid.ArkanoidGame;
 import com.arcade.arkanoid.engine.core.GameContext;
-import com.arcade.arkanoid.engine.input.InputManager;
+import com.arcade.arkanoid.engine.input.InputCommand;
 import com.arcade.arkanoid.engine.scene.Scene;
 import com.arcade.arkanoid.gameplay.entities.PowerUp;
 import com.arcade.arkanoid.localization.LocalizationService;
@@ -11,7 +11,6 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
-import java.awt.event.KeyEvent;
 
 /**
  * Tutorial scene to teach players about game controls and power-ups.
@@ -42,22 +41,22 @@ public class TutorialScene extends Scene {
 
     @Override
     public void update(double deltaTime) {
-        InputManager input = context.getInput();
+        InputCommand command = context.getCommand();
 
-        if (input.isKeyJustPressed(KeyEvent.VK_ESCAPE)) {
+        if (command.wasPressed(InputCommand.PAUSE)) {
             context.getScenes().switchTo(ArkanoidGame.SCENE_MENU);
             return;
         }
 
-        if (input.isKeyJustPressed(KeyEvent.VK_LEFT) || input.isKeyJustPressed(KeyEvent.VK_A)) {
+        if (command.wasPressed(InputCommand.MOVE_LEFT)) {
             currentPage = (currentPage - 1 + TOTAL_PAGES) % TOTAL_PAGES;
         }
 
-        if (input.isKeyJustPressed(KeyEvent.VK_RIGHT) || input.isKeyJustPressed(KeyEvent.VK_D)) {
+        if (command.wasPressed(InputCommand.MOVE_RIGHT)) {
             currentPage = (currentPage + 1) % TOTAL_PAGES;
         }
 
-        if (input.isKeyJustPressed(KeyEvent.VK_ENTER) || input.isKeyJustPressed(KeyEvent.VK_SPACE)) {
+        if (command.wasPressed(InputCommand.CONFIRM | InputCommand.LAUNCH)) {
             context.getScenes().switchTo(ArkanoidGame.SCENE_MENU);
         }
     }
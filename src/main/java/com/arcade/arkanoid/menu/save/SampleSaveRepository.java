@@ -1,28 +1,65 @@
 package com.arcade.arkanoid.menu.save;
 
+import com.arcade.arkanoid.engine.util.AtomicFileWriter;
+import com.arcade.arkanoid.engine.util.IOThreadPool;
 import com.arcade.arkanoid.profile.PlayerProfile;
+import com.arcade.arkanoid.profile.ProfileBinaryCodec;
+import com.arcade.arkanoid.profile.ProfileFormat;
+import com.arcade.arkanoid.profile.ProfileSnapshot;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Future;
 
+/**
+ * Stores save slots in the install's {@link ProfileFormat}. Slots still in the other format are
+ * read transparently and replaced the next time they are written.
+ * A small index file mirrors every slot's summary so the save menu never has to deserialise full
+ * profiles; it is kept current by {@link #writeSlot} and {@link #deleteSlot} and rebuilt from the
+ * slot files if it is missing.
+ */
 public class SampleSaveRepository {
+    private static final int SLOT_MAGIC = 0x41524B53; // "ARKS"
+    private static final int SLOT_VERSION = 1;
+    private static final String INDEX_FILE = "save-slots.index.json";
+
     private final Path saveDir;
     private final ObjectMapper mapper;
+    private final ProfileFormat format;
+    private final AtomicFileWriter indexWriter;
+    private final Map<Integer, SlotIndexEntry> index = new TreeMap<>();
+    private boolean indexLoaded;
 
     public SampleSaveRepository() {
         this(Paths.get("data", "profiles"));
     }
 
     public SampleSaveRepository(Path saveDir) {
+        this(saveDir, ProfileFormat.configured(saveDir));
+    }
+
+    public SampleSaveRepository(Path saveDir, ProfileFormat format) {
         this.saveDir = saveDir;
+        this.format = format;
         this.mapper = new ObjectMapper().findAndRegisterModules();
+        this.indexWriter = new AtomicFileWriter(saveDir.resolve(INDEX_FILE), 0);
     }
 
+    /**
+     * Reads and fully deserialises every slot. Prefer {@link #loadSlotIndex} for listing slots.
+     */
     public List<SaveSlotSummary> loadSlots(int maxSlots) {
         List<SaveSlotSummary> summaries = new ArrayList<>();
         for (int slot = 1; slot <= maxSlots; slot++) {
@@ -31,13 +68,49 @@ public class SampleSaveRepository {
         return summaries;
     }
 
+    /**
+     * Returns slot summaries from the index only; occupied summaries carry no profile, use
+     * {@link #loadProfile(int)} once a slot is chosen.
+     */
+    public synchronized List<SaveSlotSummary> loadSlotIndex(int maxSlots) {
+        ensureIndexLoaded();
+        List<SaveSlotSummary> summaries = new ArrayList<>(maxSlots);
+        for (int slot = 1; slot <= maxSlots; slot++) {
+            SlotIndexEntry entry = index.get(slot);
+            summaries.add(entry != null ? entry.toSummary() : new SaveSlotSummary(slot, null, 0));
+        }
+        return summaries;
+    }
+
+    /**
+     * Loads the slot index on the I/O Thread.
+     */
+    public Future<List<SaveSlotSummary>> loadSlotIndexAsync(int maxSlots) {
+        return IOThreadPool.getInstance().submit(() -> loadSlotIndex(maxSlots));
+    }
+
+    /**
+     * Fully loads the profile stored in a slot, or returns {@code null} if the slot is empty or
+     * unreadable.
+     */
+    public PlayerProfile loadProfile(int slotId) {
+        return loadSlot(slotId).getProfile();
+    }
+
     private SaveSlotSummary loadSlot(int slotId) {
-        Path path = resolveSlotPath(slotId);
+        ProfileFormat encoding = format;
+        Path path = resolveSlotPath(slotId, encoding);
+        if (!Files.exists(path)) {
+            encoding = format.other();
+            path = resolveSlotPath(slotId, encoding);
+        }
         if (!Files.exists(path)) {
             return new SaveSlotSummary(slotId, null, 0);
         }
         try {
-            SlotFile file = mapper.readValue(path.toFile(), SlotFile.class);
+            SlotFile file = encoding == ProfileFormat.BINARY
+                    ? readBinarySlot(path)
+                    : mapper.readValue(path.toFile(), SlotFile.class);
             PlayerProfile profile = file.profile;
             if (profile != null) {
                 profile.ensureDefaults();
@@ -50,32 +123,154 @@ public class SampleSaveRepository {
     }
 
     public void deleteSlot(int slotId) {
-        Path path = resolveSlotPath(slotId);
         try {
-            Files.deleteIfExists(path);
+            Files.deleteIfExists(resolveSlotPath(slotId, format));
+            Files.deleteIfExists(resolveSlotPath(slotId, format.other()));
         } catch (IOException e) {
             System.err.println("Failed to delete save slot " + slotId + ": " + e.getMessage());
         }
+        synchronized (this) {
+            ensureIndexLoaded();
+            if (index.remove(slotId) != null) {
+                persistIndex();
+            }
+        }
     }
 
     public void writeSlot(int slotId, PlayerProfile profile) {
         profile.ensureDefaults();
-        Path path = resolveSlotPath(slotId);
+        writeSlot(slotId, profile.snapshot());
+    }
+
+    /**
+     * Writes a slot from an immutable snapshot; used by the post-save listener on the I/O Thread.
+     */
+    public void writeSlot(int slotId, ProfileSnapshot profile) {
+        Path path = resolveSlotPath(slotId, format);
         try {
             Files.createDirectories(path.getParent());
-            SlotFile file = new SlotFile();
+            SlotSnapshotFile file = new SlotSnapshotFile();
             file.slotId = slotId;
             file.name = profile.getDisplayName();
             file.profile = profile;
             file.lastPlayed = System.currentTimeMillis() / 1000;
-            mapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), file);
+            if (format == ProfileFormat.BINARY) {
+                writeBinarySlot(path, file);
+            } else {
+                mapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), file);
+            }
+            // The slot now lives in the configured format; drop any copy left in the old one.
+            Files.deleteIfExists(resolveSlotPath(slotId, format.other()));
         } catch (IOException e) {
             System.err.println("Failed to write save slot " + slotId + ": " + e.getMessage());
+            return;
+        }
+        synchronized (this) {
+            ensureIndexLoaded();
+            index.put(slotId, SlotIndexEntry.of(slotId, profile.getDisplayName(), profile.getCurrentLevelId(),
+                    profile.getLives(), profile.getCoins(), profile.getDailyStreak(), System.currentTimeMillis() / 1000,
+                    profile.getActivePaddleSkin(), profile.getActiveBallSkin(),
+                    profile.getOwnedPaddleSkins().size(), profile.getOwnedBallSkins().size()));
+            persistIndex();
+        }
+    }
+
+    public ProfileFormat getFormat() {
+        return format;
+    }
+
+    private void ensureIndexLoaded() {
+        if (indexLoaded) {
+            return;
+        }
+        indexLoaded = true;
+        SlotIndexFile file = indexWriter.readNewest(path -> mapper.readValue(path.toFile(), SlotIndexFile.class));
+        if (file != null && file.slots != null) {
+            for (SlotIndexEntry entry : file.slots) {
+                index.put(entry.slotId, entry);
+            }
+            return;
+        }
+        rebuildIndex();
+    }
+
+    /**
+     * One-off scan of the slot files, used when the index is missing or unreadable.
+     */
+    private void rebuildIndex() {
+        if (!Files.isDirectory(saveDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(saveDir, "save-slot-*")) {
+            for (Path path : stream) {
+                int slotId = parseSlotId(path.getFileName().toString());
+                if (slotId <= 0 || index.containsKey(slotId)) {
+                    continue;
+                }
+                SaveSlotSummary summary = loadSlot(slotId);
+                if (summary.isOccupied()) {
+                    index.put(slotId, SlotIndexEntry.of(summary));
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to rebuild save slot index: " + e.getMessage());
+            return;
+        }
+        persistIndex();
+    }
+
+    private void persistIndex() {
+        SlotIndexFile file = new SlotIndexFile();
+        file.slots = new ArrayList<>(index.values());
+        try {
+            indexWriter.write(stream -> mapper.writeValue(stream, file));
+        } catch (IOException e) {
+            System.err.println("Failed to write save slot index: " + e.getMessage());
+        }
+    }
+
+    private static int parseSlotId(String fileName) {
+        String id = fileName.substring("save-slot-".length());
+        int dot = id.indexOf('.');
+        if (dot >= 0) {
+            id = id.substring(0, dot);
+        }
+        try {
+            return Integer.parseInt(id);
+        } catch (NumberFormatException e) {
+            return -1;
         }
     }
 
-    private Path resolveSlotPath(int slotId) {
-        return saveDir.resolve("save-slot-" + slotId + ".json");
+    private Path resolveSlotPath(int slotId, ProfileFormat encoding) {
+        return saveDir.resolve("save-slot-" + slotId + encoding.extension());
+    }
+
+    private static void writeBinarySlot(Path path, SlotSnapshotFile file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
+            ProfileBinaryCodec.writeMagic(out, SLOT_MAGIC);
+            ProfileBinaryCodec.writeVarLong(out, SLOT_VERSION);
+            ProfileBinaryCodec.writeVarInt(out, file.slotId);
+            ProfileBinaryCodec.writeString(out, file.name);
+            ProfileBinaryCodec.writeSignedVarLong(out, file.lastPlayed);
+            ProfileBinaryCodec.writeProfile(file.profile, out);
+        }
+    }
+
+    private static SlotFile readBinarySlot(Path path) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            ProfileBinaryCodec.readMagic(in, SLOT_MAGIC, "save slot");
+            long version = ProfileBinaryCodec.readVarLong(in);
+            if (version < 1 || version > SLOT_VERSION) {
+                throw new IOException("Unsupported save slot version " + version);
+            }
+            SlotFile file = new SlotFile();
+            file.slotId = ProfileBinaryCodec.readVarInt(in);
+            file.name = ProfileBinaryCodec.readString(in);
+            file.lastPlayed = ProfileBinaryCodec.readSignedVarLong(in);
+            file.profile = ProfileBinaryCodec.readProfile(in);
+            return file;
+        }
     }
 
     private static class SlotFile {
@@ -84,4 +279,66 @@ public class SampleSaveRepository {
         public PlayerProfile profile;
         public long lastPlayed;
     }
+
+    /**
+     * Write-side mirror of {@link SlotFile}; produces the same JSON document.
+     */
+    private static class SlotSnapshotFile {
+        public int slotId;
+        public String name;
+        public ProfileSnapshot profile;
+        public long lastPlayed;
+    }
+
+    private static class SlotIndexFile {
+        public int version = 1;
+        public List<SlotIndexEntry> slots;
+    }
+
+    /**
+     * Persisted {@link SaveSlotSummary} fields for one occupied slot.
+     */
+    private static class SlotIndexEntry {
+        public int slotId;
+        public String name;
+        public String currentLevelId;
+        public int lives;
+        public int coins;
+        public int dailyStreak;
+        public long lastPlayed;
+        public String activePaddleSkin;
+        public String activeBallSkin;
+        public int ownedPaddleSkins;
+        public int ownedBallSkins;
+
+        static SlotIndexEntry of(int slotId, String name, String currentLevelId, int lives, int coins,
+                                 int dailyStreak, long lastPlayed, String activePaddleSkin,
+                                 String activeBallSkin, int ownedPaddleSkins, int ownedBallSkins) {
+            SlotIndexEntry entry = new SlotIndexEntry();
+            entry.slotId = slotId;
+            entry.name = name;
+            entry.currentLevelId = currentLevelId;
+            entry.lives = lives;
+            entry.coins = coins;
+            entry.dailyStreak = dailyStreak;
+            entry.lastPlayed = lastPlayed;
+            entry.activePaddleSkin = activePaddleSkin;
+            entry.activeBallSkin = activeBallSkin;
+            entry.ownedPaddleSkins = ownedPaddleSkins;
+            entry.ownedBallSkins = ownedBallSkins;
+            return entry;
+        }
+
+        static SlotIndexEntry of(SaveSlotSummary summary) {
+            return of(summary.getSlotId(), summary.getDisplayName(), summary.getCurrentLevelId(),
+                    summary.getLives(), summary.getCoins(), summary.getDailyStreak(),
+                    summary.getLastPlayedEpochSeconds(), summary.getActivePaddleSkin(),
+                    summary.getActiveBallSkin(), summary.getOwnedPaddleSkins(), summary.getOwnedBallSkins());
+        }
+
+        SaveSlotSummary toSummary() {
+            return new SaveSlotSummary(slotId, name, currentLevelId, lives, coins, dailyStreak, lastPlayed,
+                    activePaddleSkin, activeBallSkin, ownedPaddleSkins, ownedBallSkins);
+        }
+    }
 }
@@ -2,7 +2,7 @@ package com.arcade.arkanoid.menu.save;
 
 import com.arcade.arkanoid.ArkanoidGame;
 import com.arcade.arkanoid.engine.core.GameContext;
-import com.arcade.arkanoid.engine.input.InputManager;
+import com.arcade.arkanoid.engine.input.InputCommand;
 import com.arcade.arkanoid.engine.scene.Scene;
 import com.arcade.arkanoid.localization.LocalizationService;
 import com.arcade.arkanoid.profile.PlayerProfile;
@@ -11,12 +11,13 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
-import java.awt.event.KeyEvent;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 public class SaveMenuScene extends Scene {
     private static final int MAX_SLOTS = 4;
@@ -31,6 +32,7 @@ public class SaveMenuScene extends Scene {
     private final Font hintFont = new Font("SansSerif", Font.PLAIN, 16);
 
     private List<SaveSlotSummary> slots = new ArrayList<>();
+    private Future<List<SaveSlotSummary>> pendingSlots;
     private int selectedIndex;
     private String statusMessage = "";
 
@@ -46,42 +48,75 @@ public class SaveMenuScene extends Scene {
 
     @Override
     public void onEnter() {
-        slots = repository.loadSlots(MAX_SLOTS);
-        if (slots.isEmpty()) {
-            for (int i = 1; i <= MAX_SLOTS; i++) {
-                slots.add(new SaveSlotSummary(i, null, 0));
-            }
-        }
-        selectedIndex = Math.min(selectedIndex, slots.size() - 1);
+        // Only the slot index is read here; full profiles load when a slot is activated.
+        pendingSlots = repository.loadSlotIndexAsync(MAX_SLOTS);
         statusMessage = "";
     }
 
     @Override
     public void update(double deltaTime) {
-        InputManager input = context.getInput();
-        if (input.isKeyJustPressed(KeyEvent.VK_ESCAPE)) {
+        if (pendingSlots != null && pendingSlots.isDone()) {
+            applyLoadedSlots();
+        }
+        InputCommand command = context.getCommand();
+        if (command.wasPressed(InputCommand.PAUSE)) {
             context.getScenes().switchTo(ArkanoidGame.SCENE_MENU);
             return;
         }
-        if (input.isKeyJustPressed(KeyEvent.VK_UP) || input.isKeyJustPressed(KeyEvent.VK_W)) {
-            selectedIndex = Math.max(0, selectedIndex - 1);
-        } else if (input.isKeyJustPressed(KeyEvent.VK_DOWN) || input.isKeyJustPressed(KeyEvent.VK_S)) {
-            selectedIndex = Math.min(slots.size() - 1, selectedIndex + 1);
-        } else if (input.isKeyJustPressed(KeyEvent.VK_DELETE) || input.isKeyJustPressed(KeyEvent.VK_BACK_SPACE)) {
+        if (command.wasPressed(InputCommand.MOVE_UP)) {
+            selectedIndex = clampSelection(selectedIndex - 1);
+        } else if (command.wasPressed(InputCommand.MOVE_DOWN)) {
+            selectedIndex = clampSelection(selectedIndex + 1);
+        } else if (command.wasPressed(InputCommand.DELETE)) {
             deleteSelectedSlot();
-        } else if (input.isKeyJustPressed(KeyEvent.VK_ENTER) || input.isKeyJustPressed(KeyEvent.VK_SPACE)) {
+        } else if (command.wasPressed(InputCommand.CONFIRM | InputCommand.LAUNCH)) {
             activateSelectedSlot();
         }
     }
 
+    /**
+     * Installs the slot list once the asynchronous index load finishes, waiting for it if the
+     * player acts before it arrives.
+     */
+    private void applyLoadedSlots() {
+        Future<List<SaveSlotSummary>> pending = pendingSlots;
+        if (pending == null) {
+            return;
+        }
+        pendingSlots = null;
+        List<SaveSlotSummary> loaded = new ArrayList<>();
+        try {
+            loaded.addAll(pending.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("Failed to load save slots: " + e.getCause().getMessage());
+        }
+        if (loaded.isEmpty()) {
+            for (int i = 1; i <= MAX_SLOTS; i++) {
+                loaded.add(new SaveSlotSummary(i, null, 0));
+            }
+        }
+        slots = loaded;
+        selectedIndex = clampSelection(selectedIndex);
+    }
+
+    /**
+     * Keeps the selection on a slot; stays at 0 while the slot index has not arrived yet.
+     */
+    private int clampSelection(int index) {
+        return Math.max(0, Math.min(slots.size() - 1, index));
+    }
+
     private void activateSelectedSlot() {
+        applyLoadedSlots();
         if (slots.isEmpty()) {
             return;
         }
         SaveSlotSummary summary = slots.get(selectedIndex);
         int slotId = summary.getSlotId();
-        if (summary.isOccupied()) {
-            PlayerProfile profile = summary.getProfile();
+        PlayerProfile profile = summary.isOccupied() ? repository.loadProfile(slotId) : null;
+        if (profile != null) {
             bindSlotPersistence(slotId);
             repository.writeSlot(slotId, profile);
             context.getProfileManager().refreshProfile(profile);
@@ -89,7 +124,7 @@ public class SaveMenuScene extends Scene {
             statusMessage = localization.translate("saveMenu.slotLoaded", profile.getDisplayName());
             context.getScenes().switchTo(ArkanoidGame.SCENE_MAP);
         } else {
-            PlayerProfile profile = PlayerProfile.newDefault();
+            profile = PlayerProfile.newDefault();
             profile.setDisplayName(localization.translate("saveMenu.defaultName", summary.getSlotId()));
             bindSlotPersistence(slotId);
             repository.writeSlot(slotId, profile);
@@ -105,6 +140,7 @@ public class SaveMenuScene extends Scene {
     }
 
     private void deleteSelectedSlot() {
+        applyLoadedSlots();
         if (slots.isEmpty()) {
             return;
         }
@@ -165,14 +201,13 @@ public class SaveMenuScene extends Scene {
 
         graphics.setFont(detailFont);
         int lineY = y + 56;
-        if (summary.isOccupied() && summary.getProfile() != null) {
-            PlayerProfile profile = summary.getProfile();
+        if (summary.isOccupied()) {
             String summaryLine = localization.translate(
                     "saveMenu.summary",
-                    profile.getCurrentLevelId(),
-                    profile.getLives(),
-                    profile.getCoins(),
-                    profile.getDailyStreak()
+                    summary.getCurrentLevelId(),
+                    summary.getLives(),
+                    summary.getCoins(),
+                    summary.getDailyStreak()
             );
             graphics.setColor(new Color(220, 220, 220));
             graphics.drawString(summaryLine, x + 20, lineY);
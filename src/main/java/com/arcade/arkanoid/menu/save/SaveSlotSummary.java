@@ -2,6 +2,10 @@ package com.arcade.arkanoid.menu.save;
 
 import com.arcade.arkanoid.profile.PlayerProfile;
 
+/**
+ * What the save menu shows for one slot. Summaries read from the slot index carry no profile;
+ * the full profile is loaded only when the slot is chosen.
+ */
 public class SaveSlotSummary {
     private final int slotId;
     private final String displayName;
@@ -47,6 +51,35 @@ public class SaveSlotSummary {
         }
     }
 
+    /**
+     * Occupied slot described only by its index entry; {@link #getProfile()} returns {@code null}.
+     */
+    public SaveSlotSummary(int slotId,
+                           String displayName,
+                           String currentLevelId,
+                           int lives,
+                           int coins,
+                           int dailyStreak,
+                           long lastPlayedEpochSeconds,
+                           String activePaddleSkin,
+                           String activeBallSkin,
+                           int ownedPaddleSkins,
+                           int ownedBallSkins) {
+        this.slotId = slotId;
+        this.profile = null;
+        this.displayName = displayName;
+        this.currentLevelId = currentLevelId;
+        this.lives = lives;
+        this.coins = coins;
+        this.dailyStreak = dailyStreak;
+        this.lastPlayedEpochSeconds = lastPlayedEpochSeconds;
+        this.occupied = true;
+        this.activePaddleSkin = activePaddleSkin;
+        this.activeBallSkin = activeBallSkin;
+        this.ownedPaddleSkins = ownedPaddleSkins;
+        this.ownedBallSkins = ownedBallSkins;
+    }
+
     public int getSlotId() {
         return slotId;
     }
@@ -4,7 +4,7 @@ import com.arcade.arkanoid.ArkanoidGame;
 import com.arcade.arkanoid.engine.audio.BackgroundMusicManager;
 import com.arcade.arkanoid.engine.audio.StageMusicManager;
 import com.arcade.arkanoid.engine.core.GameContext;
-import com.arcade.arkanoid.engine.input.InputManager;
+import com.arcade.arkanoid.engine.input.InputCommand;
 import com.arcade.arkanoid.engine.scene.Scene;
 import com.arcade.arkanoid.engine.settings.SettingsManager;
 import com.arcade.arkanoid.localization.LocalizationService;
@@ -14,10 +14,10 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
-import java.awt.event.KeyEvent;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Future;
 
 /**
  * Settings scene allows adjusting music volume and language preferences.
@@ -57,6 +57,7 @@ public class SettingsScene extends Scene {
     private int languageIndex;
     private double statusTimer;
     private String statusMessage = "";
+    private Future<?> pendingLanguage;
 
     public SettingsScene(GameContext context) {
         super(context);
@@ -76,26 +77,30 @@ public class SettingsScene extends Scene {
     @Override
     public void update(double deltaTime) {
         statusTimer = Math.max(0, statusTimer - deltaTime);
-        InputManager input = context.getInput();
+        if (pendingLanguage != null && pendingLanguage.isDone()) {
+            pendingLanguage = null;
+            showLanguageStatus();
+        }
+        InputCommand command = context.getCommand();
 
-        if (input.isKeyJustPressed(KeyEvent.VK_ESCAPE)) {
+        if (command.wasPressed(InputCommand.PAUSE)) {
             context.getScenes().switchTo(ArkanoidGame.SCENE_MENU);
             return;
         }
 
-        int vertical = input.isKeyJustPressed(KeyEvent.VK_UP) || input.isKeyJustPressed(KeyEvent.VK_W) ? -1
-                : input.isKeyJustPressed(KeyEvent.VK_DOWN) || input.isKeyJustPressed(KeyEvent.VK_S) ? 1 : 0;
+        int vertical = command.wasPressed(InputCommand.MOVE_UP) ? -1
+                : command.wasPressed(InputCommand.MOVE_DOWN) ? 1 : 0;
         if (vertical != 0) {
             selectedIndex = (selectedIndex + vertical + Option.values().length) % Option.values().length;
         }
 
-        int horizontal = input.isKeyJustPressed(KeyEvent.VK_LEFT) || input.isKeyJustPressed(KeyEvent.VK_A) ? -1
-                : input.isKeyJustPressed(KeyEvent.VK_RIGHT) || input.isKeyJustPressed(KeyEvent.VK_D) ? 1 : 0;
+        int horizontal = command.wasPressed(InputCommand.MOVE_LEFT) ? -1
+                : command.wasPressed(InputCommand.MOVE_RIGHT) ? 1 : 0;
         if (horizontal != 0) {
             adjustCurrentOption(horizontal);
         }
 
-        if (input.isKeyJustPressed(KeyEvent.VK_ENTER) || input.isKeyJustPressed(KeyEvent.VK_SPACE)) {
+        if (command.wasPressed(InputCommand.CONFIRM | InputCommand.LAUNCH)) {
             handleSelection();
         }
     }
@@ -239,13 +244,17 @@ public class SettingsScene extends Scene {
         if (next != languageIndex) {
             languageIndex = next;
             LanguageOption option = languages.get(languageIndex);
-            localization.setLocale(option.locale);
-            statusMessage = localization.translate("settings.status.language",
-                    localization.translate(option.labelKey));
-            statusTimer = STATUS_DURATION;
+            pendingLanguage = localization.setLocale(option.locale);
         }
     }
 
+    private void showLanguageStatus() {
+        LanguageOption option = languages.get(languageIndex);
+        statusMessage = localization.translate("settings.status.language",
+                localization.translate(option.labelKey));
+        statusTimer = STATUS_DURATION;
+    }
+
     private int resolveLanguageIndex(Locale current) {
         if (current == null) {
             return 0;
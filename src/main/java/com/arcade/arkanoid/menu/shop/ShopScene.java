@@ -2,20 +2,21 @@ package com.arcade.arkanoid.menu.shop;
 
 import com.arcade.arkanoid.ArkanoidGame;
 import com.arcade.arkanoid.engine.core.GameContext;
-import com.arcade.arkanoid.engine.input.InputManager;
+import com.arcade.arkanoid.engine.input.InputCommand;
 import com.arcade.arkanoid.engine.scene.Scene;
 import com.arcade.arkanoid.engine.audio.BackgroundMusicManager;
 import com.arcade.arkanoid.engine.assets.AssetManager;
+import com.arcade.arkanoid.engine.util.TextCache;
 import com.arcade.arkanoid.economy.EconomyService;
 import com.arcade.arkanoid.gameplay.cosmetics.SkinCatalog;
 import com.arcade.arkanoid.localization.LocalizationService;
 import com.arcade.arkanoid.profile.PlayerProfile;
+import com.arcade.arkanoid.profile.ProfileEvent;
 
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
-import java.awt.event.KeyEvent;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -81,6 +82,7 @@ public class ShopScene extends Scene {
     private static final double ITEM_SPACING = 120.0;
     private static final double SCROLL_SPEED = 10.0;
     private static final int VISIBLE_COUNT = 3;
+    private static final Color DESCRIPTION_COLOR = new Color(210, 210, 210);
 
     private final LocalizationService localization;
     private final EconomyService economyService;
@@ -89,6 +91,7 @@ public class ShopScene extends Scene {
     private final Font categoryFont = new Font("BoldPixels", Font.BOLD, 30);
     private final Font itemFont = new Font("BoldPixels", Font.BOLD, 22);
     private final Font detailFont = new Font("BoldPixels", Font.PLAIN, 18);
+    private final TextCache textCache = TextCache.getInstance();
     private final List<CategoryEntry> categories = Arrays.asList(
             new CategoryEntry(ViewMode.PADDLE, "shop.category.paddle"),
             new CategoryEntry(ViewMode.BALL, "shop.category.ball"),
@@ -167,11 +170,11 @@ public class ShopScene extends Scene {
 
     @Override
     public void update(double deltaTime) {
-        InputManager input = context.getInput();
+        InputCommand command = context.getCommand();
         if (viewMode == ViewMode.CATEGORY) {
-            handleCategoryInput(input);
+            handleCategoryInput(command);
         } else {
-            handleItemInput(input);
+            handleItemInput(command);
         }
         if (viewMode != ViewMode.CATEGORY) {
             double diff = targetScrollOffset - scrollOffset;
@@ -183,22 +186,22 @@ public class ShopScene extends Scene {
         }
     }
 
-    private void handleCategoryInput(InputManager input) {
-        if (input.isKeyJustPressed(KeyEvent.VK_ESCAPE)) {
+    private void handleCategoryInput(InputCommand command) {
+        if (command.wasPressed(InputCommand.PAUSE)) {
             context.getScenes().switchTo(ArkanoidGame.SCENE_MENU);
             return;
         }
-        if (input.isKeyJustPressed(KeyEvent.VK_UP) || input.isKeyJustPressed(KeyEvent.VK_W)) {
+        if (command.wasPressed(InputCommand.MOVE_UP)) {
             categoryIndex = (categoryIndex - 1 + categories.size()) % categories.size();
-        } else if (input.isKeyJustPressed(KeyEvent.VK_DOWN) || input.isKeyJustPressed(KeyEvent.VK_S)) {
+        } else if (command.wasPressed(InputCommand.MOVE_DOWN)) {
             categoryIndex = (categoryIndex + 1) % categories.size();
-        } else if (input.isKeyJustPressed(KeyEvent.VK_ENTER) || input.isKeyJustPressed(KeyEvent.VK_SPACE)) {
+        } else if (command.wasPressed(InputCommand.CONFIRM | InputCommand.LAUNCH)) {
             setView(categories.get(categoryIndex).view);
         }
     }
 
-    private void handleItemInput(InputManager input) {
-        if (input.isKeyJustPressed(KeyEvent.VK_ESCAPE)) {
+    private void handleItemInput(InputCommand command) {
+        if (command.wasPressed(InputCommand.PAUSE)) {
             setView(ViewMode.CATEGORY);
             return;
         }
@@ -206,11 +209,11 @@ public class ShopScene extends Scene {
         if (list.isEmpty()) {
             return;
         }
-        if (input.isKeyJustPressed(KeyEvent.VK_UP) || input.isKeyJustPressed(KeyEvent.VK_W)) {
+        if (command.wasPressed(InputCommand.MOVE_UP)) {
             setItemIndex(Math.max(0, itemIndex - 1));
-        } else if (input.isKeyJustPressed(KeyEvent.VK_DOWN) || input.isKeyJustPressed(KeyEvent.VK_S)) {
+        } else if (command.wasPressed(InputCommand.MOVE_DOWN)) {
             setItemIndex(Math.min(list.size() - 1, itemIndex + 1));
-        } else if (input.isKeyJustPressed(KeyEvent.VK_ENTER) || input.isKeyJustPressed(KeyEvent.VK_SPACE)) {
+        } else if (command.wasPressed(InputCommand.CONFIRM | InputCommand.LAUNCH)) {
             purchase(list.get(itemIndex));
         }
     }
@@ -281,6 +284,7 @@ public class ShopScene extends Scene {
             } else {
                 profile.addBallSkin(item.id);
             }
+            context.getProfileManager().recordEvent(ProfileEvent.skinPurchased(skinKind(item), item.id));
             statusMessage = localization.translate("shop.purchased", localization.translate(item.nameKey));
         }
 
@@ -289,18 +293,19 @@ public class ShopScene extends Scene {
         } else {
             profile.setActiveBallSkin(item.id);
         }
-        context.getProfileManager().saveProfile();
+        context.getProfileManager().recordEvent(ProfileEvent.skinEquipped(skinKind(item), item.id));
         statusMessage = localization.translate("shop.equipped", localization.translate(item.nameKey));
     }
 
+    private static ProfileEvent.SkinKind skinKind(ShopItem item) {
+        return item.type == ItemType.PADDLE ? ProfileEvent.SkinKind.PADDLE : ProfileEvent.SkinKind.BALL;
+    }
+
     @Override
     public void render(Graphics2D graphics) {
         drawBackground(graphics);
         int width = context.getConfig().width();
-        graphics.setFont(titleFont);
-        graphics.setColor(Color.WHITE);
-        String title = localization.translate("shop.title");
-        graphics.drawString(title, (width - graphics.getFontMetrics().stringWidth(title)) / 2, 110);
+        textCache.drawCentered(graphics, localization.translate("shop.title"), titleFont, Color.WHITE, width / 2, 110);
 
         graphics.setFont(sectionFont);
         graphics.setColor(new Color(200, 220, 255));
@@ -339,8 +344,8 @@ public class ShopScene extends Scene {
         graphics.setColor(selected ? new Color(187, 222, 251) : new Color(84, 110, 122));
         graphics.setStroke(new BasicStroke(selected ? 4 : 2));
         graphics.drawRoundRect(x, y, width, height, 18, 18);
-        graphics.setColor(Color.WHITE);
-        graphics.drawString(localization.translate(entry.labelKey), x + 30, y + 48);
+        textCache.drawString(graphics, localization.translate(entry.labelKey), categoryFont, Color.WHITE,
+                x + 30, y + 48);
     }
 
     private void renderItemList(Graphics2D graphics) {
@@ -422,9 +427,7 @@ public class ShopScene extends Scene {
         }
 
         int textX = previewX + 170;
-        graphics.setFont(itemFont);
-        graphics.setColor(Color.WHITE);
-        graphics.drawString(localization.translate(item.nameKey), textX, y + 38);
+        textCache.drawString(graphics, localization.translate(item.nameKey), itemFont, Color.WHITE, textX, y + 38);
 
         graphics.setFont(detailFont);
         if (item.isSkin()) {
@@ -438,8 +441,8 @@ public class ShopScene extends Scene {
             drawOwnershipDetails(graphics, owned, equipped, item, x, width, y);
         } else {
             if (item.descriptionKey != null) {
-                graphics.setColor(new Color(210, 210, 210));
-                graphics.drawString(localization.translate(item.descriptionKey), textX, y + 62);
+                textCache.drawString(graphics, localization.translate(item.descriptionKey), detailFont,
+                        DESCRIPTION_COLOR, textX, y + 62);
             }
             graphics.setColor(new Color(255, 213, 79));
             graphics.drawString(localization.translate("shop.price", item.price), x + width - 220, y + 38);
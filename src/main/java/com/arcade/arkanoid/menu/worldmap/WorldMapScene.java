@@ -3,8 +3,9 @@ package com.arcade.arkanoid.menu.worldmap;
 import com.arcade.arkanoid.ArkanoidGame;
 import com.arcade.arkanoid.engine.core.GameContext;
 import com.arcade.arkanoid.engine.assets.AssetManager;
-import com.arcade.arkanoid.engine.input.InputManager;
+import com.arcade.arkanoid.engine.input.InputCommand;
 import com.arcade.arkanoid.engine.scene.Scene;
+import com.arcade.arkanoid.engine.scene.SceneManager;
 import com.arcade.arkanoid.engine.audio.BackgroundMusicManager;
 import com.arcade.arkanoid.gameplay.GameplayScene;
 import com.arcade.arkanoid.gameplay.levels.LevelDefinition;
@@ -18,7 +19,6 @@ import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.geom.Rectangle2D;
-import java.awt.event.KeyEvent;
 import java.awt.geom.Ellipse2D;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
@@ -35,8 +35,9 @@ public class WorldMapScene extends Scene {
     private final Font nodeFont = new Font("BoldPixels", Font.PLAIN, 25);
     private final Font infoFont = new Font("BoldPixels", Font.PLAIN, 15);
     private final LocalizationService localization;
+    private final int instructionsMessage;
     private final List<Star> starField = new ArrayList<>();
-    private final Random random = new Random();
+    private final Random random;
     private static final int VISIBLE_NODES = 3;
     private int selectedIndex;
     private String statusMessage = "";
@@ -49,8 +50,17 @@ public class WorldMapScene extends Scene {
     private BufferedImage mapBackground;
 
     public WorldMapScene(GameContext context) {
+        this(context, new Random());
+    }
+
+    /**
+     * @param random seeds the star field; pass a fixed seed for reproducible frames
+     */
+    public WorldMapScene(GameContext context, Random random) {
         super(context);
+        this.random = random;
         this.localization = context.getLocalizationService();
+        this.instructionsMessage = localization.handle("worldMap.instructions");
         AssetManager assets = context.getAssets();
         if (assets.getImage("background") == null) {
             assets.loadImage("background", "/graphics/background.jpg");
@@ -68,6 +78,7 @@ public class WorldMapScene extends Scene {
         mapTargetOffset = 0.0;
         updateSelection(selectedIndex);
         mapOffset = mapTargetOffset;
+        context.getScenes().prefetch(ArkanoidGame.SCENE_GAMEPLAY);
 
         // Start background music using singleton
         BackgroundMusicManager musicManager = BackgroundMusicManager.getInstance();
@@ -86,16 +97,16 @@ public class WorldMapScene extends Scene {
             return;
         }
         animationTime += deltaTime;
-        InputManager input = context.getInput();
-        if (input.isKeyJustPressed(KeyEvent.VK_ESCAPE)) {
+        InputCommand command = context.getCommand();
+        if (command.wasPressed(InputCommand.PAUSE)) {
             context.getScenes().switchTo(ArkanoidGame.SCENE_MENU);
             return;
         }
-        if (input.isKeyJustPressed(KeyEvent.VK_RIGHT) || input.isKeyJustPressed(KeyEvent.VK_D)) {
+        if (command.wasPressed(InputCommand.MOVE_RIGHT)) {
             updateSelection(Math.min(selectedIndex + 1, nodes.size() - 1));
-        } else if (input.isKeyJustPressed(KeyEvent.VK_LEFT) || input.isKeyJustPressed(KeyEvent.VK_A)) {
+        } else if (command.wasPressed(InputCommand.MOVE_LEFT)) {
             updateSelection(Math.max(selectedIndex - 1, 0));
-        } else if (input.isKeyJustPressed(KeyEvent.VK_ENTER) || input.isKeyJustPressed(KeyEvent.VK_SPACE)) {
+        } else if (command.wasPressed(InputCommand.CONFIRM | InputCommand.LAUNCH)) {
             attemptStartLevel(nodes.get(selectedIndex));
         }
         double diff = mapTargetOffset - mapOffset;
@@ -178,7 +189,7 @@ public class WorldMapScene extends Scene {
             BackgroundMusicManager.getInstance().stopTheme();
 
             gameplay.beginNewSession();
-            context.getScenes().switchTo(ArkanoidGame.SCENE_GAMEPLAY);
+            context.getScenes().switchTo(ArkanoidGame.SCENE_GAMEPLAY, SceneManager.DEFAULT_FADE_SECONDS);
         } else {
             context.getEconomyService().awardLife(1);
             statusMessage = localization.translate("worldMap.loadingError");
@@ -271,7 +282,7 @@ public class WorldMapScene extends Scene {
         if (statusMessage != null && !statusMessage.isBlank()) {
             graphics.drawString(statusMessage, 40, context.getConfig().height() - 80);
         }
-        graphics.drawString(localization.translate("worldMap.instructions"), 40, context.getConfig().height() - 40);
+        graphics.drawString(localization.translate(instructionsMessage), 40, context.getConfig().height() - 40);
     }
 
     private void drawBackground(Graphics2D graphics) {
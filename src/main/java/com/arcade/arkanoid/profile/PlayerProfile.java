@@ -2,6 +2,7 @@ package com.arcade.arkanoid.profile;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -27,6 +28,13 @@ public class PlayerProfile {
     private List<String> ownedBallSkins;
     private String activePaddleSkin;
     private String activeBallSkin;
+    private long journalSequence;
+
+    // Frozen list copies from the previous snapshot, reused while the live list is unchanged.
+    private final FrozenList frozenUnlockedLevelIds = new FrozenList();
+    private final FrozenList frozenCompletedLevelIds = new FrozenList();
+    private final FrozenList frozenOwnedPaddleSkins = new FrozenList();
+    private final FrozenList frozenOwnedBallSkins = new FrozenList();
 
     public PlayerProfile() {
         // Jackson / serialization constructor.
@@ -52,8 +60,8 @@ public class PlayerProfile {
         this.playerId = playerId;
         this.displayName = displayName;
         this.currentLevelId = currentLevelId;
-        this.unlockedLevelIds = unlockedLevelIds;
-        this.completedLevelIds = completedLevelIds;
+        this.unlockedLevelIds = tracked(unlockedLevelIds);
+        this.completedLevelIds = tracked(completedLevelIds);
         this.lives = lives;
         this.maxLives = maxLives;
         this.coins = coins;
@@ -62,8 +70,8 @@ public class PlayerProfile {
         this.lastLoginEpochSeconds = lastLoginEpochSeconds;
         this.dailyStreak = dailyStreak;
         this.lastDailyBonusEpochSeconds = lastDailyBonusEpochSeconds;
-        this.ownedPaddleSkins = ownedPaddleSkins;
-        this.ownedBallSkins = ownedBallSkins;
+        this.ownedPaddleSkins = tracked(ownedPaddleSkins);
+        this.ownedBallSkins = tracked(ownedBallSkins);
         this.activePaddleSkin = activePaddleSkin;
         this.activeBallSkin = activeBallSkin;
     }
@@ -94,6 +102,46 @@ public class PlayerProfile {
         );
     }
 
+    /**
+     * Rebuilds a profile from decoded fields; used by {@link ProfileBinaryCodec}.
+     */
+    static PlayerProfile restore(String playerId,
+                                 String displayName,
+                                 String currentLevelId,
+                                 List<String> unlockedLevelIds,
+                                 List<String> completedLevelIds,
+                                 int lives,
+                                 int maxLives,
+                                 int coins,
+                                 int energy,
+                                 int maxEnergy,
+                                 long lastLoginEpochSeconds,
+                                 int dailyStreak,
+                                 long lastDailyBonusEpochSeconds,
+                                 List<String> ownedPaddleSkins,
+                                 List<String> ownedBallSkins,
+                                 String activePaddleSkin,
+                                 String activeBallSkin) {
+        return new PlayerProfile(
+                playerId,
+                displayName,
+                currentLevelId,
+                unlockedLevelIds,
+                completedLevelIds,
+                lives,
+                maxLives,
+                coins,
+                energy,
+                maxEnergy,
+                lastLoginEpochSeconds,
+                dailyStreak,
+                lastDailyBonusEpochSeconds,
+                ownedPaddleSkins,
+                ownedBallSkins,
+                activePaddleSkin,
+                activeBallSkin);
+    }
+
     public void ensureDefaults() {
         if (playerId == null || playerId.isBlank()) {
             playerId = UUID.randomUUID().toString();
@@ -105,19 +153,19 @@ public class PlayerProfile {
             currentLevelId = "001";
         }
         if (unlockedLevelIds == null) {
-            unlockedLevelIds = new ArrayList<>();
+            unlockedLevelIds = new VersionedList();
         }
         if (!unlockedLevelIds.contains(currentLevelId)) {
             unlockedLevelIds.add(currentLevelId);
         }
         if (completedLevelIds == null) {
-            completedLevelIds = new ArrayList<>();
+            completedLevelIds = new VersionedList();
         }
         if (ownedPaddleSkins == null) {
-            ownedPaddleSkins = new ArrayList<>();
+            ownedPaddleSkins = new VersionedList();
         }
         if (ownedBallSkins == null) {
-            ownedBallSkins = new ArrayList<>();
+            ownedBallSkins = new VersionedList();
         }
         if (!ownedPaddleSkins.contains("classic")) {
             ownedPaddleSkins.add("classic");
@@ -149,6 +197,45 @@ public class PlayerProfile {
         }
     }
 
+    /**
+     * Captures an immutable copy of the profile for asynchronous persistence. Must be called on the
+     * thread that mutates the profile; collections that did not change since the previous snapshot
+     * are shared rather than copied.
+     */
+    public ProfileSnapshot snapshot() {
+        return new ProfileSnapshot(
+                playerId,
+                displayName,
+                currentLevelId,
+                frozenUnlockedLevelIds.freeze(unlockedLevelIds),
+                frozenCompletedLevelIds.freeze(completedLevelIds),
+                lives,
+                maxLives,
+                coins,
+                energy,
+                maxEnergy,
+                lastLoginEpochSeconds,
+                dailyStreak,
+                lastDailyBonusEpochSeconds,
+                frozenOwnedPaddleSkins.freeze(ownedPaddleSkins),
+                frozenOwnedBallSkins.freeze(ownedBallSkins),
+                activePaddleSkin,
+                activeBallSkin,
+                journalSequence
+        );
+    }
+
+    private static List<String> tracked(List<String> list) {
+        if (list instanceof VersionedList) {
+            return list;
+        }
+        VersionedList copy = new VersionedList();
+        if (list != null) {
+            copy.addAll(list);
+        }
+        return copy;
+    }
+
     public boolean isLevelUnlocked(String levelId) {
         if (levelId == null || levelId.isBlank()) {
             return false;
@@ -161,7 +248,7 @@ public class PlayerProfile {
             return;
         }
         if (unlockedLevelIds == null) {
-            unlockedLevelIds = new ArrayList<>();
+            unlockedLevelIds = new VersionedList();
         }
         if (!unlockedLevelIds.contains(levelId)) {
             unlockedLevelIds.add(levelId);
@@ -180,7 +267,7 @@ public class PlayerProfile {
             return;
         }
         if (completedLevelIds == null) {
-            completedLevelIds = new ArrayList<>();
+            completedLevelIds = new VersionedList();
         }
         if (!completedLevelIds.contains(levelId)) {
             completedLevelIds.add(levelId);
@@ -189,11 +276,15 @@ public class PlayerProfile {
 
     public List<String> getCompletedLevelIds() {
         if (completedLevelIds == null) {
-            completedLevelIds = new ArrayList<>();
+            completedLevelIds = new VersionedList();
         }
         return completedLevelIds;
     }
 
+    public void setCompletedLevelIds(List<String> completedLevelIds) {
+        this.completedLevelIds = tracked(completedLevelIds);
+    }
+
     public String getPlayerId() {
         return playerId;
     }
@@ -216,11 +307,15 @@ public class PlayerProfile {
 
     public List<String> getUnlockedLevelIds() {
         if (unlockedLevelIds == null) {
-            unlockedLevelIds = new ArrayList<>();
+            unlockedLevelIds = new VersionedList();
         }
         return unlockedLevelIds;
     }
 
+    public void setUnlockedLevelIds(List<String> unlockedLevelIds) {
+        this.unlockedLevelIds = tracked(unlockedLevelIds);
+    }
+
     public int getLives() {
         return lives;
     }
@@ -287,18 +382,26 @@ public class PlayerProfile {
 
     public List<String> getOwnedPaddleSkins() {
         if (ownedPaddleSkins == null) {
-            ownedPaddleSkins = new ArrayList<>();
+            ownedPaddleSkins = new VersionedList();
         }
         return ownedPaddleSkins;
     }
 
+    public void setOwnedPaddleSkins(List<String> ownedPaddleSkins) {
+        this.ownedPaddleSkins = tracked(ownedPaddleSkins);
+    }
+
     public List<String> getOwnedBallSkins() {
         if (ownedBallSkins == null) {
-            ownedBallSkins = new ArrayList<>();
+            ownedBallSkins = new VersionedList();
         }
         return ownedBallSkins;
     }
 
+    public void setOwnedBallSkins(List<String> ownedBallSkins) {
+        this.ownedBallSkins = tracked(ownedBallSkins);
+    }
+
     public boolean hasPaddleSkin(String skinId) {
         return getOwnedPaddleSkins().contains(skinId);
     }
@@ -334,4 +437,55 @@ public class PlayerProfile {
     public void setActiveBallSkin(String activeBallSkin) {
         this.activeBallSkin = activeBallSkin;
     }
+
+    /**
+     * Sequence number of the last {@link ProfileEvent} reflected in this profile; journal events
+     * at or below it are already applied and are skipped on replay.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    public void setJournalSequence(long journalSequence) {
+        this.journalSequence = journalSequence;
+    }
+
+    /**
+     * Live list that exposes its modification count, so a snapshot can tell in O(1) whether the
+     * list changed since it was last frozen. {@link #set} counts as a modification here.
+     */
+    private static final class VersionedList extends ArrayList<String> {
+        @Override
+        public String set(int index, String element) {
+            modCount++;
+            return super.set(index, element);
+        }
+
+        int version() {
+            return modCount;
+        }
+    }
+
+    /**
+     * Read-only copy of one live list, reused until that list is replaced or modified.
+     */
+    private static final class FrozenList {
+        private List<String> source;
+        private int sourceVersion;
+        private List<String> copy = Collections.emptyList();
+
+        List<String> freeze(List<String> live) {
+            if (live == null || live.isEmpty()) {
+                return Collections.emptyList();
+            }
+            int version = live instanceof VersionedList ? ((VersionedList) live).version() : -1;
+            if (live == source && version == sourceVersion && version >= 0) {
+                return copy;
+            }
+            source = live;
+            sourceVersion = version;
+            copy = Collections.unmodifiableList(new ArrayList<>(live));
+            return copy;
+        }
+    }
 }
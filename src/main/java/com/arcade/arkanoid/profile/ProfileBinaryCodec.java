@@ -0,0 +1,293 @@
+package com.arcade.arkanoid.profile;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact, versioned binary encoding of a profile. Integers are zig-zag varints, every level id
+ * is stored once in an interned table, and unlocked/completed levels are bitsets over that table,
+ * so thousands of levels cost a few bytes each and decode without string scans.
+ *
+ * <p>Layout (version 1): magic {@code ARKP}, version, player id, display name, level table,
+ * current level index, unlocked bitset, completed bitset, counters, skin lists, active skins,
+ * journal sequence. Readers reject versions newer than {@link #VERSION}.
+ */
+public final class ProfileBinaryCodec {
+    public static final int MAGIC = 0x41524B50; // "ARKP"
+    public static final int VERSION = 1;
+    // Upper bounds for decoded lengths, so a corrupt prefix fails the read instead of allocating
+    static final int MAX_STRING_BYTES = 64 * 1024;
+    static final int MAX_ENTRIES = 1 << 20;
+
+    private ProfileBinaryCodec() {
+    }
+
+    public static void writeProfile(ProfileSnapshot profile, OutputStream out) throws IOException {
+        writeMagic(out, MAGIC);
+        writeVarLong(out, VERSION);
+        writeString(out, profile.getPlayerId());
+        writeString(out, profile.getDisplayName());
+
+        Map<String, Integer> levelTable = new LinkedHashMap<>();
+        intern(levelTable, profile.getUnlockedLevelIds());
+        intern(levelTable, profile.getCompletedLevelIds());
+        if (profile.getCurrentLevelId() != null) {
+            levelTable.putIfAbsent(profile.getCurrentLevelId(), levelTable.size());
+        }
+        writeVarLong(out, levelTable.size());
+        for (String levelId : levelTable.keySet()) {
+            writeString(out, levelId);
+        }
+        String current = profile.getCurrentLevelId();
+        writeVarLong(out, current == null ? 0 : levelTable.get(current) + 1);
+        writeBitSet(out, toBitSet(levelTable, profile.getUnlockedLevelIds()));
+        writeBitSet(out, toBitSet(levelTable, profile.getCompletedLevelIds()));
+
+        writeVarInt(out, profile.getLives());
+        writeVarInt(out, profile.getMaxLives());
+        writeVarInt(out, profile.getCoins());
+        writeVarInt(out, profile.getEnergy());
+        writeVarInt(out, profile.getMaxEnergy());
+        writeSignedVarLong(out, profile.getLastLoginEpochSeconds());
+        writeVarInt(out, profile.getDailyStreak());
+        writeSignedVarLong(out, profile.getLastDailyBonusEpochSeconds());
+        writeStringList(out, profile.getOwnedPaddleSkins());
+        writeStringList(out, profile.getOwnedBallSkins());
+        writeString(out, profile.getActivePaddleSkin());
+        writeString(out, profile.getActiveBallSkin());
+        writeVarLong(out, profile.getJournalSequence());
+    }
+
+    public static PlayerProfile readProfile(InputStream in) throws IOException {
+        readMagic(in, MAGIC, "profile");
+        int version = (int) readVarLong(in);
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported binary profile version " + version);
+        }
+        String playerId = readString(in);
+        String displayName = readString(in);
+
+        int tableSize = readCount(in, MAX_ENTRIES, "level table");
+        String[] levelTable = new String[tableSize];
+        for (int i = 0; i < tableSize; i++) {
+            levelTable[i] = readString(in);
+        }
+        int currentIndex = (int) readVarLong(in);
+        String currentLevelId = currentIndex == 0 ? null : levelAt(levelTable, currentIndex - 1);
+        List<String> unlocked = fromBitSet(levelTable, readBitSet(in));
+        List<String> completed = fromBitSet(levelTable, readBitSet(in));
+
+        int lives = readVarInt(in);
+        int maxLives = readVarInt(in);
+        int coins = readVarInt(in);
+        int energy = readVarInt(in);
+        int maxEnergy = readVarInt(in);
+        long lastLogin = readSignedVarLong(in);
+        int dailyStreak = readVarInt(in);
+        long lastDailyBonus = readSignedVarLong(in);
+        List<String> paddleSkins = readStringList(in);
+        List<String> ballSkins = readStringList(in);
+        String activePaddleSkin = readString(in);
+        String activeBallSkin = readString(in);
+        long journalSequence = readVarLong(in);
+
+        PlayerProfile profile = PlayerProfile.restore(
+                playerId,
+                displayName,
+                currentLevelId,
+                unlocked,
+                completed,
+                lives,
+                maxLives,
+                coins,
+                energy,
+                maxEnergy,
+                lastLogin,
+                dailyStreak,
+                lastDailyBonus,
+                paddleSkins,
+                ballSkins,
+                activePaddleSkin,
+                activeBallSkin);
+        profile.setJournalSequence(journalSequence);
+        return profile;
+    }
+
+    public static void writeMagic(OutputStream out, int magic) throws IOException {
+        out.write(magic >>> 24);
+        out.write(magic >>> 16);
+        out.write(magic >>> 8);
+        out.write(magic);
+    }
+
+    public static void readMagic(InputStream in, int expected, String what) throws IOException {
+        int magic = (readByte(in) << 24) | (readByte(in) << 16) | (readByte(in) << 8) | readByte(in);
+        if (magic != expected) {
+            throw new IOException("Not a binary " + what + " file");
+        }
+    }
+
+    /**
+     * Writes an unsigned LEB128 varint.
+     */
+    public static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    public static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte(in);
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    public static void writeSignedVarLong(OutputStream out, long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    public static long readSignedVarLong(InputStream in) throws IOException {
+        long raw = readVarLong(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public static void writeVarInt(OutputStream out, int value) throws IOException {
+        writeSignedVarLong(out, value);
+    }
+
+    public static int readVarInt(InputStream in) throws IOException {
+        return (int) readSignedVarLong(in);
+    }
+
+    /**
+     * Writes a nullable UTF-8 string prefixed by {@code length + 1}; zero encodes {@code null}.
+     */
+    public static void writeString(OutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes);
+    }
+
+    public static String readString(InputStream in) throws IOException {
+        long prefix = readVarLong(in);
+        if (prefix == 0) {
+            return null;
+        }
+        if (prefix < 0 || prefix - 1 > MAX_STRING_BYTES) {
+            throw new IOException("String length " + (prefix - 1) + " exceeds " + MAX_STRING_BYTES + " bytes");
+        }
+        int length = (int) (prefix - 1);
+        byte[] bytes = new byte[length];
+        int read = 0;
+        while (read < length) {
+            int n = in.read(bytes, read, length - read);
+            if (n < 0) {
+                throw new EOFException("Truncated string");
+            }
+            read += n;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeStringList(OutputStream out, List<String> values) throws IOException {
+        writeVarLong(out, values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readStringList(InputStream in) throws IOException {
+        int size = readCount(in, MAX_ENTRIES, "string list");
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static void intern(Map<String, Integer> table, List<String> ids) {
+        for (String id : ids) {
+            table.putIfAbsent(id, table.size());
+        }
+    }
+
+    private static BitSet toBitSet(Map<String, Integer> table, List<String> ids) {
+        BitSet bits = new BitSet(table.size());
+        for (String id : ids) {
+            bits.set(table.get(id));
+        }
+        return bits;
+    }
+
+    private static List<String> fromBitSet(String[] table, BitSet bits) throws IOException {
+        List<String> ids = new ArrayList<>(bits.cardinality());
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            ids.add(levelAt(table, i));
+        }
+        return ids;
+    }
+
+    private static String levelAt(String[] table, int index) throws IOException {
+        if (index < 0 || index >= table.length) {
+            throw new IOException("Level index " + index + " outside table of " + table.length);
+        }
+        return table[index];
+    }
+
+    private static void writeBitSet(OutputStream out, BitSet bits) throws IOException {
+        long[] words = bits.toLongArray();
+        writeVarLong(out, words.length);
+        for (long word : words) {
+            writeVarLong(out, word);
+        }
+    }
+
+    private static BitSet readBitSet(InputStream in) throws IOException {
+        int length = readCount(in, MAX_ENTRIES / Long.SIZE, "bitset");
+        long[] words = new long[length];
+        for (int i = 0; i < length; i++) {
+            words[i] = readVarLong(in);
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Reads an element count and rejects values above {@code max}, including those that wrapped
+     * negative, as a corrupt stream.
+     */
+    private static int readCount(InputStream in, int max, String what) throws IOException {
+        long count = readVarLong(in);
+        if (count < 0 || count > max) {
+            throw new IOException("Corrupt " + what + " length " + count);
+        }
+        return (int) count;
+    }
+
+    private static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Truncated binary profile");
+        }
+        return b;
+    }
+}
@@ -0,0 +1,186 @@
+package com.arcade.arkanoid.profile;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Small typed change to a {@link PlayerProfile}, appended to the {@link ProfileJournal} instead of
+ * rewriting the whole profile. Deltas record the change that was actually applied (after clamping)
+ * so replaying them onto the same base profile reproduces the same state.
+ */
+public final class ProfileEvent {
+    public enum Type {
+        COINS_DELTA(1),
+        LIVES_DELTA(2),
+        ENERGY_DELTA(3),
+        DAILY_BONUS_CLAIMED(4),
+        LEVEL_COMPLETED(5),
+        SKIN_PURCHASED(6),
+        SKIN_EQUIPPED(7);
+
+        private final int code;
+
+        Type(int code) {
+            this.code = code;
+        }
+
+        public int code() {
+            return code;
+        }
+
+        static Type fromCode(int code) {
+            for (Type type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown profile event code: " + code);
+        }
+    }
+
+    public enum SkinKind {
+        PADDLE,
+        BALL
+    }
+
+    private final Type type;
+    private final long sequence;
+    private final long epochSeconds;
+    private final int amount;
+    private final String id;
+
+    private ProfileEvent(Type type, long sequence, long epochSeconds, int amount, String id) {
+        this.type = Objects.requireNonNull(type, "type");
+        this.sequence = sequence;
+        this.epochSeconds = epochSeconds;
+        this.amount = amount;
+        this.id = id;
+    }
+
+    public static ProfileEvent coinsDelta(int delta) {
+        return new ProfileEvent(Type.COINS_DELTA, 0, 0, delta, null);
+    }
+
+    public static ProfileEvent livesDelta(int delta) {
+        return new ProfileEvent(Type.LIVES_DELTA, 0, 0, delta, null);
+    }
+
+    public static ProfileEvent energyDelta(int delta) {
+        return new ProfileEvent(Type.ENERGY_DELTA, 0, 0, delta, null);
+    }
+
+    /**
+     * Daily bonus claim with the resulting streak; the granted coins and lives are recorded as
+     * separate delta events.
+     */
+    public static ProfileEvent dailyBonusClaimed(long claimedAtEpochSeconds, int streak) {
+        return new ProfileEvent(Type.DAILY_BONUS_CLAIMED, 0, claimedAtEpochSeconds, streak, null);
+    }
+
+    public static ProfileEvent levelCompleted(String levelId) {
+        return new ProfileEvent(Type.LEVEL_COMPLETED, 0, 0, 0, Objects.requireNonNull(levelId, "levelId"));
+    }
+
+    public static ProfileEvent skinPurchased(SkinKind kind, String skinId) {
+        return new ProfileEvent(Type.SKIN_PURCHASED, 0, 0, kind.ordinal(), Objects.requireNonNull(skinId, "skinId"));
+    }
+
+    public static ProfileEvent skinEquipped(SkinKind kind, String skinId) {
+        return new ProfileEvent(Type.SKIN_EQUIPPED, 0, 0, kind.ordinal(), Objects.requireNonNull(skinId, "skinId"));
+    }
+
+    /**
+     * Returns a copy stamped with its journal sequence number and wall-clock time.
+     */
+    ProfileEvent stamped(long sequence, long nowEpochSeconds) {
+        long time = epochSeconds != 0 ? epochSeconds : nowEpochSeconds;
+        return new ProfileEvent(type, sequence, time, amount, id);
+    }
+
+    /**
+     * Re-applies this event to a profile loaded from an older snapshot.
+     */
+    void applyTo(PlayerProfile profile) {
+        switch (type) {
+            case COINS_DELTA:
+                profile.setCoins(Math.max(0, profile.getCoins() + amount));
+                break;
+            case LIVES_DELTA:
+                profile.setLives(Math.max(0, Math.min(profile.getMaxLives(), profile.getLives() + amount)));
+                break;
+            case ENERGY_DELTA:
+                profile.setEnergy(Math.max(0, Math.min(profile.getMaxEnergy(), profile.getEnergy() + amount)));
+                break;
+            case DAILY_BONUS_CLAIMED:
+                profile.setDailyStreak(amount);
+                profile.setLastDailyBonusEpochSeconds(epochSeconds);
+                break;
+            case LEVEL_COMPLETED:
+                profile.markLevelCompleted(id);
+                profile.unlockLevel(id);
+                break;
+            case SKIN_PURCHASED:
+                if (skinKind() == SkinKind.PADDLE) {
+                    profile.addPaddleSkin(id);
+                } else {
+                    profile.addBallSkin(id);
+                }
+                break;
+            case SKIN_EQUIPPED:
+                if (skinKind() == SkinKind.PADDLE) {
+                    profile.setActivePaddleSkin(id);
+                } else {
+                    profile.setActiveBallSkin(id);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeLong(sequence);
+        out.writeLong(epochSeconds);
+        out.writeByte(type.code());
+        out.writeInt(amount);
+        out.writeBoolean(id != null);
+        if (id != null) {
+            out.writeUTF(id);
+        }
+    }
+
+    static ProfileEvent readFrom(DataInputStream in) throws IOException {
+        long sequence = in.readLong();
+        long epochSeconds = in.readLong();
+        Type type = Type.fromCode(in.readUnsignedByte());
+        int amount = in.readInt();
+        String id = in.readBoolean() ? in.readUTF() : null;
+        return new ProfileEvent(type, sequence, epochSeconds, amount, id);
+    }
+
+    public Type type() {
+        return type;
+    }
+
+    public long sequence() {
+        return sequence;
+    }
+
+    public long epochSeconds() {
+        return epochSeconds;
+    }
+
+    public int amount() {
+        return amount;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    private SkinKind skinKind() {
+        return SkinKind.values()[amount];
+    }
+}
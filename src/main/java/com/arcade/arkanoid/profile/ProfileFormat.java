@@ -0,0 +1,79 @@
+package com.arcade.arkanoid.profile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * On-disk encoding for profiles and save slots. The format is chosen per install, either with the
+ * {@code arkanoid.profile.format} system property or a {@code profile-format} file in the profile
+ * directory containing {@code json} or {@code binary}. Files written in the other format are
+ * still read and migrated on the next save.
+ */
+public enum ProfileFormat {
+    JSON(".json"),
+    BINARY(".bin");
+
+    public static final String SYSTEM_PROPERTY = "arkanoid.profile.format";
+    public static final String MARKER_FILE = "profile-format";
+
+    private final String extension;
+
+    ProfileFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public ProfileFormat other() {
+        return this == JSON ? BINARY : JSON;
+    }
+
+    /**
+     * Returns {@code path} with its format extension swapped for this format's extension.
+     */
+    public Path resolve(Path path) {
+        String fileName = path.getFileName().toString();
+        for (ProfileFormat format : values()) {
+            if (fileName.endsWith(format.extension)) {
+                fileName = fileName.substring(0, fileName.length() - format.extension.length());
+                break;
+            }
+        }
+        return path.resolveSibling(fileName + extension);
+    }
+
+    /**
+     * Resolves the configured format for the install rooted at {@code profileDirectory}.
+     */
+    public static ProfileFormat configured(Path profileDirectory) {
+        String value = System.getProperty(SYSTEM_PROPERTY);
+        if ((value == null || value.isBlank()) && profileDirectory != null) {
+            Path marker = profileDirectory.resolve(MARKER_FILE);
+            if (Files.isRegularFile(marker)) {
+                try {
+                    value = new String(Files.readAllBytes(marker), StandardCharsets.UTF_8);
+                } catch (IOException e) {
+                    System.err.println("Failed to read profile format marker: " + e.getMessage());
+                }
+            }
+        }
+        return parse(value, JSON);
+    }
+
+    static ProfileFormat parse(String value, ProfileFormat fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown profile format '" + value.trim() + "', using " + fallback);
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.arcade.arkanoid.profile;
+
+import com.arcade.arkanoid.engine.util.AtomicFileWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only binary journal of {@link ProfileEvent}s stored next to the profile snapshot.
+ * Each record is {@code [int length][int crc32][event body]}; a torn or corrupt tail record stops
+ * replay instead of failing the load. Compaction drops every event already folded into a snapshot
+ * and keeps the previous journal as {@code name.1} for auditing.
+ */
+public class ProfileJournal {
+    private static final int HEADER_BYTES = 8;
+
+    private final Path journalPath;
+    private final AtomicFileWriter compactionWriter;
+    private final List<Record> uncompacted = new ArrayList<>();
+    private final ByteArrayOutputStream encodeBuffer = new ByteArrayOutputStream(64);
+    private final CRC32 crc = new CRC32();
+    private FileChannel channel;
+
+    public ProfileJournal(Path journalPath) {
+        this.journalPath = journalPath;
+        this.compactionWriter = new AtomicFileWriter(journalPath, 1);
+    }
+
+    /**
+     * Reads every intact event in append order and remembers them as not yet compacted.
+     */
+    public synchronized List<ProfileEvent> readAll() {
+        List<ProfileEvent> events = new ArrayList<>();
+        uncompacted.clear();
+        if (!Files.exists(journalPath)) {
+            return events;
+        }
+        byte[] data;
+        try {
+            data = Files.readAllBytes(journalPath);
+        } catch (IOException e) {
+            System.err.println("Failed to read profile journal: " + e.getMessage());
+            return events;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        boolean intact = true;
+        while (buffer.hasRemaining()) {
+            if (buffer.remaining() < HEADER_BYTES) {
+                intact = false;
+                break;
+            }
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                System.err.println("Ignoring torn profile journal tail at offset " + (buffer.position() - HEADER_BYTES));
+                intact = false;
+                break;
+            }
+            byte[] body = new byte[length];
+            buffer.get(body);
+            if (checksum(body) != checksum) {
+                System.err.println("Ignoring corrupt profile journal record at offset "
+                        + (buffer.position() - HEADER_BYTES - length));
+                intact = false;
+                break;
+            }
+            try {
+                ProfileEvent event = ProfileEvent.readFrom(new DataInputStream(new ByteArrayInputStream(body)));
+                events.add(event);
+                uncompacted.add(new Record(event.sequence(), frame(body, checksum)));
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("Ignoring unreadable profile journal record: " + e.getMessage());
+                intact = false;
+                break;
+            }
+        }
+        if (!intact) {
+            // Drop the damaged tail so later appends are not hidden behind it.
+            try {
+                rewrite();
+            } catch (IOException e) {
+                System.err.println("Failed to repair profile journal: " + e.getMessage());
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Appends one stamped event and forces it to disk, so the event is durable once this returns.
+     * Intended to run on the I/O Thread.
+     */
+    public synchronized void append(ProfileEvent event) throws IOException {
+        encodeBuffer.reset();
+        event.writeTo(new DataOutputStream(encodeBuffer));
+        byte[] body = encodeBuffer.toByteArray();
+        byte[] record = frame(body, checksum(body));
+        FileChannel journal = ensureChannel();
+        ByteBuffer data = ByteBuffer.wrap(record);
+        while (data.hasRemaining()) {
+            journal.write(data);
+        }
+        journal.force(false);
+        uncompacted.add(new Record(event.sequence(), record));
+    }
+
+    /**
+     * Removes every event with a sequence number at or below {@code snapshotSequence}, which the
+     * caller has just persisted as part of a full profile snapshot.
+     */
+    public synchronized void compact(long snapshotSequence) throws IOException {
+        boolean changed = false;
+        for (Iterator<Record> it = uncompacted.iterator(); it.hasNext(); ) {
+            if (it.next().sequence <= snapshotSequence) {
+                it.remove();
+                changed = true;
+            }
+        }
+        if (changed) {
+            rewrite();
+        }
+    }
+
+    private void rewrite() throws IOException {
+        closeChannel();
+        compactionWriter.write(stream -> {
+            for (Record record : uncompacted) {
+                stream.write(record.bytes);
+            }
+        });
+    }
+
+    /**
+     * Number of appended events not yet folded into a snapshot.
+     */
+    public synchronized int pendingEvents() {
+        return uncompacted.size();
+    }
+
+    public synchronized void close() {
+        closeChannel();
+    }
+
+    public Path getJournalPath() {
+        return journalPath;
+    }
+
+    private FileChannel ensureChannel() throws IOException {
+        if (channel == null) {
+            Files.createDirectories(journalPath.toAbsolutePath().getParent());
+            channel = FileChannel.open(journalPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.force(true);
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("Failed to close profile journal: " + e.getMessage());
+        }
+        channel = null;
+    }
+
+    private int checksum(byte[] body) {
+        crc.reset();
+        crc.update(body, 0, body.length);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] frame(byte[] body, int checksum) {
+        return ByteBuffer.allocate(HEADER_BYTES + body.length)
+                .putInt(body.length)
+                .putInt(checksum)
+                .put(body)
+                .array();
+    }
+
+    private static final class Record {
+        final long sequence;
+        final byte[] bytes;
+
+        Record(long sequence, byte[] bytes) {
+            this.sequence = sequence;
+            this.bytes = bytes;
+        }
+    }
+}
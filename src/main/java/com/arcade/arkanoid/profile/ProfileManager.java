@@ -7,27 +7,60 @@ import java.nio.file.Paths;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 /**
  * Manages the active profile and integrates save/load lifecycle.
- * Uses I/O Thread Pool for async save/load operations.
+ * Uses I/O Thread Pool for async save/load operations; saves are coalesced by a
+ * {@link ProfileSaveScheduler} so bursts of mutations produce a single write.
+ * Frequent small changes are recorded as {@link ProfileEvent}s in a {@link ProfileJournal} and
+ * folded into the snapshot file periodically; on startup the journal tail is replayed.
+ * The active profile is always written to its own file: switching to a {@link ProfileStore}
+ * player rebinds the snapshot file, journal and post-save listener to that player.
  */
 public class ProfileManager {
-    private final ProfileStorage storage;
-    private PlayerProfile activeProfile;
+    public static final int DEFAULT_COMPACTION_INTERVAL_EVENTS = 64;
+
+    private final Binding home;
     private final IOThreadPool ioThreadPool;
-    private volatile Consumer<PlayerProfile> postSaveListener;
+    private volatile Binding binding;
+    private volatile PlayerProfile activeProfile;
+    private final ProfileSaveScheduler saveScheduler;
+    private final AtomicLong journalSequence = new AtomicLong();
+    private int eventsSinceCompaction;
+    private volatile PendingWrite pendingWrite;
+    private volatile PendingSwitch pendingSwitch;
 
     public ProfileManager() {
         this(defaultProfilePath());
     }
 
     public ProfileManager(Path profilePath) {
-        this.storage = new ProfileStorage(profilePath);
+        this(profilePath,
+                ProfileSaveScheduler.DEFAULT_COALESCE_WINDOW_MILLIS,
+                ProfileSaveScheduler.DEFAULT_MIN_WRITE_INTERVAL_MILLIS);
+    }
+
+    public ProfileManager(Path profilePath, long coalesceWindowMillis, long minWriteIntervalMillis) {
+        this.home = new Binding(
+                new ProfileStorage(profilePath), new ProfileJournal(journalPathFor(profilePath)), null);
+        this.binding = home;
         this.ioThreadPool = IOThreadPool.getInstance();
-        this.activeProfile = storage.loadOrCreateDefault();
+        this.saveScheduler = new ProfileSaveScheduler(
+                this::writeActiveProfile,
+                ioThreadPool,
+                coalesceWindowMillis,
+                minWriteIntervalMillis);
+        this.activeProfile = home.storage.loadOrCreateDefault();
+        int replayed = replayJournal(home.journal, activeProfile);
+        journalSequence.set(activeProfile.getJournalSequence());
         ensureLoginMetadata();
+        if (replayed > 0) {
+            saveProfile();
+        }
     }
 
     private static Path defaultProfilePath() {
@@ -35,28 +68,89 @@ public class ProfileManager {
         return Paths.get("data", "profiles", "default-profile.json");
     }
 
+    private static Path journalPathFor(Path profilePath) {
+        String fileName = profilePath.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        if (extension > 0) {
+            fileName = fileName.substring(0, extension);
+        }
+        return profilePath.resolveSibling(fileName + ".journal");
+    }
+
+    /**
+     * Applies every journal event newer than the snapshot, advances the profile's journal
+     * sequence to the newest event and returns how many were applied.
+     */
+    private static int replayJournal(ProfileJournal journal, PlayerProfile profile) {
+        List<ProfileEvent> events = journal.readAll();
+        long snapshotSequence = profile.getJournalSequence();
+        long latest = snapshotSequence;
+        int replayed = 0;
+        for (ProfileEvent event : events) {
+            if (event.sequence() > snapshotSequence) {
+                event.applyTo(profile);
+                replayed++;
+            }
+            latest = Math.max(latest, event.sequence());
+        }
+        profile.setJournalSequence(latest);
+        return replayed;
+    }
+
     public PlayerProfile getActiveProfile() {
         return activeProfile;
     }
 
     /**
-     * Save profile asynchronously on I/O Thread.
+     * Captures a snapshot of the profile and marks it dirty; the write happens asynchronously on
+     * the I/O Thread once the coalescing window elapses.
      */
     public void saveProfile() {
-        PlayerProfile profile = activeProfile;
-        ioThreadPool.submit(() -> {
-            storage.save(profile);
-            onProfileSaved(profile);
-        });
+        capturePendingSnapshot();
+        saveScheduler.requestSave();
     }
 
     /**
-     * Save profile synchronously (blocking).
+     * Save profile synchronously (blocking), flushing any pending coalesced write.
      */
     public void saveProfileSync() {
-        PlayerProfile profile = activeProfile;
-        storage.save(profile);
-        onProfileSaved(profile);
+        capturePendingSnapshot();
+        saveScheduler.flush();
+    }
+
+    /**
+     * Records a change that the caller has already applied to the active profile. The event is
+     * appended to the journal on the I/O Thread; every {@link #DEFAULT_COMPACTION_INTERVAL_EVENTS}
+     * events a full snapshot is scheduled so the journal stays short.
+     */
+    public void recordEvent(ProfileEvent event) {
+        if (event == null) {
+            return;
+        }
+        long sequence = journalSequence.incrementAndGet();
+        activeProfile.setJournalSequence(sequence);
+        ProfileEvent stamped = event.stamped(sequence, Instant.now().getEpochSecond());
+        // Bound now: a switch before the task runs must not move the event to the next player
+        ProfileJournal journal = binding.journal;
+        ioThreadPool.submit(() -> appendToJournal(journal, stamped));
+        if (++eventsSinceCompaction >= DEFAULT_COMPACTION_INTERVAL_EVENTS) {
+            saveProfile();
+        }
+    }
+
+    public ProfileJournal getJournal() {
+        return binding.journal;
+    }
+
+    /**
+     * File the active profile is written to; changes when a stored profile becomes active.
+     */
+    public Path getActiveProfilePath() {
+        return binding.storage.getProfilePath();
+    }
+
+    public ProfileSaveScheduler getSaveScheduler() {
+        return saveScheduler;
     }
 
     public void refreshProfile(PlayerProfile updatedProfile) {
@@ -64,23 +158,143 @@ public class ProfileManager {
             return;
         }
         updatedProfile.ensureDefaults();
+        // Journal entries so far belong to the previous profile and must not be replayed onto this one.
+        updatedProfile.setJournalSequence(journalSequence.get());
         this.activeProfile = updatedProfile;
         saveProfile();
     }
 
     /**
-     * Registers a callback that runs every time the active profile is persisted.
+     * Loads a stored profile and its journal tail on the I/O Thread and queues it to become the
+     * active profile at the start of the next frame (see {@link #applyPendingSwitch()}), so the
+     * game loop never waits on disk. From then on the profile is saved to its file in the store.
      */
-    public void setPostSaveListener(Consumer<PlayerProfile> listener) {
-        this.postSaveListener = listener;
+    public Future<?> switchProfileAsync(ProfileStore store, String profileId) {
+        return ioThreadPool.submit(() -> {
+            PlayerProfile profile = store.load(profileId);
+            if (profile == null) {
+                System.err.println("Unknown profile " + profileId + ", keeping the active profile");
+                return;
+            }
+            ProfileStorage storage = store.storageFor(profileId);
+            ProfileJournal journal = new ProfileJournal(journalPathFor(storage.getProfilePath()));
+            Binding target = new Binding(storage, journal, store);
+            replayJournal(target.journal, profile);
+            pendingSwitch = new PendingSwitch(target, profile);
+        });
+    }
+
+    /**
+     * Reloads the profile this manager was created with and queues it like
+     * {@link #switchProfileAsync}; its post-save listener is active again once it is applied.
+     */
+    public Future<?> switchToHomeProfileAsync() {
+        return ioThreadPool.submit(() -> {
+            PlayerProfile profile = home.storage.loadIfPresent();
+            if (profile == null) {
+                System.err.println("Failed to reload home profile, keeping the active profile");
+                return;
+            }
+            replayJournal(home.journal, profile);
+            pendingSwitch = new PendingSwitch(home, profile);
+        });
+    }
+
+    /**
+     * Makes a profile loaded by {@link #switchProfileAsync} active. Called by the game loop
+     * between frames; returns true if the active profile changed. The outgoing profile is
+     * written to its own file first, and every later save goes to the incoming profile's file.
+     */
+    public boolean applyPendingSwitch() {
+        PendingSwitch request = pendingSwitch;
+        if (request == null) {
+            return false;
+        }
+        pendingSwitch = null;
+        Binding outgoing = binding;
+        if (outgoing.storage.getProfilePath().equals(request.binding.storage.getProfilePath())) {
+            return false;
+        }
+        PlayerProfile outgoingProfile = activeProfile;
+        outgoingProfile.ensureDefaults();
+        ProfileSnapshot snapshot = outgoingProfile.snapshot();
+        // The persistence lane is FIFO, so this runs after every event already queued for the outgoing journal
+        ioThreadPool.submit(() -> {
+            persist(outgoing, snapshot);
+            outgoing.journal.close();
+        });
+
+        binding = request.binding;
+        if (request.binding.store != null) {
+            request.binding.store.touch(request.profile.getPlayerId());
+        }
+        PlayerProfile incoming = request.profile;
+        incoming.ensureDefaults();
+        journalSequence.set(incoming.getJournalSequence());
+        this.activeProfile = incoming;
+        saveProfile();
+        return true;
+    }
+
+    private void capturePendingSnapshot() {
+        PlayerProfile profile = activeProfile;
+        profile.ensureDefaults();
+        eventsSinceCompaction = 0;
+        pendingWrite = new PendingWrite(binding, profile.snapshot());
+    }
+
+    private void appendToJournal(ProfileJournal journal, ProfileEvent event) {
+        try {
+            journal.append(event);
+        } catch (Exception e) {
+            System.err.println("Failed to append profile event: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Runs on the I/O Thread and only ever sees the latest fully captured snapshot.
+     */
+    private void writeActiveProfile() {
+        PendingWrite write = pendingWrite;
+        if (write == null) {
+            return;
+        }
+        persist(write.binding, write.snapshot);
+    }
+
+    private void persist(Binding target, ProfileSnapshot snapshot) {
+        if (target.storage.save(snapshot)) {
+            try {
+                target.journal.compact(snapshot.getJournalSequence());
+            } catch (Exception e) {
+                System.err.println("Failed to compact profile journal: " + e.getMessage());
+            }
+            if (target.store != null) {
+                target.store.updateEntry(snapshot);
+            }
+        }
+        notifySaved(target, snapshot);
+    }
+
+    /**
+     * Registers a callback that runs every time the active profile is persisted. The listener
+     * belongs to the active profile: it is set aside while another profile is switched in and
+     * comes back with its profile.
+     */
+    public void setPostSaveListener(Consumer<ProfileSnapshot> listener) {
+        binding.postSaveListener = listener;
     }
 
     /**
      * Invoked after the profile finishes persisting to disk. Subclasses can override to keep
      * test doubles lightweight while still reusing the listener dispatching logic.
      */
-    protected void onProfileSaved(PlayerProfile profile) {
-        Consumer<PlayerProfile> listener = postSaveListener;
+    protected void onProfileSaved(ProfileSnapshot profile) {
+        notifySaved(binding, profile);
+    }
+
+    private void notifySaved(Binding target, ProfileSnapshot profile) {
+        Consumer<ProfileSnapshot> listener = target.postSaveListener;
         if (listener == null || profile == null) {
             return;
         }
@@ -105,4 +319,41 @@ public class ProfileManager {
             profile.setLastLoginEpochSeconds(now);
         }
     }
+
+    /**
+     * Where one profile is persisted: its snapshot file, its journal, the store that indexes it
+     * ({@code null} for the manager's own file) and its post-save listener.
+     */
+    private static final class Binding {
+        final ProfileStorage storage;
+        final ProfileJournal journal;
+        final ProfileStore store;
+        volatile Consumer<ProfileSnapshot> postSaveListener;
+
+        Binding(ProfileStorage storage, ProfileJournal journal, ProfileStore store) {
+            this.storage = storage;
+            this.journal = journal;
+            this.store = store;
+        }
+    }
+
+    private static final class PendingWrite {
+        final Binding binding;
+        final ProfileSnapshot snapshot;
+
+        PendingWrite(Binding binding, ProfileSnapshot snapshot) {
+            this.binding = binding;
+            this.snapshot = snapshot;
+        }
+    }
+
+    private static final class PendingSwitch {
+        final Binding binding;
+        final PlayerProfile profile;
+
+        PendingSwitch(Binding binding, PlayerProfile profile) {
+            this.binding = binding;
+            this.profile = profile;
+        }
+    }
 }
@@ -0,0 +1,127 @@
+package com.arcade.arkanoid.profile;
+
+import com.arcade.arkanoid.engine.util.IOThreadPool;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces profile save requests into as few disk writes as possible.
+ * A request only marks the profile dirty; the write itself runs on the I/O Thread once the
+ * coalescing window has elapsed, and never more often than the minimum write interval.
+ */
+public class ProfileSaveScheduler {
+    public static final long DEFAULT_COALESCE_WINDOW_MILLIS = 250;
+    public static final long DEFAULT_MIN_WRITE_INTERVAL_MILLIS = 1000;
+
+    private final Runnable writer;
+    private final IOThreadPool ioThreadPool;
+    private final long coalesceWindowMillis;
+    private final long minWriteIntervalMillis;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final AtomicLong savesRequested = new AtomicLong();
+    private final AtomicLong savesWritten = new AtomicLong();
+    private final Object writeLock = new Object();
+    private volatile long lastWriteNanos;
+    private ScheduledFuture<?> pendingWrite;
+
+    public ProfileSaveScheduler(Runnable writer, IOThreadPool ioThreadPool) {
+        this(writer, ioThreadPool, DEFAULT_COALESCE_WINDOW_MILLIS, DEFAULT_MIN_WRITE_INTERVAL_MILLIS);
+    }
+
+    public ProfileSaveScheduler(Runnable writer,
+                                IOThreadPool ioThreadPool,
+                                long coalesceWindowMillis,
+                                long minWriteIntervalMillis) {
+        if (coalesceWindowMillis < 0) {
+            throw new IllegalArgumentException("coalesceWindowMillis must be >= 0");
+        }
+        if (minWriteIntervalMillis < 0) {
+            throw new IllegalArgumentException("minWriteIntervalMillis must be >= 0");
+        }
+        this.writer = writer;
+        this.ioThreadPool = ioThreadPool;
+        this.coalesceWindowMillis = coalesceWindowMillis;
+        this.minWriteIntervalMillis = minWriteIntervalMillis;
+        this.lastWriteNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(minWriteIntervalMillis);
+    }
+
+    /**
+     * Marks the profile dirty and schedules a write unless one is already pending.
+     */
+    public void requestSave() {
+        savesRequested.incrementAndGet();
+        if (dirty.compareAndSet(false, true)) {
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Writes the profile immediately on the calling thread, cancelling any pending write.
+     * Used on shutdown so no requested change is ever lost.
+     */
+    public void flush() {
+        synchronized (this) {
+            if (pendingWrite != null) {
+                pendingWrite.cancel(false);
+                pendingWrite = null;
+            }
+        }
+        dirty.set(false);
+        write();
+    }
+
+    /**
+     * Returns true while a requested change has not been written yet.
+     */
+    public boolean isDirty() {
+        return dirty.get();
+    }
+
+    public long getSavesRequested() {
+        return savesRequested.get();
+    }
+
+    public long getSavesWritten() {
+        return savesWritten.get();
+    }
+
+    public long getCoalesceWindowMillis() {
+        return coalesceWindowMillis;
+    }
+
+    public long getMinWriteIntervalMillis() {
+        return minWriteIntervalMillis;
+    }
+
+    private synchronized void scheduleWrite() {
+        long sinceLastWrite = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastWriteNanos);
+        long delay = Math.max(coalesceWindowMillis, minWriteIntervalMillis - sinceLastWrite);
+        pendingWrite = ioThreadPool.schedule(this::writeIfDirty, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void writeIfDirty() {
+        synchronized (this) {
+            pendingWrite = null;
+        }
+        // Clear before writing so changes made during the write schedule a follow-up save.
+        if (dirty.getAndSet(false)) {
+            write();
+        }
+    }
+
+    private void write() {
+        synchronized (writeLock) {
+            try {
+                writer.run();
+                savesWritten.incrementAndGet();
+            } catch (Exception e) {
+                System.err.println("Failed to write player profile: " + e.getMessage());
+            } finally {
+                lastWriteNanos = System.nanoTime();
+            }
+        }
+    }
+}
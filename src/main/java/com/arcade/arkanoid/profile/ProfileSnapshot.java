@@ -0,0 +1,139 @@
+package com.arcade.arkanoid.profile;
+
+import java.util.List;
+
+/**
+ * Immutable point-in-time copy of a {@link PlayerProfile}, taken on the game thread and handed to
+ * the I/O Thread for serialisation. Exposes the same bean properties as {@link PlayerProfile} so
+ * both serialise to the same JSON document.
+ */
+public final class ProfileSnapshot {
+    private final String playerId;
+    private final String displayName;
+    private final String currentLevelId;
+    private final List<String> unlockedLevelIds;
+    private final List<String> completedLevelIds;
+    private final int lives;
+    private final int maxLives;
+    private final int coins;
+    private final int energy;
+    private final int maxEnergy;
+    private final long lastLoginEpochSeconds;
+    private final int dailyStreak;
+    private final long lastDailyBonusEpochSeconds;
+    private final List<String> ownedPaddleSkins;
+    private final List<String> ownedBallSkins;
+    private final String activePaddleSkin;
+    private final String activeBallSkin;
+    private final long journalSequence;
+
+    ProfileSnapshot(String playerId,
+                    String displayName,
+                    String currentLevelId,
+                    List<String> unlockedLevelIds,
+                    List<String> completedLevelIds,
+                    int lives,
+                    int maxLives,
+                    int coins,
+                    int energy,
+                    int maxEnergy,
+                    long lastLoginEpochSeconds,
+                    int dailyStreak,
+                    long lastDailyBonusEpochSeconds,
+                    List<String> ownedPaddleSkins,
+                    List<String> ownedBallSkins,
+                    String activePaddleSkin,
+                    String activeBallSkin,
+                    long journalSequence) {
+        this.playerId = playerId;
+        this.displayName = displayName;
+        this.currentLevelId = currentLevelId;
+        this.unlockedLevelIds = unlockedLevelIds;
+        this.completedLevelIds = completedLevelIds;
+        this.lives = lives;
+        this.maxLives = maxLives;
+        this.coins = coins;
+        this.energy = energy;
+        this.maxEnergy = maxEnergy;
+        this.lastLoginEpochSeconds = lastLoginEpochSeconds;
+        this.dailyStreak = dailyStreak;
+        this.lastDailyBonusEpochSeconds = lastDailyBonusEpochSeconds;
+        this.ownedPaddleSkins = ownedPaddleSkins;
+        this.ownedBallSkins = ownedBallSkins;
+        this.activePaddleSkin = activePaddleSkin;
+        this.activeBallSkin = activeBallSkin;
+        this.journalSequence = journalSequence;
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getCurrentLevelId() {
+        return currentLevelId;
+    }
+
+    public List<String> getUnlockedLevelIds() {
+        return unlockedLevelIds;
+    }
+
+    public List<String> getCompletedLevelIds() {
+        return completedLevelIds;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public int getMaxLives() {
+        return maxLives;
+    }
+
+    public int getCoins() {
+        return coins;
+    }
+
+    public int getEnergy() {
+        return energy;
+    }
+
+    public int getMaxEnergy() {
+        return maxEnergy;
+    }
+
+    public long getLastLoginEpochSeconds() {
+        return lastLoginEpochSeconds;
+    }
+
+    public int getDailyStreak() {
+        return dailyStreak;
+    }
+
+    public long getLastDailyBonusEpochSeconds() {
+        return lastDailyBonusEpochSeconds;
+    }
+
+    public List<String> getOwnedPaddleSkins() {
+        return ownedPaddleSkins;
+    }
+
+    public List<String> getOwnedBallSkins() {
+        return ownedBallSkins;
+    }
+
+    public String getActivePaddleSkin() {
+        return activePaddleSkin;
+    }
+
+    public String getActiveBallSkin() {
+        return activeBallSkin;
+    }
+
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+}
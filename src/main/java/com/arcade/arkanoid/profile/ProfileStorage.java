@@ -1,62 +1,142 @@
 package com.arcade.arkanoid.profile;
 
+import com.arcade.arkanoid.engine.util.AtomicFileWriter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 
 /**
  * Responsible for reading and writing player profiles to disk.
+ * Writes are atomic with rolling backups, and loading falls back to the newest readable backup.
+ * Profiles are encoded in the install's {@link ProfileFormat}; a profile found only in the other
+ * format is read, rewritten in the configured one and removed from the other.
  */
 public class ProfileStorage {
-    private final ObjectMapper mapper;
+    public static final int DEFAULT_BACKUP_GENERATIONS = 3;
+    // Configured once and shared: building a mapper scans for modules, and mappers are thread-safe
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .findAndRegisterModules()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final ProfileFormat format;
     private final Path profilePath;
+    private final AtomicFileWriter writer;
+    private final AtomicFileWriter legacyWriter;
 
     public ProfileStorage(Path profilePath) {
-        this.profilePath = profilePath;
-        this.mapper = new ObjectMapper()
-                .findAndRegisterModules()
-                .enable(SerializationFeature.INDENT_OUTPUT);
+        this(profilePath, DEFAULT_BACKUP_GENERATIONS);
+    }
+
+    public ProfileStorage(Path profilePath, int backupGenerations) {
+        this(profilePath, backupGenerations, ProfileFormat.configured(profilePath.toAbsolutePath().getParent()));
+    }
+
+    public ProfileStorage(Path profilePath, int backupGenerations, ProfileFormat format) {
+        this.format = format;
+        this.profilePath = format.resolve(profilePath);
+        this.writer = new AtomicFileWriter(this.profilePath, backupGenerations);
+        this.legacyWriter = new AtomicFileWriter(format.other().resolve(profilePath), backupGenerations);
     }
 
     public PlayerProfile loadOrCreateDefault() {
-        if (Files.exists(profilePath)) {
-            try (InputStream stream = Files.newInputStream(profilePath, StandardOpenOption.READ)) {
-                PlayerProfile profile = mapper.readValue(stream, PlayerProfile.class);
-                profile.ensureDefaults();
-                return profile;
-            } catch (IOException e) {
-                System.err.println("Failed to read player profile, creating new one: " + e.getMessage());
-            }
+        PlayerProfile profile = loadIfPresent();
+        if (profile != null) {
+            return profile;
         }
         PlayerProfile fallback = PlayerProfile.newDefault();
         save(fallback);
         return fallback;
     }
 
+    /**
+     * Loads the newest readable profile in either format, or returns {@code null} when there is
+     * none; a profile found only in the other format is rewritten in the configured one.
+     */
+    public PlayerProfile loadIfPresent() {
+        if (writer.anyGenerationExists()) {
+            PlayerProfile profile = writer.readNewest(path -> read(path, format));
+            if (profile != null) {
+                return profile;
+            }
+            System.err.println("No readable player profile found at " + profilePath);
+        } else if (legacyWriter.anyGenerationExists()) {
+            PlayerProfile profile = legacyWriter.readNewest(path -> read(path, format.other()));
+            if (profile != null) {
+                migrate(profile);
+                return profile;
+            }
+            System.err.println("No readable player profile found at " + profilePath);
+        }
+        return null;
+    }
+
     public void save(PlayerProfile profile) {
         if (profile == null) {
             return;
         }
         profile.ensureDefaults();
+        save(profile.snapshot());
+    }
+
+    /**
+     * Persists an immutable snapshot; safe to call from the I/O Thread while gameplay keeps
+     * mutating the live profile. Returns true once the snapshot is durably on disk.
+     */
+    public boolean save(ProfileSnapshot profile) {
+        if (profile == null) {
+            return false;
+        }
         try {
-            Files.createDirectories(profilePath.getParent());
+            if (format == ProfileFormat.BINARY) {
+                writer.write(stream -> ProfileBinaryCodec.writeProfile(profile, stream));
+            } else {
+                writer.write(stream -> MAPPER.writeValue(stream, profile));
+            }
+            return true;
         } catch (IOException e) {
-            System.err.println("Failed to create profile directory: " + e.getMessage());
+            System.err.println("Failed to persist player profile: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Rewrites a profile read from the other format in the configured one, then removes the old
+     * generations so switching the format back later cannot resurrect the pre-migration profile.
+     */
+    private void migrate(PlayerProfile profile) {
+        profile.ensureDefaults();
+        if (!save(profile.snapshot())) {
+            return;
         }
-        try (OutputStream stream = Files.newOutputStream(profilePath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
-            mapper.writeValue(stream, profile);
+        try {
+            legacyWriter.deleteAllGenerations();
         } catch (IOException e) {
-            System.err.println("Failed to persist player profile: " + e.getMessage());
+            System.err.println("Failed to remove migrated " + format.other() + " profile: " + e.getMessage());
         }
+        System.err.println("Migrated player profile to " + format + " format");
     }
 
     public Path getProfilePath() {
         return profilePath;
     }
+
+    public ProfileFormat getFormat() {
+        return format;
+    }
+
+    private PlayerProfile read(Path path, ProfileFormat encoding) throws IOException {
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(path, StandardOpenOption.READ))) {
+            PlayerProfile profile = encoding == ProfileFormat.BINARY
+                    ? ProfileBinaryCodec.readProfile(stream)
+                    : MAPPER.readValue(stream, PlayerProfile.class);
+            profile.ensureDefaults();
+            return profile;
+        }
+    }
 }
@@ -0,0 +1,296 @@
+package com.arcade.arkanoid.profile;
+
+import com.arcade.arkanoid.engine.util.AtomicFileWriter;
+import com.arcade.arkanoid.engine.util.IOThreadPool;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+/**
+ * Holds many player profiles for shared cabinets. Each profile lives in its own file under a
+ * two-character shard directory ({@code players/ab/abcd-....json}); a single index file with
+ * every id and display name is kept in memory so lookups never touch disk. Profiles are loaded
+ * lazily and the most recently used ones stay in an LRU cache.
+ */
+public class ProfileStore {
+    public static final int DEFAULT_CACHE_CAPACITY = 16;
+    private static final String INDEX_FILE = "index.json";
+
+    private final Path root;
+    private final ProfileFormat format;
+    private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+    private final AtomicFileWriter indexWriter;
+    private final ProfileSaveScheduler indexSaver;
+    private final Map<String, Entry> byId = new LinkedHashMap<>();
+    private final Map<String, List<Entry>> byName = new HashMap<>();
+    private final LinkedHashMap<String, PlayerProfile> cache;
+    private final LinkedHashMap<String, ProfileStorage> storages;
+
+    public ProfileStore() {
+        this(Paths.get("data", "profiles", "players"));
+    }
+
+    public ProfileStore(Path root) {
+        this(root, ProfileFormat.configured(root.toAbsolutePath().getParent()), DEFAULT_CACHE_CAPACITY);
+    }
+
+    public ProfileStore(Path root, ProfileFormat format, int cacheCapacity) {
+        if (cacheCapacity < 1) {
+            throw new IllegalArgumentException("cacheCapacity must be >= 1");
+        }
+        this.root = root;
+        this.format = format;
+        this.indexWriter = new AtomicFileWriter(root.resolve(INDEX_FILE), 1);
+        this.indexSaver = new ProfileSaveScheduler(this::writeIndex, IOThreadPool.getInstance());
+        this.cache = new LinkedHashMap<>(cacheCapacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PlayerProfile> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+        // Storages of recently used profiles are reused, so repeated saves keep one writer per file
+        this.storages = new LinkedHashMap<>(cacheCapacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ProfileStorage> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+        loadIndex();
+    }
+
+    /**
+     * Creates a new profile, registers it in the index and writes it on the I/O Thread.
+     */
+    public PlayerProfile create(String displayName) {
+        PlayerProfile profile = PlayerProfile.newDefault();
+        if (displayName != null && !displayName.isBlank()) {
+            profile.setDisplayName(displayName);
+        }
+        ProfileSnapshot snapshot = profile.snapshot();
+        synchronized (this) {
+            index(new Entry(snapshot.getPlayerId(), snapshot.getDisplayName(), Instant.now().getEpochSecond()));
+            cache.put(snapshot.getPlayerId(), profile);
+        }
+        indexSaver.requestSave();
+        IOThreadPool.getInstance().submit(() -> storageFor(snapshot.getPlayerId()).save(snapshot));
+        return profile;
+    }
+
+    public synchronized Entry findById(String profileId) {
+        return profileId == null ? null : byId.get(profileId);
+    }
+
+    /**
+     * Case-insensitive display-name lookup; several players may share a name.
+     */
+    public synchronized List<Entry> findByName(String displayName) {
+        if (displayName == null) {
+            return Collections.emptyList();
+        }
+        List<Entry> matches = byName.get(nameKey(displayName));
+        return matches == null ? Collections.emptyList() : new ArrayList<>(matches);
+    }
+
+    public synchronized List<Entry> entries() {
+        return new ArrayList<>(byId.values());
+    }
+
+    public synchronized int size() {
+        return byId.size();
+    }
+
+    public synchronized int cachedProfiles() {
+        return cache.size();
+    }
+
+    public synchronized boolean isCached(String profileId) {
+        return cache.containsKey(profileId);
+    }
+
+    /**
+     * Returns the profile from the LRU cache or reads it from its shard file. Unknown ids return
+     * {@code null}. Reading blocks, so call from the I/O Thread or use {@link #loadAsync}.
+     */
+    public PlayerProfile load(String profileId) {
+        synchronized (this) {
+            PlayerProfile cached = cache.get(profileId);
+            if (cached != null) {
+                return cached;
+            }
+            if (!byId.containsKey(profileId)) {
+                return null;
+            }
+        }
+        PlayerProfile loaded = storageFor(profileId).loadIfPresent();
+        if (loaded == null) {
+            return null;
+        }
+        synchronized (this) {
+            PlayerProfile raced = cache.get(profileId);
+            if (raced != null) {
+                return raced;
+            }
+            cache.put(profileId, loaded);
+            return loaded;
+        }
+    }
+
+    public Future<PlayerProfile> loadAsync(String profileId) {
+        return IOThreadPool.getInstance().submit(() -> load(profileId));
+    }
+
+    /**
+     * Persists a snapshot to its shard file and refreshes its index entry. Writing blocks, so call
+     * from the I/O Thread. A profile made active with {@link ProfileManager#switchProfileAsync} is
+     * written by its manager instead.
+     */
+    public void save(ProfileSnapshot snapshot) {
+        if (snapshot == null || snapshot.getPlayerId() == null) {
+            return;
+        }
+        storageFor(snapshot.getPlayerId()).save(snapshot);
+        updateEntry(snapshot);
+    }
+
+    /**
+     * Refreshes the index entry of a profile whose shard file was just written.
+     */
+    void updateEntry(ProfileSnapshot snapshot) {
+        synchronized (this) {
+            Entry previous = byId.get(snapshot.getPlayerId());
+            if (previous != null && previous.displayName.equals(snapshot.getDisplayName())) {
+                return;
+            }
+            index(new Entry(snapshot.getPlayerId(), snapshot.getDisplayName(),
+                    previous != null ? previous.lastActiveEpochSeconds : Instant.now().getEpochSecond()));
+        }
+        indexSaver.requestSave();
+    }
+
+    /**
+     * Marks a profile as just used, keeping it hot in the cache and updating its index entry.
+     */
+    public void touch(String profileId) {
+        synchronized (this) {
+            Entry entry = byId.get(profileId);
+            if (entry == null) {
+                return;
+            }
+            cache.get(profileId);
+            index(new Entry(entry.profileId, entry.displayName, Instant.now().getEpochSecond()));
+        }
+        indexSaver.requestSave();
+    }
+
+    /**
+     * Writes any pending index change immediately.
+     */
+    public void flush() {
+        indexSaver.flush();
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    Path profilePath(String profileId) {
+        String shard = profileId.length() >= 2 ? profileId.substring(0, 2) : "_" + profileId;
+        return root.resolve(shard.toLowerCase(Locale.ROOT)).resolve(profileId + format.extension());
+    }
+
+    /**
+     * Storage of one profile's shard file, shared with the {@link ProfileManager} it is active in.
+     */
+    synchronized ProfileStorage storageFor(String profileId) {
+        return storages.computeIfAbsent(profileId, id -> new ProfileStorage(profilePath(id), 1, format));
+    }
+
+    private void index(Entry entry) {
+        Entry previous = byId.put(entry.profileId, entry);
+        if (previous != null) {
+            List<Entry> named = byName.get(nameKey(previous.displayName));
+            if (named != null) {
+                named.remove(previous);
+                if (named.isEmpty()) {
+                    byName.remove(nameKey(previous.displayName));
+                }
+            }
+        }
+        byName.computeIfAbsent(nameKey(entry.displayName), key -> new ArrayList<>(1)).add(entry);
+    }
+
+    private static String nameKey(String displayName) {
+        return displayName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private synchronized void loadIndex() {
+        IndexFile file = indexWriter.readNewest(path -> mapper.readValue(path.toFile(), IndexFile.class));
+        if (file == null || file.profiles == null) {
+            return;
+        }
+        for (Entry entry : file.profiles) {
+            if (entry.profileId != null && entry.displayName != null) {
+                index(entry);
+            }
+        }
+    }
+
+    private void writeIndex() {
+        IndexFile file = new IndexFile();
+        synchronized (this) {
+            file.profiles = new ArrayList<>(byId.values());
+        }
+        try {
+            indexWriter.write(stream -> mapper.writeValue(stream, file));
+        } catch (IOException e) {
+            System.err.println("Failed to write profile index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Index record for one stored profile.
+     */
+    public static final class Entry {
+        private String profileId;
+        private String displayName;
+        private long lastActiveEpochSeconds;
+
+        private Entry() {
+            // Jackson constructor.
+        }
+
+        Entry(String profileId, String displayName, long lastActiveEpochSeconds) {
+            this.profileId = profileId;
+            this.displayName = displayName;
+            this.lastActiveEpochSeconds = lastActiveEpochSeconds;
+        }
+
+        public String getProfileId() {
+            return profileId;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public long getLastActiveEpochSeconds() {
+            return lastActiveEpochSeconds;
+        }
+    }
+
+    private static class IndexFile {
+        public int version = 1;
+        public List<Entry> profiles;
+    }
+}
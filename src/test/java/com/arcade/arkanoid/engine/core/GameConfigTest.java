@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 
+import com.arcade.arkanoid.engine.util.ThreadingMode;
+
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -59,6 +61,14 @@ class GameConfigTest {
         assertNotSame(first, second, "Default config should return a new instance each time");
     }
 
+    @Test
+    void threadingModeIsConfigurable() {
+        GameConfig config = new GameConfig(800, 600, "Threads", 60, ThreadingMode.PLATFORM);
+
+        assertEquals(ThreadingMode.PLATFORM, config.threadingMode(), "Threading mode should expose constructor value");
+        assertNotNull(GameConfig.defaultConfig().threadingMode(), "Default config should pick a threading mode");
+    }
+
     static Stream<Arguments> configSamples() {
         return Stream.of(
                 Arguments.of(GameConfig.defaultConfig(), 1280, 720, "Arkanoid Reborn", 60),
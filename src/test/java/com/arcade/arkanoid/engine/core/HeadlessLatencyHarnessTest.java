@@ -0,0 +1,106 @@
+package com.arcade.arkanoid.engine.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.arcade.arkanoid.ArkanoidGame;
+import com.arcade.arkanoid.engine.input.InputLatencyTracker;
+import com.arcade.arkanoid.engine.input.InputManager;
+import com.arcade.arkanoid.engine.input.LatencyHistogram;
+import com.arcade.arkanoid.engine.scene.Scene;
+import com.arcade.arkanoid.testutil.GameScenes;
+import com.arcade.arkanoid.testutil.TestContextFactory;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.event.KeyEvent;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class HeadlessLatencyHarnessTest {
+  // Generous so slow CI machines pass; a regression here means whole frames of extra delay.
+  private static final long P99_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+  @Test
+  void everyInjectedPressIsTrackedThroughToPresentation() {
+    TestContextFactory.ContextBundle bundle = TestContextFactory.create();
+    bundle.sceneManager().register("paddle", PaddleScene::new);
+    bundle.sceneManager().switchTo("paddle");
+
+    HeadlessLatencyHarness harness = new HeadlessLatencyHarness(bundle.context());
+    InputLatencyTracker.SceneStats stats = harness.measure(KeyEvent.VK_LEFT, 40, 2);
+
+    assertNotNull(stats);
+    LatencyHistogram presented = stats.presented();
+    assertEquals(40, presented.count());
+    assertEquals(40, stats.reaction().count(), "The scene reacts to every press");
+    assertTrue(stats.queue().maxNanos() <= presented.maxNanos());
+    assertTrue(stats.reaction().percentileNanos(50) <= presented.percentileNanos(50));
+    assertTrue(
+        presented.percentileNanos(99) < P99_BUDGET_NANOS,
+        () -> bundle.inputManager().getLatencyTracker().report());
+    assertEquals(0, bundle.inputManager().getLatencyTracker().dropped());
+    assertFalse(bundle.inputManager().getLatencyTracker().isEnabled(), "Harness restores state");
+  }
+
+  @Test
+  void gameplayReactsToEveryPressThroughItsMovementHook() {
+    TestContextFactory.ContextBundle bundle = GameScenes.create("001");
+    bundle.sceneManager().switchTo(ArkanoidGame.SCENE_GAMEPLAY);
+
+    HeadlessLatencyHarness harness = new HeadlessLatencyHarness(bundle.context());
+    InputLatencyTracker.SceneStats stats = harness.measure(KeyEvent.VK_LEFT, 20, 2);
+
+    assertNotNull(stats);
+    assertEquals(20, stats.presented().count());
+    assertEquals(20, stats.reaction().count(), "Every press changes the paddle direction");
+    assertTrue(stats.reaction().percentileNanos(50) <= stats.presented().percentileNanos(50));
+  }
+
+  @Test
+  void pressesBeforeAnyTickAreNotReportedEarly() {
+    InputManager input = new InputManager();
+    InputLatencyTracker tracker = input.getLatencyTracker();
+    tracker.setEnabled(true);
+    input.keyDown(KeyEvent.VK_LEFT);
+    input.prepareFrame();
+
+    tracker.onPresented("scene", System.nanoTime());
+    assertNull(tracker.stats("scene"), "A drained press is pending until a tick handles it");
+
+    tracker.onTick(System.nanoTime());
+    tracker.onPresented("scene", System.nanoTime());
+    assertEquals(1, tracker.stats("scene").presented().count());
+  }
+
+  /** Moves a square left while VK_LEFT is held and reports the reaction like GameplayScene. */
+  private static final class PaddleScene extends Scene {
+    private boolean moving;
+    private int x = 400;
+
+    PaddleScene(GameContext context) {
+      super(context);
+    }
+
+    @Override
+    public void update(double deltaTime) {
+      InputManager input = context.getInput();
+      boolean left = input.isKeyPressed(KeyEvent.VK_LEFT);
+      if (left && !moving) {
+        input.getLatencyTracker().onReaction(KeyEvent.VK_LEFT, System.nanoTime());
+      }
+      moving = left;
+      if (left) {
+        x -= 4;
+      }
+    }
+
+    @Override
+    public void render(Graphics2D graphics) {
+      graphics.setColor(Color.WHITE);
+      graphics.fillRect(x, 300, 20, 20);
+    }
+  }
+}
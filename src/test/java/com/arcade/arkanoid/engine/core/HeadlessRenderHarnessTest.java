@@ -0,0 +1,62 @@
+package com.arcade.arkanoid.engine.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.arcade.arkanoid.ArkanoidGame;
+import com.arcade.arkanoid.testutil.GameScenes;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class HeadlessRenderHarnessTest {
+  private static final int FRAMES = 20;
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        ArkanoidGame.SCENE_MENU,
+        ArkanoidGame.SCENE_MAP,
+        ArkanoidGame.SCENE_SHOP,
+        ArkanoidGame.SCENE_GAMEPLAY
+      })
+  void sameSceneRendersIdenticalPixelsInFreshContexts(String sceneId) {
+    HeadlessRenderHarness.RenderReport first = render(sceneId);
+    HeadlessRenderHarness.RenderReport second = render(sceneId);
+
+    assertEquals(first.pixelHash(), second.pixelHash(), sceneId + " must render deterministically");
+    assertEquals(FRAMES, first.frames());
+    assertTrue(first.percentileNanos(50) <= first.percentileNanos(99));
+    assertTrue(first.percentileNanos(99) <= first.maxNanos());
+    assertTrue(first.bytesPerFrame() != 0, "Allocation is counted, or -1 when unsupported");
+  }
+
+  @Test
+  void differentBoardsHashDifferently() {
+    long sparse = renderLevel("001").pixelHash();
+    long dense = renderLevel("003").pixelHash();
+
+    assertNotEquals(sparse, dense);
+  }
+
+  @Test
+  void pixelHashTracksSinglePixelChanges() {
+    BufferedImage image = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+    long blank = HeadlessRenderHarness.pixelHash(image);
+    image.setRGB(3, 3, 0x010101);
+
+    assertNotEquals(blank, HeadlessRenderHarness.pixelHash(image));
+  }
+
+  private static HeadlessRenderHarness.RenderReport render(String sceneId) {
+    HeadlessRenderHarness harness = new HeadlessRenderHarness(GameScenes.create("003").context());
+    return harness.measure(sceneId, 0, FRAMES);
+  }
+
+  private static HeadlessRenderHarness.RenderReport renderLevel(String levelId) {
+    HeadlessRenderHarness harness = new HeadlessRenderHarness(GameScenes.create(levelId).context());
+    return harness.measure(ArkanoidGame.SCENE_GAMEPLAY, 0, FRAMES);
+  }
+}
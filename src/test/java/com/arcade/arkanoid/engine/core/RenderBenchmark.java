@@ -0,0 +1,76 @@
+package com.arcade.arkanoid.engine.core;
+
+import com.arcade.arkanoid.testutil.RenderGoldens;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Renders each main scene headless and prints frame time percentiles and allocation per frame.
+ * Gameplay runs on the sparsest and the densest shipped boards. Lives with the test sources, next
+ * to {@link HeadlessRenderHarness}'s tests, because it builds its contexts with the test doubles;
+ * the JMH benchmarks under {@code src/jmh/java} only see main classes.
+ *
+ * <p>Each case also reports whether its pixel hash still matches {@link RenderGoldens#HASH_FILE};
+ * {@code RenderGoldenTest} enforces the same check in {@code mvn test}. Record new hashes with
+ * {@code -Drender.record=true} when a visual change is intended.
+ *
+ * <p>Usage: {@code mvn test-compile exec:exec@render-bench [-Drender.args="frames warmup"]}.
+ */
+public final class RenderBenchmark {
+  private RenderBenchmark() {}
+
+  public static void main(String[] args) throws IOException {
+    int frames = args.length > 0 ? Integer.parseInt(args[0]) : 600;
+    int warmup = args.length > 1 ? Integer.parseInt(args[1]) : 120;
+    boolean record = Boolean.getBoolean("render.record");
+
+    Properties expected = RenderGoldens.load();
+    String recordedEnvironment = expected.getProperty(RenderGoldens.ENVIRONMENT_KEY);
+    boolean sameEnvironment = RenderGoldens.environmentFingerprint().equals(recordedEnvironment);
+    Map<String, String> actual = new LinkedHashMap<>();
+    int changed = 0;
+    StringBuilder report = new StringBuilder();
+    for (RenderGoldens.Case renderCase : RenderGoldens.CASES) {
+      String name = renderCase.name();
+      String hex = RenderGoldens.hash(renderCase);
+      actual.put(name, hex);
+      String verdict;
+      if (!expected.containsKey(name)) {
+        verdict = "new";
+      } else if (expected.getProperty(name).equals(hex)) {
+        verdict = "identical";
+      } else if (!sameEnvironment) {
+        verdict = "differs, recorded on another JDK or fonts";
+      } else {
+        verdict = "CHANGED";
+        changed++;
+      }
+
+      HeadlessRenderHarness.RenderReport timing =
+          RenderGoldens.harness(renderCase).measure(renderCase.sceneId(), warmup, frames);
+      report.append(
+          String.format(
+              "%-13s p50=%5dus p95=%5dus p99=%5dus max=%5dus alloc=%6dB/frame pixels=%s (%s)%n",
+              name,
+              timing.percentileNanos(50) / 1_000,
+              timing.percentileNanos(95) / 1_000,
+              timing.percentileNanos(99) / 1_000,
+              timing.maxNanos() / 1_000,
+              timing.bytesPerFrame(),
+              hex,
+              verdict));
+    }
+    System.out.print(report);
+
+    if (record) {
+      RenderGoldens.save(actual);
+      System.out.println("Recorded pixel hashes to " + RenderGoldens.HASH_FILE);
+    } else if (changed > 0) {
+      System.err.println(changed + " scene(s) render different pixels than " + RenderGoldens.HASH_FILE);
+      System.exit(1);
+    }
+    System.exit(0);
+  }
+}
@@ -0,0 +1,48 @@
+package com.arcade.arkanoid.engine.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.arcade.arkanoid.testutil.RenderGoldens;
+import java.io.IOException;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Compares every scene's rendered pixels with the recorded hashes, so renderer optimisations must
+ * keep output identical. Skipped where the JDK or fonts differ from the recording; re-record with
+ * {@code mvn test-compile exec:exec@render-bench -Drender.record=true} after an intended change.
+ */
+class RenderGoldenTest {
+  private static Properties recorded;
+
+  @BeforeAll
+  static void loadRecordedHashes() throws IOException {
+    recorded = RenderGoldens.load();
+  }
+
+  @ParameterizedTest
+  @MethodSource("caseNames")
+  void sceneRendersTheRecordedPixels(String name) {
+    String recordedEnvironment = recorded.getProperty(RenderGoldens.ENVIRONMENT_KEY);
+    assumeTrue(
+        RenderGoldens.environmentFingerprint().equals(recordedEnvironment),
+        "Pixel hashes were recorded on another JDK or with different fonts");
+    String expected = recorded.getProperty(name);
+    assertNotNull(expected, "No recorded hash for " + name);
+
+    assertEquals(
+        expected,
+        RenderGoldens.hash(RenderGoldens.find(name)),
+        name + " renders different pixels than " + RenderGoldens.HASH_FILE);
+  }
+
+  static List<String> caseNames() {
+    return RenderGoldens.CASES.stream().map(RenderGoldens.Case::name).collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,88 @@
+package com.arcade.arkanoid.engine.input;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.event.KeyEvent;
+import javax.swing.JPanel;
+import org.junit.jupiter.api.Test;
+
+class InputManagerTest {
+  private final JPanel source = new JPanel();
+  private final InputManager input = new InputManager();
+
+  @Test
+  void transitionsBecomeVisibleOnlyAfterPrepareFrame() {
+    long before = System.nanoTime();
+    press(KeyEvent.VK_SPACE);
+    assertFalse(input.isKeyPressed(KeyEvent.VK_SPACE));
+
+    input.prepareFrame();
+
+    assertTrue(input.isKeyPressed(KeyEvent.VK_SPACE));
+    assertTrue(input.isKeyJustPressed(KeyEvent.VK_SPACE));
+    assertFalse(input.isKeyJustPressed(KeyEvent.VK_SPACE), "Reading clears the press");
+    assertTrue(input.pressedAtNanos(KeyEvent.VK_SPACE) >= before);
+    assertTrue(input.pressedAtNanos(KeyEvent.VK_SPACE) <= input.frameNanos());
+  }
+
+  @Test
+  void autoRepeatPressesAreIgnoredAndTapsWithinOneFrameStillCount() {
+    press(KeyEvent.VK_LEFT);
+    press(KeyEvent.VK_LEFT);
+    press(KeyEvent.VK_LEFT);
+    press(KeyEvent.VK_ENTER);
+    release(KeyEvent.VK_ENTER);
+    input.prepareFrame();
+
+    assertTrue(input.isKeyJustPressed(KeyEvent.VK_LEFT));
+    assertTrue(input.isKeyJustPressed(KeyEvent.VK_ENTER));
+    assertFalse(input.isKeyPressed(KeyEvent.VK_ENTER));
+
+    input.prepareFrame();
+    assertFalse(input.isKeyJustPressed(KeyEvent.VK_LEFT));
+    assertTrue(input.isKeyPressed(KeyEvent.VK_LEFT));
+
+    release(KeyEvent.VK_LEFT);
+    input.prepareFrame();
+    assertFalse(input.isKeyPressed(KeyEvent.VK_LEFT));
+    assertEquals(0L, input.pressedAtNanos(KeyEvent.VK_LEFT));
+  }
+
+  @Test
+  void resetAllReleasesHeldKeys() {
+    press(KeyEvent.VK_A);
+    press(KeyEvent.VK_D);
+    input.prepareFrame();
+
+    input.resetAll();
+    input.prepareFrame();
+
+    assertFalse(input.isKeyPressed(KeyEvent.VK_A));
+    assertFalse(input.isKeyPressed(KeyEvent.VK_D));
+    assertFalse(input.isKeyJustPressed(KeyEvent.VK_A));
+  }
+
+  @Test
+  void overflowingTheRingReleasesEverythingInsteadOfStickingKeys() {
+    press(KeyEvent.VK_RIGHT);
+    for (int i = 0; i < 300; i++) {
+      release(KeyEvent.VK_RIGHT);
+    }
+    input.prepareFrame();
+    assertFalse(input.isKeyPressed(KeyEvent.VK_RIGHT));
+
+    press(KeyEvent.VK_RIGHT);
+    input.prepareFrame();
+    assertTrue(input.isKeyPressed(KeyEvent.VK_RIGHT), "Input resumes after the resync");
+  }
+
+  private void press(int code) {
+    input.keyPressed(new KeyEvent(source, KeyEvent.KEY_PRESSED, 0L, 0, code, KeyEvent.CHAR_UNDEFINED));
+  }
+
+  private void release(int code) {
+    input.keyReleased(new KeyEvent(source, KeyEvent.KEY_RELEASED, 0L, 0, code, KeyEvent.CHAR_UNDEFINED));
+  }
+}
@@ -0,0 +1,112 @@
+package com.arcade.arkanoid.engine.input;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.arcade.arkanoid.engine.core.GameContext;
+import com.arcade.arkanoid.testutil.TestContextFactory;
+import java.awt.event.KeyEvent;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class InputSourceTest {
+
+  @Test
+  void keyboardSourceMapsBindingsToActions() {
+    InputManager input = new InputManager();
+    input.keyDown(KeyEvent.VK_A);
+    input.keyDown(KeyEvent.VK_SPACE);
+    input.keyDown(KeyEvent.VK_BACK_SPACE);
+    input.prepareFrame();
+
+    InputCommand command = new InputCommand();
+    new KeyboardInputSource(input).poll(7, command);
+
+    assertEquals(7, command.tick());
+    assertEquals(-1, command.horizontal());
+    assertTrue(command.wasPressed(InputCommand.LAUNCH));
+    assertTrue(command.wasPressed(InputCommand.MOVE_LEFT), "Menus step on the press");
+    assertTrue(command.wasPressed(InputCommand.DELETE));
+    assertFalse(command.wasPressed(InputCommand.PAUSE));
+    assertFalse(input.isKeyJustPressed(KeyEvent.VK_SPACE), "Polling consumes the press");
+  }
+
+  @Test
+  void contextPollsItsSourceOncePerTick() {
+    GameContext context = TestContextFactory.create().context();
+    AtomicInteger polls = new AtomicInteger();
+    context.setInputSource(
+        (tick, into) -> {
+          polls.incrementAndGet();
+          into.set(tick, tick % 2 == 0 ? InputCommand.MOVE_RIGHT : 0, 0);
+        });
+
+    context.beginTick();
+    InputCommand first = context.getCommand();
+    assertSame(first, context.getCommand());
+    assertEquals(1, polls.get());
+
+    context.beginTick();
+    assertEquals(context.getTick() % 2 == 0 ? 1 : 0, context.getCommand().horizontal());
+    assertEquals(2, polls.get());
+  }
+
+  @Test
+  void recordedSessionReplaysTickForTickThroughAStream() throws Exception {
+    InputRecorder recorder =
+        new InputRecorder(
+            (tick, into) ->
+                into.set(
+                    tick,
+                    tick < 3 ? InputCommand.MOVE_LEFT : InputCommand.MOVE_RIGHT,
+                    tick == 4 ? InputCommand.LAUNCH : 0));
+    InputCommand command = new InputCommand();
+    long[] expected = new long[6];
+    for (int tick = 0; tick < 6; tick++) {
+      recorder.poll(tick, command);
+      expected[tick] = command.pack();
+    }
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    recorder.toReplay().write(bytes);
+    ReplayInputSource replay =
+        ReplayInputSource.read(new ByteArrayInputStream(bytes.toByteArray()));
+
+    assertEquals(6, replay.length());
+    for (int i = 0; i < 6; i++) {
+      replay.poll(100 + i, command);
+      assertEquals(expected[i], command.pack(), "tick " + i);
+      assertEquals(100 + i, command.tick());
+    }
+    assertTrue(replay.isFinished(105));
+    replay.poll(106, command);
+    assertEquals(0L, command.pack(), "Idle after the recording ends");
+  }
+
+  @Test
+  void corruptRecordingHeaderFailsWithIOException() throws Exception {
+    assertThrows(IOException.class, () -> ReplayInputSource.read(recordingHeader(-1)));
+    assertThrows(
+        IOException.class,
+        () -> ReplayInputSource.read(recordingHeader(ReplayInputSource.MAX_FRAMES + 1)));
+    assertThrows(
+        IOException.class,
+        () -> ReplayInputSource.read(recordingHeader(ReplayInputSource.MAX_FRAMES)),
+        "A header promising more frames than the stream holds fails on EOF");
+  }
+
+  private static ByteArrayInputStream recordingHeader(int length) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    new ReplayInputSource(new long[0]).write(bytes);
+    byte[] header = bytes.toByteArray();
+    ByteBuffer.wrap(header).putInt(Integer.BYTES, length);
+    return new ByteArrayInputStream(header);
+  }
+}
@@ -0,0 +1,222 @@
+package com.arcade.arkanoid.engine.scene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.arcade.arkanoid.engine.core.GameContext;
+import com.arcade.arkanoid.testutil.TestContextFactory;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class SceneManagerTest {
+  private static final double TICK = 1.0 / 60;
+
+  @Test
+  void preparedSceneIsBuiltAndLoadedOffTheCallingThread() throws Exception {
+    SceneManager scenes = TestContextFactory.create().sceneManager();
+    scenes.register("menu", RecordingScene::new);
+    scenes.register("level", RecordingScene::new);
+    scenes.switchTo("menu");
+    assertFalse(scenes.lastHitch().prepared());
+
+    scenes.prepare("level").get(5, TimeUnit.SECONDS);
+    assertTrue(scenes.isReady("level"));
+    scenes.switchTo("level");
+
+    RecordingScene level = (RecordingScene) scenes.getActiveScene();
+    assertNotEquals(Thread.currentThread().getName(), level.preloadThread);
+    assertEquals(1, level.enters);
+    SceneManager.Hitch hitch = scenes.lastHitch();
+    assertEquals("level", hitch.sceneId());
+    assertTrue(hitch.prepared());
+    assertEquals(2, scenes.recentHitches().size());
+  }
+
+  @Test
+  void unpreparedSwitchStillPreloadsPersistentScenesOnce() {
+    SceneManager scenes = TestContextFactory.create().sceneManager();
+    scenes.registerPersistent("map", RecordingScene::new);
+    scenes.register("menu", RecordingScene::new);
+
+    scenes.switchTo("map");
+    RecordingScene map = (RecordingScene) scenes.getActiveScene();
+    scenes.switchTo("menu");
+    scenes.switchTo("map");
+
+    assertSame(map, scenes.getActiveScene());
+    assertEquals(1, map.preloads);
+    assertEquals(2, map.enters);
+    assertTrue(scenes.isReady("map"));
+  }
+
+  @Test
+  void fadedSwitchFreezesOutgoingSceneAndSwapsAfterFadeOut() throws Exception {
+    SceneManager scenes = TestContextFactory.create().sceneManager();
+    scenes.register("menu", RecordingScene::new);
+    scenes.register("level", RecordingScene::new);
+    scenes.switchTo("menu");
+    RecordingScene menu = (RecordingScene) scenes.getActiveScene();
+
+    scenes.switchTo("level", 0.1);
+    scenes.prepare("level").get(5, TimeUnit.SECONDS);
+    assertTrue(scenes.isTransitioning());
+
+    BufferedImage frame = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+    int ticks = 0;
+    while (scenes.getActiveScene() == menu) {
+      scenes.update(TICK);
+      render(scenes, frame);
+      assertTrue(++ticks < 20, "Switch should happen once the fade-out completes");
+    }
+    assertEquals(0, menu.updates, "Outgoing scene is frozen during the fade");
+    assertTrue(ticks >= 6, "Swap waits for the full fade-out");
+    assertTrue(scenes.isTransitioning(), "Fading back in");
+
+    for (int i = 0; i < 7; i++) {
+      scenes.update(TICK);
+    }
+    assertFalse(scenes.isTransitioning());
+    assertTrue(((RecordingScene) scenes.getActiveScene()).updates > 0);
+    assertTrue(scenes.lastHitch().prepared());
+  }
+
+  @Test
+  void opaqueOverlayFreezesAndCachesTheScenesBelow() {
+    SceneManager scenes = TestContextFactory.create().sceneManager();
+    scenes.registerPersistent("arena", RecordingScene::new);
+    scenes.registerPersistent("pause", context -> new RecordingScene(context, 0.6));
+    scenes.switchTo("arena");
+    RecordingScene arena = (RecordingScene) scenes.getActiveScene();
+    BufferedImage frame = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+
+    scenes.push("pause");
+    RecordingScene pause = (RecordingScene) scenes.getActiveScene();
+    assertEquals("pause", scenes.getActiveSceneId());
+    assertSame(arena, scenes.getBaseScene());
+    for (int i = 0; i < 5; i++) {
+      scenes.update(TICK);
+      render(scenes, frame);
+    }
+
+    assertEquals(0, arena.updates);
+    assertEquals(1, arena.renders, "Frozen arena is rendered once into the cached frame");
+    assertEquals(5, pause.updates);
+    assertEquals(5, pause.renders);
+    assertEquals(0, arena.exits, "Pushing an overlay does not exit the scene below");
+
+    scenes.pop();
+    scenes.update(TICK);
+    render(scenes, frame);
+    assertEquals(0, scenes.overlayCount());
+    assertEquals(1, pause.exits);
+    assertEquals(1, arena.updates);
+    assertEquals(2, arena.renders);
+  }
+
+  @Test
+  void translucentOverlayLeavesScenesBelowRunning() {
+    SceneManager scenes = TestContextFactory.create().sceneManager();
+    scenes.register("arena", RecordingScene::new);
+    scenes.register("hud", context -> new RecordingScene(context, 0.0));
+    scenes.switchTo("arena");
+    RecordingScene arena = (RecordingScene) scenes.getActiveScene();
+    BufferedImage frame = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+
+    scenes.push("hud");
+    scenes.update(TICK);
+    render(scenes, frame);
+    scenes.update(TICK);
+    render(scenes, frame);
+
+    assertEquals(2, arena.updates);
+    assertEquals(2, arena.renders);
+
+    scenes.switchTo("arena");
+    assertEquals(0, scenes.overlayCount(), "Switching scenes clears the overlay stack");
+  }
+
+  @Test
+  void overlayPushedDuringUpdateStartsOnTheNextTick() {
+    SceneManager scenes = TestContextFactory.create().sceneManager();
+    scenes.register("pause", context -> new RecordingScene(context, 1.0));
+    scenes.register(
+        "arena",
+        context ->
+            new RecordingScene(context) {
+              @Override
+              public void update(double deltaTime) {
+                super.update(deltaTime);
+                scenes.push("pause");
+              }
+            });
+    scenes.switchTo("arena");
+
+    scenes.update(TICK);
+
+    assertEquals(0, ((RecordingScene) scenes.getActiveScene()).updates);
+  }
+
+  private static void render(SceneManager scenes, BufferedImage frame) {
+    Graphics2D graphics = frame.createGraphics();
+    try {
+      scenes.render(graphics);
+    } finally {
+      graphics.dispose();
+    }
+  }
+
+  private static class RecordingScene extends Scene {
+    private final double opacity;
+    private volatile String preloadThread;
+    private volatile int preloads;
+    private int enters;
+    private int exits;
+    private int updates;
+    private int renders;
+
+    RecordingScene(GameContext context) {
+      this(context, 1.0);
+    }
+
+    RecordingScene(GameContext context, double opacity) {
+      super(context);
+      this.opacity = opacity;
+    }
+
+    @Override
+    public double overlayOpacity() {
+      return opacity;
+    }
+
+    @Override
+    public void preload() {
+      preloadThread = Thread.currentThread().getName();
+      preloads++;
+    }
+
+    @Override
+    public void onEnter() {
+      enters++;
+    }
+
+    @Override
+    public void onExit() {
+      exits++;
+    }
+
+    @Override
+    public void update(double deltaTime) {
+      updates++;
+    }
+
+    @Override
+    public void render(Graphics2D graphics) {
+      renders++;
+    }
+  }
+}
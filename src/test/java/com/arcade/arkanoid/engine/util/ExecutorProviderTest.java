@@ -0,0 +1,79 @@
+package com.arcade.arkanoid.engine.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ExecutorProviderTest {
+  private final ThreadingMode original = ExecutorProvider.mode();
+
+  @AfterEach
+  void restoreMode() {
+    ExecutorProvider.configure(original);
+  }
+
+  @Test
+  void virtualThreadsAreDetectedFromTheRuntime() {
+    assertEquals(Runtime.version().feature() >= 21, ExecutorProvider.virtualThreadsSupported());
+
+    ExecutorProvider.configure(ThreadingMode.VIRTUAL);
+    assertEquals(ExecutorProvider.virtualThreadsSupported(), ExecutorProvider.usesVirtualThreads());
+
+    ExecutorProvider.configure(ThreadingMode.PLATFORM);
+    assertFalse(ExecutorProvider.usesVirtualThreads());
+  }
+
+  @Test
+  void platformModeUsesNamedDaemonPoolThreads() throws Exception {
+    ExecutorProvider.configure(ThreadingMode.PLATFORM);
+    ExecutorService executor = ExecutorProvider.newBlockingExecutor("test-audio", 2);
+    try {
+      Future<Thread> worker = executor.submit(Thread::currentThread);
+      Thread thread = worker.get(5, TimeUnit.SECONDS);
+      assertTrue(thread.isDaemon());
+      assertTrue(thread.getName().startsWith("test-audio"));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void startRunsTaskOnANewThreadInEitherMode() throws Exception {
+    for (ThreadingMode mode : ThreadingMode.values()) {
+      ExecutorProvider.configure(mode);
+      Thread[] ran = new Thread[1];
+      Thread thread = ExecutorProvider.start("test-player", () -> ran[0] = Thread.currentThread());
+      thread.join(5_000);
+      assertEquals(thread, ran[0], mode.name());
+    }
+  }
+
+  @Test
+  void ioLaneWorkersStayPlatformThreadsWithTheirPriorities() throws Exception {
+    ExecutorProvider.configure(ThreadingMode.VIRTUAL);
+    IOThreadPool pool = new IOThreadPool();
+    try {
+      for (IOLane lane : IOLane.values()) {
+        Thread worker = pool.submit(lane, Thread::currentThread).get(5, TimeUnit.SECONDS);
+        // Virtual threads always report NORM_PRIORITY, so this also fails if a worker is virtual
+        assertEquals(lane.priority(), worker.getPriority(), lane.name());
+        assertTrue(worker.getName().startsWith("io-"), lane.name());
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void threadingModeParsesLeniently() {
+    assertEquals(ThreadingMode.VIRTUAL, ThreadingMode.parse(" virtual ", ThreadingMode.AUTO));
+    assertEquals(ThreadingMode.AUTO, ThreadingMode.parse(null, ThreadingMode.AUTO));
+    assertEquals(ThreadingMode.PLATFORM, ThreadingMode.parse("green", ThreadingMode.PLATFORM));
+  }
+}
@@ -0,0 +1,59 @@
+package com.arcade.arkanoid.engine.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GradientUtilsTest {
+  private static final Font FONT = new Font(Font.SANS_SERIF, Font.BOLD, 40);
+
+  @BeforeEach
+  void clearCache() {
+    GradientUtils.clear3DTextCache();
+  }
+
+  @Test
+  void eachTextFontAndQualityIsRenderedOnce() {
+    BufferedImage canvas = new BufferedImage(400, 200, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = canvas.createGraphics();
+
+    GradientUtils.draw3DSpaceTextFullQuality(g, "ARK", FONT, 20, 100);
+    GradientUtils.draw3DSpaceTextFullQuality(g, "ARK", FONT, 200, 100);
+    GradientUtils.draw3DSpaceTextOptimized(g, "ARK", FONT, 20, 180);
+    g.dispose();
+
+    assertEquals(2, GradientUtils.cached3DTextSprites());
+  }
+
+  @Test
+  void spriteIsTranslationInvariantAndCoversTheGlyphs() {
+    BufferedImage first = new BufferedImage(300, 160, BufferedImage.TYPE_INT_ARGB);
+    BufferedImage shifted = new BufferedImage(300, 160, BufferedImage.TYPE_INT_ARGB);
+    draw(first, 40, 90);
+    draw(shifted, 57, 103);
+
+    int painted = 0;
+    for (int y = 0; y < 140; y++) {
+      for (int x = 0; x < 240; x++) {
+        int rgb = first.getRGB(x, y);
+        assertEquals(rgb, shifted.getRGB(x + 17, y + 13), "pixel " + x + "," + y);
+        if ((rgb >>> 24) != 0) {
+          painted++;
+        }
+      }
+    }
+    assertTrue(painted > 500, "Glyph fill, glow and shadow should be visible");
+    assertTrue((first.getRGB(20, 10) >>> 24) == 0, "Nothing is drawn far above the text");
+  }
+
+  private static void draw(BufferedImage image, int x, int y) {
+    Graphics2D g = image.createGraphics();
+    GradientUtils.draw3DSpaceTextFullQuality(g, "AR", FONT, x, y);
+    g.dispose();
+  }
+}
@@ -0,0 +1,139 @@
+package com.arcade.arkanoid.engine.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class IOThreadPoolTest {
+  private final IOThreadPool pool = new IOThreadPool();
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    pool.shutdown();
+  }
+
+  @Test
+  void slowPersistenceDoesNotDelayAssetLoads() throws Exception {
+    CountDownLatch saving = new CountDownLatch(1);
+    Future<?> save =
+        pool.submit(
+            () -> {
+              saving.countDown();
+              await(release);
+            });
+    assertTrue(saving.await(5, TimeUnit.SECONDS));
+
+    Future<String> decode = pool.submit(IOLane.ASSET, () -> "decoded");
+
+    assertEquals("decoded", decode.get(5, TimeUnit.SECONDS));
+    assertFalse(save.isDone());
+    release.countDown();
+    save.get(5, TimeUnit.SECONDS);
+    assertEquals(1, pool.stats(IOLane.PERSISTENCE).completed());
+  }
+
+  @Test
+  void fullPrefetchLaneRejectsAndQueuedPrefetchesCanBeCancelled() throws Exception {
+    blockLane(IOLane.PREFETCH);
+    AtomicInteger ran = new AtomicInteger();
+    List<Future<?>> queued = new ArrayList<>();
+    for (int i = 0; i < IOLane.PREFETCH.capacity(); i++) {
+      queued.add(pool.submit(IOLane.PREFETCH, ran::incrementAndGet));
+    }
+
+    Future<?> overflow = pool.submit(IOLane.PREFETCH, ran::incrementAndGet);
+    assertTrue(overflow.isCancelled(), "Full prefetch lane turns work away");
+    assertEquals(1, pool.stats(IOLane.PREFETCH).rejected());
+    assertEquals(0, pool.stats(IOLane.PREFETCH).cancelled(), "A rejection is not also a cancel");
+    assertEquals(IOLane.PREFETCH.capacity(), pool.stats(IOLane.PREFETCH).queueDepth());
+
+    assertEquals(IOLane.PREFETCH.capacity(), pool.cancelPrefetches());
+    release.countDown();
+    Thread.sleep(50);
+    assertEquals(0, ran.get());
+    assertTrue(queued.get(0).isCancelled());
+    assertEquals(0, pool.stats(IOLane.PREFETCH).queueDepth());
+    assertEquals(1, pool.stats(IOLane.PREFETCH).rejected());
+    assertEquals(IOLane.PREFETCH.capacity(), pool.stats(IOLane.PREFETCH).cancelled());
+  }
+
+  @Test
+  void fullAssetLaneRunsOnTheCaller() throws Exception {
+    blockLane(IOLane.ASSET);
+    blockLane(IOLane.ASSET);
+    for (int i = 0; i < IOLane.ASSET.capacity(); i++) {
+      pool.submit(IOLane.ASSET, () -> {});
+    }
+
+    Future<String> thread = pool.submit(IOLane.ASSET, () -> Thread.currentThread().getName());
+
+    assertTrue(thread.isDone());
+    assertEquals(Thread.currentThread().getName(), thread.get());
+  }
+
+  @Test
+  void shutdownDrainsPersistenceAndDropsPrefetch() throws Exception {
+    blockLane(IOLane.PREFETCH);
+    AtomicInteger saved = new AtomicInteger();
+    AtomicInteger prefetched = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    pool.submit(
+        () -> {
+          started.countDown();
+          sleep(100);
+          saved.incrementAndGet();
+        });
+    for (int i = 0; i < 5; i++) {
+      pool.submit(saved::incrementAndGet);
+      pool.submit(IOLane.PREFETCH, prefetched::incrementAndGet);
+    }
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    pool.shutdown();
+
+    assertEquals(6, saved.get(), "Every queued save ran before shutdown returned");
+    release.countDown();
+    Thread.sleep(50);
+    assertEquals(0, prefetched.get());
+    assertTrue(pool.stats(IOLane.PERSISTENCE).maxWaitNanos() > 0);
+    assertTrue(pool.submit(IOLane.PREFETCH, prefetched::incrementAndGet).isCancelled());
+  }
+
+  private void blockLane(IOLane lane) throws InterruptedException {
+    CountDownLatch running = new CountDownLatch(1);
+    pool.submit(
+        lane,
+        () -> {
+          running.countDown();
+          await(release);
+        });
+    assertTrue(running.await(5, TimeUnit.SECONDS));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
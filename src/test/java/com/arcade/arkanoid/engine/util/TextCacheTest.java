@@ -0,0 +1,85 @@
+package com.arcade.arkanoid.engine.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import org.junit.jupiter.api.Test;
+
+class TextCacheTest {
+  private static final Font FONT = new Font(Font.SANS_SERIF, Font.BOLD, 20);
+
+  @Test
+  void repeatedStringsHitTheCacheAndMatchDirectRendering() {
+    TextCache cache = new TextCache(8);
+    BufferedImage cached = canvas();
+    BufferedImage direct = canvas();
+
+    Graphics2D g = graphics(cached);
+    cache.drawString(g, "SCORE", FONT, Color.WHITE, 10, 30);
+    cache.drawString(g, "SCORE", FONT, Color.WHITE, 10, 30);
+    g.dispose();
+    Graphics2D d = graphics(direct);
+    d.setFont(FONT);
+    d.setColor(Color.WHITE);
+    d.drawString("SCORE", 10, 30);
+    assertEquals(d.getFontMetrics().stringWidth("SCORE"), cache.stringWidth(d, "SCORE", FONT, Color.WHITE));
+    d.dispose();
+
+    assertEquals(1, cache.misses());
+    assertEquals(2, cache.hits());
+    assertArrayEquals(pixels(direct), pixels(cached));
+  }
+
+  @Test
+  void numbersReuseDigitSprites() {
+    TextCache cache = new TextCache(32);
+    Graphics2D g = graphics(canvas());
+
+    cache.drawNumber(g, 1200, FONT, Color.WHITE, 0, 30);
+    cache.drawNumber(g, 2100, FONT, Color.WHITE, 0, 30);
+    cache.drawNumber(g, -12, FONT, Color.WHITE, 0, 30);
+    g.dispose();
+
+    assertEquals(4, cache.size(), "Only the digits 0, 1, 2 and the minus sign are rendered");
+    assertEquals(4, cache.misses());
+    assertEquals(7, cache.hits());
+    assertEquals(7 / 11.0, cache.hitRate(), 1e-9);
+  }
+
+  @Test
+  void leastRecentlyUsedEntriesAreEvicted() {
+    TextCache cache = new TextCache(2);
+    Graphics2D g = graphics(canvas());
+
+    cache.drawString(g, "a", FONT, Color.WHITE, 0, 30);
+    cache.drawString(g, "b", FONT, Color.WHITE, 0, 30);
+    cache.drawString(g, "a", FONT, Color.WHITE, 0, 30);
+    cache.drawString(g, "c", FONT, Color.WHITE, 0, 30);
+    cache.drawString(g, "a", FONT, Color.WHITE, 0, 30);
+    g.dispose();
+
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.evictions());
+    assertEquals(2, cache.hits());
+  }
+
+  private static BufferedImage canvas() {
+    return new BufferedImage(160, 48, BufferedImage.TYPE_INT_ARGB);
+  }
+
+  private static Graphics2D graphics(BufferedImage image) {
+    Graphics2D g = image.createGraphics();
+    g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+    return g;
+  }
+
+  private static int[] pixels(BufferedImage image) {
+    return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+  }
+}
@@ -0,0 +1,108 @@
+package com.arcade.arkanoid.gameplay;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.arcade.arkanoid.ArkanoidGame;
+import com.arcade.arkanoid.engine.core.GameContext;
+import com.arcade.arkanoid.engine.input.InputCommand;
+import com.arcade.arkanoid.engine.input.InputSource;
+import com.arcade.arkanoid.gameplay.entities.Ball;
+import com.arcade.arkanoid.gameplay.entities.Paddle;
+import com.arcade.arkanoid.testutil.AllocationMeter;
+import com.arcade.arkanoid.testutil.GameScenes;
+import com.arcade.arkanoid.testutil.TestContextFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Guards the gameplay tick against allocation. A scripted autopilot keeps the ball in play on a
+ * dense board while {@link GameplayScene#update} runs for thousands of ticks; once the JIT has
+ * settled, the mean bytes allocated per tick must stay within {@link #BUDGET_BYTES_PER_TICK}. On
+ * failure the heaviest allocating call sites are listed.
+ */
+class GameplayAllocationTest {
+  /**
+   * Mean bytes per tick; override with {@code -Darkanoid.alloc.budget=<bytes>}. Below the size of
+   * the smallest object, so anything allocated every tick fails, while rare events such as a
+   * multi-ball split or a power-up drop fit once averaged over the run.
+   */
+  private static final long BUDGET_BYTES_PER_TICK = Long.getLong("arkanoid.alloc.budget", 12);
+
+  private static final double TICK_SECONDS = 1.0 / 60.0;
+  private static final int WARMUP_TICKS = 20_000;
+  private static final int MEASURED_TICKS = 5_000;
+  private static final int LAUNCH_EVERY_TICKS = 30;
+
+  private static volatile Object sink;
+
+  @Test
+  void steadyStateTickStaysWithinAllocationBudget() {
+    assumeTrue(AllocationMeter.isSupported(), "JVM cannot count per-thread allocation");
+    TestContextFactory.ContextBundle bundle = GameScenes.create("003");
+    GameContext context = bundle.context();
+    bundle.sceneManager().switchTo(ArkanoidGame.SCENE_GAMEPLAY);
+    GameplayScene scene = (GameplayScene) bundle.sceneManager().getActiveScene();
+    context.setInputSource(autopilot(scene));
+    Runnable tick =
+        () -> {
+          context.beginTick();
+          scene.update(TICK_SECONDS);
+        };
+
+    for (int i = 0; i < WARMUP_TICKS; i++) {
+      tick.run();
+    }
+    double bytesPerTick = AllocationMeter.bytesPerOperation(MEASURED_TICKS, tick);
+
+    assertNotNull(scene.primaryBall(), "The autopilot keeps the ball in play");
+    if (bytesPerTick > BUDGET_BYTES_PER_TICK) {
+      List<AllocationMeter.Site> sites = AllocationMeter.sites(MEASURED_TICKS, tick, 10);
+      fail(
+          String.format(
+              "GameplayScene.update allocates %.1f B/tick, budget is %d B/tick. Top sites:%n  %s",
+              bytesPerTick,
+              BUDGET_BYTES_PER_TICK,
+              sites.stream().map(Object::toString).collect(Collectors.joining("\n  "))));
+    }
+  }
+
+  @Test
+  void meterAttributesAllocationsToTheirCallSite() {
+    assumeTrue(AllocationMeter.isSupported(), "JVM cannot count per-thread allocation");
+    Runnable allocating = GameplayAllocationTest::allocateGarbage;
+
+    assertTrue(AllocationMeter.bytesPerOperation(1_000, allocating) >= 1_024);
+    List<AllocationMeter.Site> sites = AllocationMeter.sites(1_000, allocating, 5);
+    assertTrue(
+        sites.stream().anyMatch(site -> site.name().contains("GameplayAllocationTest.allocateGarbage")),
+        sites::toString);
+  }
+
+  private static void allocateGarbage() {
+    sink = new byte[4_096];
+  }
+
+  /** Launches whenever the ball waits on the paddle and keeps the paddle under the ball. */
+  private static InputSource autopilot(GameplayScene scene) {
+    return (tick, into) -> {
+      Ball ball = scene.primaryBall();
+      Paddle paddle = scene.paddle();
+      int held = 0;
+      if (ball != null && paddle != null) {
+        double ballCenter = ball.getPosition().x + ball.getWidth() / 2.0;
+        double paddleCenter = paddle.getPosition().x + paddle.getWidth() / 2.0;
+        if (ballCenter < paddleCenter - 6) {
+          held = InputCommand.MOVE_LEFT;
+        } else if (ballCenter > paddleCenter + 6) {
+          held = InputCommand.MOVE_RIGHT;
+        }
+      }
+      int pressed = tick % LAUNCH_EVERY_TICKS == 0 ? InputCommand.LAUNCH : 0;
+      into.set(tick, held | pressed, pressed);
+    };
+  }
+}
@@ -0,0 +1,72 @@
+package com.arcade.arkanoid.gameplay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.arcade.arkanoid.gameplay.levels.TagRegistry;
+import com.arcade.arkanoid.gameplay.levels.TagSet;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GameplayEventBusTest {
+
+  @Test
+  void drainDeliversEventsInOrderToEverySubscriberOnce() {
+    GameplayEventBus bus = new GameplayEventBus(4);
+    TagRegistry registry = new TagRegistry();
+    registry.intern("color:red");
+    TagSet red = registry.maskOf(List.of("color:red"));
+    List<String> first = new ArrayList<>();
+    List<String> second = new ArrayList<>();
+    bus.subscribe(event -> first.add(event.type() + "@" + event.column() + "," + event.row()));
+    bus.subscribe(event -> {
+      second.add(event.points() + ":" + event.tick());
+      if (event.type() == GameplayEventBus.BRICK_DESTROYED) {
+        assertSame(red, event.tags());
+      }
+    });
+
+    bus.publish(GameplayEventBus.BRICK_HIT, 2, 3, red, 0, 10, 20);
+    bus.publish(GameplayEventBus.BRICK_DESTROYED, 2, 3, red, 150, 10, 20);
+    bus.drain();
+    bus.drain();
+
+    assertEquals(List.of("1@2,3", "2@2,3"), first);
+    assertEquals(List.of("0:0", "150:0"), second);
+    assertEquals(0, bus.pending());
+    assertEquals(2, bus.currentTick());
+  }
+
+  @Test
+  void ringGrowsPastCapacityWithoutLosingEvents() {
+    GameplayEventBus bus = new GameplayEventBus(2);
+    List<Integer> columns = new ArrayList<>();
+    bus.subscribe(event -> columns.add(event.column()));
+
+    bus.publish(GameplayEventBus.BRICK_HIT, 0, 0, null, 0, 0, 0);
+    bus.drain();
+    for (int column = 1; column <= 5; column++) {
+      bus.publish(GameplayEventBus.BRICK_HIT, column, 0, null, 0, 0, 0);
+    }
+    bus.drain();
+
+    assertEquals(List.of(0, 1, 2, 3, 4, 5), columns);
+    assertEquals(8, bus.capacity());
+  }
+
+  @Test
+  void clearDropsPendingEventsAndRestartsTick() {
+    GameplayEventBus bus = new GameplayEventBus();
+    List<Integer> seen = new ArrayList<>();
+    bus.subscribe(event -> seen.add(event.type()));
+    bus.drain();
+    bus.publish(GameplayEventBus.BRICK_DESTROYED, 1, 1, TagSet.EMPTY, 50, 0, 0);
+
+    bus.clear();
+    bus.drain();
+
+    assertEquals(List.of(), seen);
+    assertEquals(1, bus.currentTick());
+  }
+}
@@ -0,0 +1,39 @@
+package com.arcade.arkanoid.gameplay.levels;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TagRegistryTest {
+
+  @Test
+  void masksIntersectOnSharedTagsOnly() {
+    TagRegistry registry = new TagRegistry();
+    registry.intern("color:red");
+    registry.intern("color:blue");
+    registry.intern("blocker:lock");
+
+    TagSet brick = registry.maskOf(List.of("color:red", "blocker:lock"));
+    assertTrue(brick.intersects(registry.maskOf(List.of("blocker:lock"))));
+    assertFalse(brick.intersects(registry.maskOf(List.of("color:blue"))));
+    assertSame(TagSet.EMPTY, registry.maskOf(List.of("never-seen")), "Unknown tags match nothing");
+  }
+
+  @Test
+  void idsBeyondSixtyFourOverflowIntoBitSet() {
+    TagRegistry registry = new TagRegistry();
+    for (int i = 0; i < 100; i++) {
+      assertEquals(i, registry.intern("tag-" + i));
+    }
+
+    TagSet high = registry.maskOf(List.of("tag-90"));
+    assertTrue(high.contains(90));
+    assertTrue(high.intersects(registry.maskOf(List.of("tag-3", "tag-90"))));
+    assertFalse(high.intersects(registry.maskOf(List.of("tag-3", "tag-91"))));
+    assertEquals("tag-90", registry.nameOf(90));
+  }
+}
@@ -0,0 +1,175 @@
+package com.arcade.arkanoid.gameplay.objectives;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.arcade.arkanoid.gameplay.levels.LevelSchema;
+import com.arcade.arkanoid.gameplay.objectives.ObjectiveEngine.ObjectiveState;
+import com.arcade.arkanoid.gameplay.objectives.ObjectiveEngine.Status;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StandardObjectiveEngineTest {
+
+  @Test
+  void eventsReachOnlyObjectivesOfMatchingType() {
+    StandardObjectiveEngine engine = new StandardObjectiveEngine();
+    engine.bind(
+        schema(
+            objective("crystals", "clear-tagged-bricks", 2, List.of("crystal")),
+            objective("points", "score", 100, List.of()),
+            objective("moves", "move-limit", 3, List.of())),
+        null);
+
+    engine.handleEvent(new ObjectiveEngine.ScoreAwardedEvent(60));
+    engine.handleEvent(new ObjectiveEngine.BrickClearedEvent(0, 0, "basic", List.of("stone")));
+    engine.handleEvent(new ObjectiveEngine.BrickClearedEvent(1, 0, "basic", List.of("crystal")));
+    engine.handleEvent(new ObjectiveEngine.MoveConsumedEvent());
+
+    List<ObjectiveState> states = engine.snapshot();
+    assertEquals(1, states.get(0).progress(), "Only crystal bricks count");
+    assertEquals(60, states.get(1).progress(), "Score events feed score objectives only");
+    assertEquals(1, states.get(2).progress(), "Moves feed move-limit objectives only");
+    assertFalse(engine.arePrimaryObjectivesMet());
+
+    engine.handleEvent(new ObjectiveEngine.BrickClearedEvent(2, 0, "basic", List.of("crystal")));
+    engine.handleEvent(new ObjectiveEngine.ScoreAwardedEvent(40));
+    engine.handleEvent(new ObjectiveEngine.MoveConsumedEvent());
+    engine.handleEvent(new ObjectiveEngine.MoveConsumedEvent());
+    assertTrue(engine.arePrimaryObjectivesMet());
+  }
+
+  @Test
+  void timerExpiryFailsEveryActiveObjective() {
+    StandardObjectiveEngine engine = new StandardObjectiveEngine();
+    engine.bind(
+        schema(
+            objective("points", "score", 100, List.of()),
+            objective("unknown", "custom-type", 1, List.of())),
+        null);
+
+    engine.handleEvent(new ObjectiveEngine.TimerExpiredEvent());
+
+    for (ObjectiveState state : engine.snapshot()) {
+      assertEquals(Status.FAILED, state.status());
+    }
+  }
+
+  @Test
+  void snapshotIsReusedUntilRevisionChanges() {
+    StandardObjectiveEngine engine = new StandardObjectiveEngine();
+    engine.bind(schema(objective("points", "score", 100, List.of())), null);
+    long revision = engine.revision();
+    List<ObjectiveState> first = engine.snapshot();
+
+    assertNull(engine.snapshotIfChanged(revision), "Unchanged engine reports no new snapshot");
+    assertSame(first, engine.snapshot(), "Unchanged snapshot is served from cache");
+
+    engine.handleEvent(new ObjectiveEngine.BrickClearedEvent(0, 0, "basic", List.of()));
+    assertEquals(revision, engine.revision(), "Events nobody consumes do not bump the revision");
+
+    engine.handleEvent(new ObjectiveEngine.ScoreAwardedEvent(10));
+    List<ObjectiveState> changed = engine.snapshotIfChanged(revision);
+    assertNotNull(changed);
+    assertTrue(engine.revision() > revision);
+    assertEquals(10, changed.get(0).progress());
+  }
+
+  @Test
+  void primaryCountersFollowStatusTransitions() {
+    StandardObjectiveEngine engine = new StandardObjectiveEngine();
+    engine.bind(
+        schema(
+            objective("points", "score", 50, List.of()),
+            objective("moves", "move-limit", 1, List.of()),
+            new LevelSchema.ObjectiveDefinition(
+                "bonus", "score", new LevelSchema.Target(500, null, List.of()), true, List.of())),
+        null);
+    int[] notifications = new int[1];
+    engine.addCountsListener((outstanding, completed, failed, tick) -> notifications[0]++);
+
+    assertEquals(2, engine.primaryOutstanding());
+    engine.update(0.016);
+    engine.update(0.016);
+    engine.handleEvent(new ObjectiveEngine.ScoreAwardedEvent(50));
+
+    assertEquals(1, engine.primaryOutstanding());
+    assertEquals(1, engine.primaryCompleted());
+    assertEquals(2, engine.completionTick("points"));
+    assertEquals(-1, engine.completionTick("moves"));
+    assertEquals(1, notifications[0], "Optional objectives do not change primary counts");
+    assertFalse(engine.arePrimaryObjectivesMet());
+
+    engine.handleEvent(new ObjectiveEngine.MoveConsumedEvent());
+    assertTrue(engine.arePrimaryObjectivesMet(), "Optional objectives are not required");
+
+    engine.resetProgress();
+    assertEquals(2, engine.primaryOutstanding());
+    assertEquals(0, engine.primaryCompleted());
+  }
+
+  private static LevelSchema.ObjectiveDefinition objective(
+      String id, String type, int amount, List<String> trackedTags) {
+    return new LevelSchema.ObjectiveDefinition(
+        id, type, new LevelSchema.Target(amount, null, trackedTags), false, List.of());
+  }
+
+  private static LevelSchema schema(LevelSchema.ObjectiveDefinition... objectives) {
+    List<LevelSchema.ObjectiveDefinition> definitions = List.of(objectives);
+    return new LevelSchema() {
+      @Override
+      public String id() {
+        return "test";
+      }
+
+      @Override
+      public String displayName() {
+        return "Test";
+      }
+
+      @Override
+      public String description() {
+        return "";
+      }
+
+      @Override
+      public Difficulty difficulty() {
+        return Difficulty.STORY;
+      }
+
+      @Override
+      public Board board() {
+        return new Board(1, 1);
+      }
+
+      @Override
+      public Constraints constraints() {
+        return new Constraints(null, null);
+      }
+
+      @Override
+      public List<BrickBlueprint> bricks() {
+        return List.of();
+      }
+
+      @Override
+      public List<ObjectiveDefinition> objectives() {
+        return definitions;
+      }
+
+      @Override
+      public List<BoosterSlot> boosters() {
+        return List.of();
+      }
+
+      @Override
+      public List<RewardTier> rewardTiers() {
+        return List.of();
+      }
+    };
+  }
+}
@@ -0,0 +1,66 @@
+package com.arcade.arkanoid.gameplay.system;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.arcade.arkanoid.gameplay.entities.Ball;
+import com.arcade.arkanoid.gameplay.entities.Brick;
+import java.awt.Color;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BrickCollisionSystemTest {
+  private final BrickCollisionSystem collisions = new BrickCollisionSystem();
+
+  @Test
+  void hitFromBelowBouncesVerticallyAndDamagesFirstBrick() {
+    Brick first = new Brick(100, 100, 50, 20, 2, 10);
+    Brick second = new Brick(100, 100, 50, 20, 2, 10);
+    Ball ball = new Ball(110, 115, 10, Color.WHITE);
+    ball.setVelocity(50, -200);
+
+    Brick hit = collisions.resolve(ball, List.of(first, second));
+
+    assertSame(first, hit);
+    assertEquals(1, first.getHitPoints());
+    assertEquals(2, second.getHitPoints(), "Only one contact is resolved per call");
+    assertEquals(200, ball.getVelocity().y, 0.0001);
+    assertEquals(50, ball.getVelocity().x, 0.0001);
+  }
+
+  @Test
+  void sideHitBouncesHorizontally() {
+    Brick brick = new Brick(100, 100, 50, 40, 1, 10);
+    Ball ball = new Ball(145, 110, 10, Color.WHITE);
+    ball.setVelocity(-200, 20);
+
+    collisions.resolve(ball, List.of(brick));
+
+    assertEquals(200, ball.getVelocity().x, 0.0001);
+    assertEquals(20, ball.getVelocity().y, 0.0001);
+  }
+
+  @Test
+  void fireBallDestroysBrickWithoutBouncing() {
+    Brick brick = new Brick(100, 100, 50, 20, 5, 10);
+    Ball ball = new Ball(110, 115, 10, Color.WHITE);
+    ball.setVelocity(0, -200);
+    ball.setFire(3);
+
+    collisions.resolve(ball, List.of(brick));
+
+    assertTrue(brick.isDestroyed());
+    assertEquals(-200, ball.getVelocity().y, 0.0001);
+  }
+
+  @Test
+  void destroyedAndDistantBricksAreIgnored() {
+    Brick destroyed = new Brick(100, 100, 50, 20, 0, 10);
+    Brick distant = new Brick(400, 400, 50, 20, 1, 10);
+    Ball ball = new Ball(110, 115, 10, Color.WHITE);
+
+    assertNull(collisions.resolve(ball, List.of(destroyed, distant)));
+  }
+}
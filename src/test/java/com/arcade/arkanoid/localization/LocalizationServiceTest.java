@@ -0,0 +1,48 @@
+package com.arcade.arkanoid.localization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.arcade.arkanoid.testutil.TestSettingsManager;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LocalizationServiceTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void handlesResolveCachedAndFormattedMessages() {
+    LocalizationService localization =
+        new LocalizationService(new TestSettingsManager(tempDir.resolve("settings.json")));
+
+    int launch = localization.handle("gameplay.prompt.launch");
+    int volume = localization.handle("settings.status.volume");
+
+    assertEquals("Press SPACE to launch", localization.translate(launch));
+    assertSame(localization.translate(launch), localization.translate("gameplay.prompt.launch"));
+    assertEquals("Music volume set to 40%", localization.translate(volume, 40));
+    assertEquals(
+        localization.translate("settings.status.volume", 40), localization.translate(volume, 40));
+    assertEquals("missing.key", localization.translate("missing.key"));
+  }
+
+  @Test
+  void setLocaleSwapsCompiledCatalogueAndKeepsHandles() throws Exception {
+    TestSettingsManager settings = new TestSettingsManager(tempDir.resolve("settings.json"));
+    LocalizationService localization = new LocalizationService(settings);
+    int launch = localization.handle("gameplay.prompt.launch");
+
+    localization.setLocale(new Locale("vi")).get(5, TimeUnit.SECONDS);
+
+    assertEquals("vi", localization.getCatalogue().getLocale().getLanguage());
+    assertEquals("Nhấn SPACE để bắn bóng", localization.translate(launch));
+    assertEquals("vi", settings.resolveLocale().getLanguage());
+
+    localization.setLocale(Locale.ENGLISH).get(5, TimeUnit.SECONDS);
+    assertEquals("Press SPACE to launch", localization.translate(launch));
+  }
+}
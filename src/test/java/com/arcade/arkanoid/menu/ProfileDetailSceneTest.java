@@ -1,10 +1,18 @@
 package com.arcade.arkanoid.menu;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.arcade.arkanoid.ArkanoidGame;
+import com.arcade.arkanoid.engine.core.GameContext;
+import com.arcade.arkanoid.engine.input.InputCommand;
+import com.arcade.arkanoid.engine.input.InputSource;
+import com.arcade.arkanoid.engine.scene.Scene;
 import com.arcade.arkanoid.profile.PlayerProfile;
 import com.arcade.arkanoid.testutil.TestContextFactory;
+import java.awt.Graphics2D;
+import java.awt.event.KeyEvent;
 import java.lang.reflect.Method;
 import java.time.Duration;
 import java.time.Instant;
@@ -70,8 +78,40 @@ class ProfileDetailSceneTest {
         "Countdown should follow the localized HH:MM:SS format");
   }
 
+  @Test
+  void backNavigationFollowsTheActiveInputSourceNotTheKeyboard() {
+    TestContextFactory.ContextBundle bundle = TestContextFactory.create();
+    GameContext context = bundle.context();
+    bundle.sceneManager().register(ArkanoidGame.SCENE_MENU, DummyScene::new);
+    ProfileDetailScene scene = new ProfileDetailScene(context);
+
+    context.setInputSource(InputSource.IDLE);
+    context.getInput().keyDown(KeyEvent.VK_ESCAPE);
+    context.getInput().prepareFrame();
+    context.beginTick();
+    scene.update(0);
+    assertNull(bundle.sceneManager().getActiveSceneId(), "The keyboard is ignored while replaced");
+
+    context.setInputSource((tick, into) -> into.set(tick, 0, InputCommand.PAUSE));
+    context.beginTick();
+    scene.update(0);
+    assertEquals(ArkanoidGame.SCENE_MENU, bundle.sceneManager().getActiveSceneId());
+  }
+
   private static String invokeDailyBonus(ProfileDetailScene scene, PlayerProfile profile)
       throws Exception {
     return (String) dailyBonusStatusMethod.invoke(scene, profile);
   }
+
+  private static final class DummyScene extends Scene {
+    DummyScene(GameContext context) {
+      super(context);
+    }
+
+    @Override
+    public void update(double deltaTime) {}
+
+    @Override
+    public void render(Graphics2D graphics) {}
+  }
 }
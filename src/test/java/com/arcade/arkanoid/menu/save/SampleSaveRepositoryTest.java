@@ -0,0 +1,58 @@
+package com.arcade.arkanoid.menu.save;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.arcade.arkanoid.profile.PlayerProfile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class SampleSaveRepositoryTest {
+
+  @Test
+  void slotIndexTracksWritesAndDeletesWithoutProfiles() throws Exception {
+    Path saveDir = Files.createTempDirectory("save-index-test");
+    SampleSaveRepository repository = new SampleSaveRepository(saveDir);
+
+    PlayerProfile first = PlayerProfile.newDefault();
+    first.setDisplayName("Ace");
+    first.setCoins(90);
+    repository.writeSlot(1, first);
+    PlayerProfile second = PlayerProfile.newDefault();
+    second.setDisplayName("Rookie");
+    repository.writeSlot(3, second);
+    repository.deleteSlot(3);
+
+    List<SaveSlotSummary> slots =
+        new SampleSaveRepository(saveDir).loadSlotIndexAsync(4).get(5, TimeUnit.SECONDS);
+    assertEquals(4, slots.size());
+    assertTrue(slots.get(0).isOccupied());
+    assertEquals("Ace", slots.get(0).getDisplayName());
+    assertEquals(90, slots.get(0).getCoins());
+    assertNull(slots.get(0).getProfile(), "Index summaries must not carry full profiles");
+    assertFalse(slots.get(2).isOccupied(), "Deleted slot should be empty in the index");
+
+    PlayerProfile loaded = repository.loadProfile(1);
+    assertNotNull(loaded);
+    assertEquals(first.getPlayerId(), loaded.getPlayerId());
+  }
+
+  @Test
+  void missingIndexIsRebuiltFromSlotFiles() throws Exception {
+    Path saveDir = Files.createTempDirectory("save-index-test");
+    PlayerProfile profile = PlayerProfile.newDefault();
+    profile.setDisplayName("Veteran");
+    new SampleSaveRepository(saveDir).writeSlot(2, profile);
+    Files.delete(saveDir.resolve("save-slots.index.json"));
+
+    List<SaveSlotSummary> slots = new SampleSaveRepository(saveDir).loadSlotIndex(2);
+    assertEquals("Veteran", slots.get(1).getDisplayName());
+    assertTrue(Files.exists(saveDir.resolve("save-slots.index.json")));
+  }
+}
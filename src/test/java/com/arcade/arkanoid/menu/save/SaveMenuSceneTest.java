@@ -1,16 +1,24 @@
 package com.arcade.arkanoid.menu.save;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.arcade.arkanoid.ArkanoidGame;
 import com.arcade.arkanoid.engine.core.GameContext;
+import com.arcade.arkanoid.engine.input.InputManager;
 import com.arcade.arkanoid.engine.scene.Scene;
 import com.arcade.arkanoid.profile.PlayerProfile;
 import com.arcade.arkanoid.testutil.TestContextFactory;
 import java.awt.Graphics2D;
+import java.awt.event.KeyEvent;
 import java.lang.reflect.Method;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 
 class SaveMenuSceneTest {
@@ -41,6 +49,47 @@ class SaveMenuSceneTest {
         "Active slot should retain purchased paddle skins");
   }
 
+  @Test
+  void navigatingBeforeSlotIndexArrivesKeepsSelectionValid() throws Exception {
+    Path saveDir = Files.createTempDirectory("save-menu-test");
+    CompletableFuture<List<SaveSlotSummary>> pending = new CompletableFuture<>();
+    SampleSaveRepository repository =
+        new SampleSaveRepository(saveDir) {
+          @Override
+          public Future<List<SaveSlotSummary>> loadSlotIndexAsync(int maxSlots) {
+            return pending;
+          }
+        };
+    PlayerProfile profile = PlayerProfile.newDefault();
+    profile.setDisplayName("First Slot");
+    repository.writeSlot(1, profile);
+    TestContextFactory.ContextBundle bundle = TestContextFactory.create();
+    bundle.sceneManager().register(ArkanoidGame.SCENE_MAP, DummyScene::new);
+    SaveMenuScene scene = new SaveMenuScene(bundle.context(), repository);
+
+    scene.onEnter();
+    press(bundle.context(), KeyEvent.VK_DOWN);
+    scene.update(0);
+    assertFalse(pending.isDone(), "The index must still be loading when DOWN is pressed");
+
+    // ENTER waits for the index, which arrives from another thread meanwhile
+    CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS)
+        .execute(() -> pending.complete(repository.loadSlotIndex(3)));
+    press(bundle.context(), KeyEvent.VK_ENTER);
+    scene.update(0);
+
+    assertEquals("First Slot", bundle.profileManager().getActiveProfile().getDisplayName());
+  }
+
+  private static void press(GameContext context, int keyCode) {
+    InputManager input = context.getInput();
+    input.clearFrameJustPressed();
+    input.keyDown(keyCode);
+    input.keyUp(keyCode);
+    input.prepareFrame();
+    context.beginTick();
+  }
+
   private static void invokeActivateSelectedSlot(SaveMenuScene scene) throws Exception {
     Method method = SaveMenuScene.class.getDeclaredMethod("activateSelectedSlot");
     method.setAccessible(true);
@@ -0,0 +1,128 @@
+package com.arcade.arkanoid.profile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+
+class ProfileBinaryCodecTest {
+
+  @Test
+  void roundTripPreservesEveryField() throws Exception {
+    PlayerProfile profile = PlayerProfile.newDefault();
+    for (int i = 2; i <= 3000; i++) {
+      String id = String.format("%04d", i);
+      profile.unlockLevel(id);
+      if (i % 3 == 0) {
+        profile.markLevelCompleted(id);
+      }
+    }
+    profile.setCurrentLevelId("2999");
+    profile.setCoins(12345);
+    profile.setLives(3);
+    profile.setLastDailyBonusEpochSeconds(-1);
+    profile.addBallSkin("ball_plasma");
+    profile.setActiveBallSkin("ball_plasma");
+    profile.setJournalSequence(77);
+    ProfileSnapshot snapshot = profile.snapshot();
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ProfileBinaryCodec.writeProfile(snapshot, bytes);
+    PlayerProfile decoded =
+        ProfileBinaryCodec.readProfile(new ByteArrayInputStream(bytes.toByteArray()));
+
+    assertEquals(snapshot.getPlayerId(), decoded.getPlayerId());
+    assertEquals(snapshot.getUnlockedLevelIds(), decoded.getUnlockedLevelIds());
+    assertEquals(snapshot.getCompletedLevelIds(), decoded.getCompletedLevelIds());
+    assertEquals("2999", decoded.getCurrentLevelId());
+    assertEquals(12345, decoded.getCoins());
+    assertEquals(3, decoded.getLives());
+    assertEquals(-1, decoded.getLastDailyBonusEpochSeconds());
+    assertEquals(snapshot.getOwnedBallSkins(), decoded.getOwnedBallSkins());
+    assertEquals("ball_plasma", decoded.getActiveBallSkin());
+    assertEquals(77, decoded.getJournalSequence());
+    assertTrue(bytes.size() < 3000 * 8, "Level ids should be interned, not repeated");
+  }
+
+  @Test
+  void rejectsNewerVersions() throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ProfileBinaryCodec.writeMagic(bytes, ProfileBinaryCodec.MAGIC);
+    ProfileBinaryCodec.writeVarLong(bytes, ProfileBinaryCodec.VERSION + 1);
+
+    assertThrows(
+        IOException.class,
+        () -> ProfileBinaryCodec.readProfile(new ByteArrayInputStream(bytes.toByteArray())));
+  }
+
+  @Test
+  void binaryStorageMigratesExistingJsonProfile() throws Exception {
+    Path dir = Files.createTempDirectory("profile-codec-test");
+    Path file = dir.resolve("profile.json");
+    PlayerProfile profile = PlayerProfile.newDefault();
+    profile.setCoins(640);
+    new ProfileStorage(file, 1, ProfileFormat.JSON).save(profile);
+
+    ProfileStorage binary = new ProfileStorage(file, 1, ProfileFormat.BINARY);
+    assertFalse(Files.exists(binary.getProfilePath()));
+    assertEquals(640, binary.loadOrCreateDefault().getCoins());
+    assertTrue(Files.exists(dir.resolve("profile.bin")), "Migration should write the binary file");
+    assertEquals(640, new ProfileStorage(file, 1, ProfileFormat.BINARY).loadOrCreateDefault().getCoins());
+  }
+
+  @Test
+  void corruptStringLengthFailsWithIOException() throws Exception {
+    ByteArrayOutputStream huge = new ByteArrayOutputStream();
+    ProfileBinaryCodec.writeVarLong(huge, Integer.MAX_VALUE + 10L);
+    ByteArrayOutputStream negative = new ByteArrayOutputStream();
+    ProfileBinaryCodec.writeVarLong(negative, -5L);
+
+    assertThrows(
+        IOException.class,
+        () -> ProfileBinaryCodec.readString(new ByteArrayInputStream(huge.toByteArray())));
+    assertThrows(
+        IOException.class,
+        () -> ProfileBinaryCodec.readString(new ByteArrayInputStream(negative.toByteArray())));
+  }
+
+  @Test
+  void corruptLevelTableSizeFailsWithIOException() throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ProfileBinaryCodec.writeMagic(bytes, ProfileBinaryCodec.MAGIC);
+    ProfileBinaryCodec.writeVarLong(bytes, ProfileBinaryCodec.VERSION);
+    ProfileBinaryCodec.writeString(bytes, "id");
+    ProfileBinaryCodec.writeString(bytes, "name");
+    ProfileBinaryCodec.writeVarLong(bytes, Long.MAX_VALUE);
+
+    assertThrows(
+        IOException.class,
+        () -> ProfileBinaryCodec.readProfile(new ByteArrayInputStream(bytes.toByteArray())));
+  }
+
+  @Test
+  void switchingFormatBackDoesNotResurrectPreMigrationProfile() throws Exception {
+    Path dir = Files.createTempDirectory("profile-codec-test");
+    Path file = dir.resolve("profile.json");
+    PlayerProfile profile = PlayerProfile.newDefault();
+    profile.setCoins(100);
+    new ProfileStorage(file, 2, ProfileFormat.JSON).save(profile);
+
+    ProfileStorage binary = new ProfileStorage(file, 2, ProfileFormat.BINARY);
+    PlayerProfile migrated = binary.loadOrCreateDefault();
+    assertFalse(Files.exists(dir.resolve("profile.json")), "Migrated JSON should be removed");
+    migrated.setCoins(900);
+    binary.save(migrated);
+
+    ProfileStorage json = new ProfileStorage(file, 2, ProfileFormat.JSON);
+    assertEquals(900, json.loadOrCreateDefault().getCoins(), "Progress made in binary is kept");
+    assertFalse(Files.exists(dir.resolve("profile.bin")), "Migrated binary should be removed");
+    assertEquals(900, new ProfileStorage(file, 2, ProfileFormat.JSON).loadOrCreateDefault().getCoins());
+  }
+}
@@ -0,0 +1,56 @@
+package com.arcade.arkanoid.profile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ProfileJournalTest {
+
+  @Test
+  void tornTailRecordIsDroppedOnRead() throws Exception {
+    Path dir = Files.createTempDirectory("profile-journal-test");
+    Path file = dir.resolve("profile.journal");
+    ProfileJournal journal = new ProfileJournal(file);
+    journal.append(ProfileEvent.coinsDelta(25).stamped(1, 100));
+    journal.append(ProfileEvent.levelCompleted("level-2").stamped(2, 101));
+    journal.close();
+
+    byte[] data = Files.readAllBytes(file);
+    Files.write(file, Arrays.copyOf(data, data.length - 3));
+
+    List<ProfileEvent> events = new ProfileJournal(file).readAll();
+    assertEquals(1, events.size(), "Only the intact record should be read");
+    assertEquals(ProfileEvent.Type.COINS_DELTA, events.get(0).type());
+    assertEquals(25, events.get(0).amount());
+  }
+
+  @Test
+  void managerReplaysOnlyEventsNewerThanSnapshot() throws Exception {
+    Path dir = Files.createTempDirectory("profile-journal-test");
+    Path file = dir.resolve("profile.json");
+
+    PlayerProfile profile = PlayerProfile.newDefault();
+    profile.setCoins(10);
+    profile.setJournalSequence(1);
+    new ProfileStorage(file).save(profile);
+
+    ProfileJournal journal = new ProfileJournal(dir.resolve("profile.journal"));
+    journal.append(ProfileEvent.coinsDelta(10).stamped(1, 100));
+    journal.append(ProfileEvent.coinsDelta(5).stamped(2, 101));
+    journal.append(ProfileEvent.skinPurchased(ProfileEvent.SkinKind.BALL, "ball_plasma").stamped(3, 102));
+    journal.close();
+
+    ProfileManager manager = new ProfileManager(file);
+    PlayerProfile replayed = manager.getActiveProfile();
+    assertEquals(15, replayed.getCoins(), "Event already in the snapshot must not be applied twice");
+    assertTrue(replayed.getOwnedBallSkins().contains("ball_plasma"));
+    assertEquals(3, replayed.getJournalSequence());
+    manager.saveProfileSync();
+    assertEquals(0, manager.getJournal().pendingEvents(), "Snapshot write compacts the journal");
+  }
+}
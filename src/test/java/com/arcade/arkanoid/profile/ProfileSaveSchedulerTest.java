@@ -0,0 +1,54 @@
+package com.arcade.arkanoid.profile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.arcade.arkanoid.engine.util.IOThreadPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ProfileSaveSchedulerTest {
+
+  @Test
+  void burstOfRequestsIsCoalescedIntoSingleWrite() throws Exception {
+    AtomicInteger writes = new AtomicInteger();
+    ProfileSaveScheduler scheduler =
+        new ProfileSaveScheduler(writes::incrementAndGet, IOThreadPool.getInstance(), 50, 0);
+
+    for (int i = 0; i < 10; i++) {
+      scheduler.requestSave();
+    }
+    assertTrue(scheduler.isDirty(), "Requests should mark the profile dirty");
+
+    waitUntilClean(scheduler);
+
+    assertEquals(1, writes.get(), "Burst should produce exactly one write");
+    assertEquals(10, scheduler.getSavesRequested(), "Every request should be counted");
+    assertEquals(1, scheduler.getSavesWritten(), "Only the coalesced write should be counted");
+  }
+
+  @Test
+  void flushWritesImmediatelyAndCancelsPendingWrite() throws Exception {
+    AtomicInteger writes = new AtomicInteger();
+    ProfileSaveScheduler scheduler =
+        new ProfileSaveScheduler(writes::incrementAndGet, IOThreadPool.getInstance(), 10_000, 0);
+
+    scheduler.requestSave();
+    scheduler.flush();
+
+    assertFalse(scheduler.isDirty(), "Flush should clear the dirty flag");
+    assertEquals(1, writes.get(), "Flush should write synchronously");
+
+    Thread.sleep(100);
+    assertEquals(1, writes.get(), "Cancelled pending write should not run again");
+  }
+
+  private static void waitUntilClean(ProfileSaveScheduler scheduler) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 2_000;
+    while ((scheduler.isDirty() || scheduler.getSavesWritten() == 0)
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.arcade.arkanoid.profile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+
+class ProfileSnapshotTest {
+
+  @Test
+  void snapshotIsIsolatedFromLaterMutations() {
+    PlayerProfile profile = PlayerProfile.newDefault();
+    profile.setCoins(40);
+    ProfileSnapshot snapshot = profile.snapshot();
+
+    profile.setCoins(90);
+    profile.markLevelCompleted("001");
+    profile.unlockLevel("002");
+
+    assertEquals(40, snapshot.getCoins(), "Scalar fields should be captured by value");
+    assertFalse(snapshot.getCompletedLevelIds().contains("001"), "Snapshot lists should not change");
+    assertFalse(snapshot.getUnlockedLevelIds().contains("002"), "Snapshot lists should not change");
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> snapshot.getUnlockedLevelIds().add("003"),
+        "Snapshot lists should be read-only");
+  }
+
+  @Test
+  void unchangedCollectionsAreSharedBetweenSnapshots() {
+    PlayerProfile profile = PlayerProfile.newDefault();
+    profile.ensureDefaults();
+    ProfileSnapshot first = profile.snapshot();
+
+    profile.setCoins(5);
+    profile.unlockLevel("002");
+    ProfileSnapshot second = profile.snapshot();
+
+    assertSame(
+        first.getOwnedPaddleSkins(),
+        second.getOwnedPaddleSkins(),
+        "Unchanged lists should be reused instead of copied");
+    assertNotSame(
+        first.getUnlockedLevelIds(),
+        second.getUnlockedLevelIds(),
+        "Changed lists should be copied");
+    assertTrue(second.getUnlockedLevelIds().contains("002"));
+  }
+
+  @Test
+  void inPlaceEditsToLoadedProfileListsAreDetected() throws Exception {
+    Path file = Files.createTempDirectory("profile-snapshot-test").resolve("profile.json");
+    new ProfileStorage(file, 0).loadOrCreateDefault();
+    PlayerProfile profile = new ProfileStorage(file, 0).loadOrCreateDefault();
+    ProfileSnapshot first = profile.snapshot();
+    assertSame(first.getUnlockedLevelIds(), profile.snapshot().getUnlockedLevelIds());
+
+    profile.getUnlockedLevelIds().set(0, "009");
+    ProfileSnapshot second = profile.snapshot();
+
+    assertEquals("001", first.getUnlockedLevelIds().get(0), "Earlier snapshot keeps its copy");
+    assertEquals("009", second.getUnlockedLevelIds().get(0), "Same-size edits are not missed");
+  }
+}
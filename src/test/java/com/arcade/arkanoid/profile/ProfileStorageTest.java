@@ -0,0 +1,52 @@
+package com.arcade.arkanoid.profile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+
+class ProfileStorageTest {
+
+  @Test
+  void saveKeepsRollingBackupsWithoutLeavingTempFile() throws Exception {
+    Path dir = Files.createTempDirectory("profile-storage-test");
+    Path file = dir.resolve("profile.json");
+    ProfileStorage storage = new ProfileStorage(file, 2);
+
+    PlayerProfile profile = PlayerProfile.newDefault();
+    for (int coins = 1; coins <= 4; coins++) {
+      profile.setCoins(coins);
+      storage.save(profile);
+    }
+
+    assertTrue(Files.exists(file), "Primary file should exist");
+    assertTrue(Files.exists(dir.resolve("profile.json.1")), "Newest backup should exist");
+    assertTrue(Files.exists(dir.resolve("profile.json.2")), "Oldest backup should exist");
+    assertFalse(Files.exists(dir.resolve("profile.json.3")), "Backups beyond the limit are dropped");
+    assertFalse(Files.exists(dir.resolve("profile.json.tmp")), "Temp file should be moved into place");
+    assertEquals(4, new ProfileStorage(file, 2).loadOrCreateDefault().getCoins());
+  }
+
+  @Test
+  void truncatedPrimaryFallsBackToNewestReadableBackup() throws Exception {
+    Path dir = Files.createTempDirectory("profile-storage-test");
+    Path file = dir.resolve("profile.json");
+    ProfileStorage storage = new ProfileStorage(file, 2);
+
+    PlayerProfile profile = PlayerProfile.newDefault();
+    profile.setCoins(120);
+    storage.save(profile);
+    profile.setCoins(450);
+    storage.save(profile);
+
+    Files.write(file, "{\"coins\": 9".getBytes(StandardCharsets.UTF_8));
+
+    PlayerProfile recovered = new ProfileStorage(file, 2).loadOrCreateDefault();
+    assertEquals(120, recovered.getCoins(), "Loader should recover the previous generation");
+    assertEquals(profile.getPlayerId(), recovered.getPlayerId(), "Recovered profile keeps its identity");
+  }
+}
@@ -0,0 +1,119 @@
+package com.arcade.arkanoid.profile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.arcade.arkanoid.engine.util.IOThreadPool;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ProfileStoreTest {
+
+  @Test
+  void indexSurvivesReopenAndProfilesLoadLazily() throws Exception {
+    Path root = Files.createTempDirectory("profile-store-test");
+    ProfileStore store = new ProfileStore(root, ProfileFormat.JSON, 2);
+    PlayerProfile ana = store.create("Ana");
+    ana.setCoins(75);
+    ProfileSnapshot snapshot = ana.snapshot();
+    // Saves arrive from the post-save listener on the I/O thread, after the create write.
+    IOThreadPool.getInstance().submit(() -> store.save(snapshot)).get(5, TimeUnit.SECONDS);
+    PlayerProfile ben = store.create("Ben");
+    store.create("ana");
+    store.flush();
+
+    ProfileStore reopened = new ProfileStore(root, ProfileFormat.JSON, 2);
+    assertEquals(3, reopened.size());
+    assertEquals(2, reopened.findByName("ANA").size(), "Name lookup is case-insensitive");
+    assertEquals("Ben", reopened.findById(ben.getPlayerId()).getDisplayName());
+    assertEquals(0, reopened.cachedProfiles(), "Nothing is loaded until asked for");
+
+    PlayerProfile loaded = reopened.loadAsync(ana.getPlayerId()).get(5, TimeUnit.SECONDS);
+    assertNotNull(loaded);
+    assertEquals(75, loaded.getCoins());
+    assertTrue(reopened.isCached(ana.getPlayerId()));
+    assertNull(reopened.load("missing-id"));
+  }
+
+  @Test
+  void cacheEvictsLeastRecentlyUsedProfile() throws Exception {
+    Path root = Files.createTempDirectory("profile-store-test");
+    ProfileStore store = new ProfileStore(root, ProfileFormat.JSON, 2);
+    PlayerProfile first = store.create("First");
+    PlayerProfile second = store.create("Second");
+    store.load(first.getPlayerId());
+    store.create("Third");
+
+    assertEquals(2, store.cachedProfiles());
+    assertTrue(store.isCached(first.getPlayerId()));
+    assertFalse(store.isCached(second.getPlayerId()), "Least recently used profile is evicted");
+  }
+
+  @Test
+  void managerSwitchesToStoredProfileBetweenFrames() throws Exception {
+    Path dir = Files.createTempDirectory("profile-store-test");
+    ProfileStore store = new ProfileStore(dir.resolve("players"), ProfileFormat.JSON, 4);
+    PlayerProfile regular = store.create("Regular");
+    ProfileManager manager = new ProfileManager(dir.resolve("active.json"));
+
+    String original = manager.getActiveProfile().getPlayerId();
+
+    manager.switchProfileAsync(store, regular.getPlayerId()).get(5, TimeUnit.SECONDS);
+    assertTrue(manager.applyPendingSwitch());
+    assertEquals(regular.getPlayerId(), manager.getActiveProfile().getPlayerId());
+    assertFalse(manager.applyPendingSwitch(), "A switch is applied only once");
+    assertEquals(store.profilePath(regular.getPlayerId()), manager.getActiveProfilePath());
+
+    manager.getActiveProfile().setCoins(321);
+    manager.saveProfileSync();
+    manager.recordEvent(ProfileEvent.coinsDelta(4));
+    drainIoThread();
+    store.flush();
+
+    PlayerProfile onDisk = new ProfileStorage(dir.resolve("active.json")).loadIfPresent();
+    assertEquals(original, onDisk.getPlayerId(), "The original player keeps its own file");
+    ProfileStore reopened = new ProfileStore(dir.resolve("players"), ProfileFormat.JSON, 4);
+    assertEquals(321, reopened.load(regular.getPlayerId()).getCoins());
+    assertFalse(
+        Files.exists(dir.resolve("active.journal")), "Events go to the switched player's journal");
+    assertEquals(1, manager.getJournal().readAll().size());
+  }
+
+  @Test
+  void postSaveListenerReturnsWithItsProfile() throws Exception {
+    Path dir = Files.createTempDirectory("profile-store-test");
+    ProfileStore store = new ProfileStore(dir.resolve("players"), ProfileFormat.JSON, 4);
+    PlayerProfile regular = store.create("Regular");
+    ProfileManager manager = new ProfileManager(dir.resolve("active.json"));
+    String original = manager.getActiveProfile().getPlayerId();
+    List<String> mirrored = new CopyOnWriteArrayList<>();
+    manager.setPostSaveListener(snapshot -> mirrored.add(snapshot.getPlayerId()));
+
+    manager.switchProfileAsync(store, regular.getPlayerId()).get(5, TimeUnit.SECONDS);
+    assertTrue(manager.applyPendingSwitch());
+    manager.saveProfileSync();
+    drainIoThread();
+    assertEquals(List.of(original), mirrored, "Only the outgoing profile reaches its listener");
+
+    manager.switchToHomeProfileAsync().get(5, TimeUnit.SECONDS);
+    assertTrue(manager.applyPendingSwitch());
+    assertEquals(original, manager.getActiveProfile().getPlayerId());
+    manager.saveProfileSync();
+    drainIoThread();
+    assertEquals(List.of(original, original), mirrored);
+    assertEquals(
+        new ProfileStorage(dir.resolve("active.json")).getProfilePath(),
+        manager.getActiveProfilePath());
+  }
+
+  private static void drainIoThread() throws Exception {
+    IOThreadPool.getInstance().submit(() -> {}).get(5, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,175 @@
+package com.arcade.arkanoid.testutil;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Counts bytes allocated by the calling thread with the HotSpot per-thread counter, and attributes
+ * them to call sites with a JFR allocation recording when asked. Counting is exact; attribution is
+ * sampled, so it names the main offenders rather than every byte.
+ */
+public final class AllocationMeter {
+  private static final String PROJECT_PACKAGE = "com.arcade.arkanoid.";
+  private static final String[] ALLOCATION_EVENTS = {
+    "jdk.ObjectAllocationSample", "jdk.ObjectAllocationInNewTLAB", "jdk.ObjectAllocationOutsideTLAB"
+  };
+
+  private AllocationMeter() {}
+
+  public static boolean isSupported() {
+    return counter() != null;
+  }
+
+  /** Runs {@code operation} {@code times} times and returns the mean bytes allocated per run. */
+  public static double bytesPerOperation(int times, Runnable operation) {
+    com.sun.management.ThreadMXBean counter = counter();
+    if (counter == null) {
+      throw new IllegalStateException("Per-thread allocation counting is not supported");
+    }
+    long threadId = Thread.currentThread().getId();
+    long before = counter.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < times; i++) {
+      operation.run();
+    }
+    return (counter.getThreadAllocatedBytes(threadId) - before) / (double) times;
+  }
+
+  /**
+   * Runs {@code operation} {@code times} times under a JFR allocation recording and returns the
+   * project call sites that allocated most, heaviest first. Each site is the innermost project
+   * frame of the allocating stack, with the allocated type.
+   */
+  public static List<Site> sites(int times, Runnable operation, int limit) {
+    long threadId = Thread.currentThread().getId();
+    Map<String, Site> sites = new HashMap<>();
+    Path dump = null;
+    try (Recording recording = new Recording()) {
+      for (String event : ALLOCATION_EVENTS) {
+        recording.enable(event).withStackTrace().with("throttle", "1000/ms");
+      }
+      recording.start();
+      for (int i = 0; i < times; i++) {
+        operation.run();
+      }
+      recording.stop();
+      dump = Files.createTempFile("allocation-sites", ".jfr");
+      recording.dump(dump);
+      for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+        RecordedThread thread = event.getThread();
+        if (thread == null || thread.getJavaThreadId() != threadId) {
+          continue;
+        }
+        String site = siteOf(event.getStackTrace());
+        if (site == null) {
+          continue;
+        }
+        String type = event.getClass("objectClass").getName();
+        sites.computeIfAbsent(site + " -> " + type, Site::new).add(weightOf(event));
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to read allocation recording", e);
+    } finally {
+      deleteQuietly(dump);
+    }
+    List<Site> sorted = new ArrayList<>(sites.values());
+    long total = sorted.stream().mapToLong(Site::bytes).sum();
+    sorted.forEach(site -> site.share = total == 0 ? 0 : site.bytes * 100.0 / total);
+    sorted.sort(Comparator.comparingLong(Site::bytes).reversed());
+    return sorted.subList(0, Math.min(limit, sorted.size()));
+  }
+
+  private static String siteOf(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return null;
+    }
+    for (RecordedFrame frame : stackTrace.getFrames()) {
+      String type = frame.getMethod().getType().getName();
+      if (type.startsWith(PROJECT_PACKAGE)) {
+        return type.substring(PROJECT_PACKAGE.length())
+            + "."
+            + frame.getMethod().getName()
+            + ":"
+            + frame.getLineNumber();
+      }
+    }
+    return null;
+  }
+
+  private static long weightOf(RecordedEvent event) {
+    if (event.hasField("weight")) {
+      return event.getLong("weight");
+    }
+    if (event.hasField("tlabSize")) {
+      return event.getLong("tlabSize");
+    }
+    return event.getLong("allocationSize");
+  }
+
+  private static com.sun.management.ThreadMXBean counter() {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+      return null;
+    }
+    com.sun.management.ThreadMXBean counter = (com.sun.management.ThreadMXBean) threads;
+    if (!counter.isThreadAllocatedMemorySupported()) {
+      return null;
+    }
+    counter.setThreadAllocatedMemoryEnabled(true);
+    return counter;
+  }
+
+  private static void deleteQuietly(Path path) {
+    if (path == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException ignored) {
+    }
+  }
+
+  /** Sampled bytes attributed to one call site and allocated type. */
+  public static final class Site {
+    private final String name;
+    private long bytes;
+    private int samples;
+    private double share;
+
+    private Site(String name) {
+      this.name = name;
+    }
+
+    private void add(long weight) {
+      bytes += weight;
+      samples++;
+    }
+
+    public String name() {
+      return name;
+    }
+
+    /** Sample weight; only meaningful relative to the other sites of the same recording. */
+    public long bytes() {
+      return bytes;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s (%.0f%% of sampled bytes, %d samples)", name, share, samples);
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package com.arcade.arkanoid.testutil;
+
+import com.arcade.arkanoid.ArkanoidGame;
+import com.arcade.arkanoid.engine.util.FontLoader;
+import java.util.Random;
+
+/**
+ * Registers the real game scenes through {@link ArkanoidGame#registerAllScenes}, with fixed random
+ * seeds so rendered frames are reproducible. The bundled fonts are registered first, as entering the
+ * main menu does in the game, so text cached by the rendering singletons never uses fallback fonts.
+ */
+public final class GameScenes {
+  public static final long SEED = 42L;
+
+  private GameScenes() {}
+
+  /** Builds a fresh context with every game scene registered and the given level selected. */
+  public static TestContextFactory.ContextBundle create(String levelId) {
+    FontLoader.loadAll();
+    TestContextFactory.ContextBundle bundle = TestContextFactory.create();
+    if (levelId != null) {
+      bundle.profileManager().getActiveProfile().setCurrentLevelId(levelId);
+    }
+    ArkanoidGame.registerAllScenes(bundle.sceneManager(), () -> new Random(SEED));
+    return bundle;
+  }
+}
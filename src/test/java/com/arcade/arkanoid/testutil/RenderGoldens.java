@@ -0,0 +1,123 @@
+package com.arcade.arkanoid.testutil;
+
+import com.arcade.arkanoid.ArkanoidGame;
+import com.arcade.arkanoid.engine.core.HeadlessRenderHarness;
+import com.arcade.arkanoid.engine.util.FontLoader;
+import java.awt.GraphicsEnvironment;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Recorded pixel hashes of the main scenes, shared by {@code RenderGoldenTest} and the {@code
+ * RenderBenchmark} runner. Each case renders {@value #HASH_FRAMES} frames in a fresh seeded
+ * context from {@link GameScenes}. Text rasterisation differs between Java releases and depends on
+ * the installed fonts, so the file also records a fingerprint of the Java feature version and font
+ * families it was recorded with; hashes are only comparable where it matches.
+ */
+public final class RenderGoldens {
+  public static final int HASH_FRAMES = 60;
+  public static final Path HASH_FILE = Paths.get("src/test/resources/render/pixel-hashes.properties");
+  public static final String ENVIRONMENT_KEY = "environment";
+  public static final List<Case> CASES =
+      List.of(
+          new Case("menu", ArkanoidGame.SCENE_MENU, null),
+          new Case("map", ArkanoidGame.SCENE_MAP, null),
+          new Case("shop", ArkanoidGame.SCENE_SHOP, null),
+          new Case("gameplay-001", ArkanoidGame.SCENE_GAMEPLAY, "001"),
+          new Case("gameplay-003", ArkanoidGame.SCENE_GAMEPLAY, "003"));
+
+  private RenderGoldens() {}
+
+  public static Case find(String name) {
+    return CASES.stream()
+        .filter(renderCase -> renderCase.name().equals(name))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Unknown render case " + name));
+  }
+
+  /** Renders the case from a fresh context and returns the pixel hash as recorded in the file. */
+  public static String hash(Case renderCase) {
+    long hash = harness(renderCase).measure(renderCase.sceneId(), 0, HASH_FRAMES).pixelHash();
+    return Long.toHexString(hash);
+  }
+
+  public static HeadlessRenderHarness harness(Case renderCase) {
+    return new HeadlessRenderHarness(GameScenes.create(renderCase.levelId()).context());
+  }
+
+  /** Hex hash of the Java feature version and the font family names this JVM can render with. */
+  public static String environmentFingerprint() {
+    FontLoader.loadAll();
+    String[] families =
+        GraphicsEnvironment.getLocalGraphicsEnvironment().getAvailableFontFamilyNames();
+    Arrays.sort(families);
+    String environment = "java " + Runtime.version().feature() + "\n" + String.join("\n", families);
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : environment.getBytes(StandardCharsets.UTF_8)) {
+      hash = (hash ^ (b & 0xff)) * 0x100000001b3L;
+    }
+    return Long.toHexString(hash);
+  }
+
+  public static Properties load() throws IOException {
+    Properties hashes = new Properties();
+    if (Files.exists(HASH_FILE)) {
+      try (Reader reader = Files.newBufferedReader(HASH_FILE)) {
+        hashes.load(reader);
+      }
+    }
+    return hashes;
+  }
+
+  /** Writes the case hashes and the current environment fingerprint. */
+  public static void save(Map<String, String> hashes) throws IOException {
+    Files.createDirectories(HASH_FILE.getParent());
+    // Written by hand rather than Properties.store so the file has no timestamp and a stable order
+    try (Writer writer = Files.newBufferedWriter(HASH_FILE)) {
+      writer.write("# Pixel hashes of the first " + HASH_FRAMES + " frames per scene (RenderGoldens)\n");
+      writer.write(ENVIRONMENT_KEY + "=" + environmentFingerprint() + "\n");
+      for (Case renderCase : CASES) {
+        writer.write(renderCase.name() + "=" + hashes.get(renderCase.name()) + "\n");
+      }
+    }
+  }
+
+  /** One rendered scene: gameplay cases also pick the board. */
+  public static final class Case {
+    private final String name;
+    private final String sceneId;
+    private final String levelId;
+
+    Case(String name, String sceneId, String levelId) {
+      this.name = name;
+      this.sceneId = sceneId;
+      this.levelId = levelId;
+    }
+
+    public String name() {
+      return name;
+    }
+
+    public String sceneId() {
+      return sceneId;
+    }
+
+    public String levelId() {
+      return levelId;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+}
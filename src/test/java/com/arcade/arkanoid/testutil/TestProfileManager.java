@@ -1,5 +1,6 @@
 package com.arcade.arkanoid.testutil;
 
+import com.arcade.arkanoid.profile.ProfileEvent;
 import com.arcade.arkanoid.profile.ProfileManager;
 import java.nio.file.Path;
 
@@ -11,11 +12,16 @@ public class TestProfileManager extends ProfileManager {
 
   @Override
   public void saveProfile() {
-    onProfileSaved(getActiveProfile());
+    onProfileSaved(getActiveProfile().snapshot());
   }
 
   @Override
   public void saveProfileSync() {
-    onProfileSaved(getActiveProfile());
+    onProfileSaved(getActiveProfile().snapshot());
+  }
+
+  @Override
+  public void recordEvent(ProfileEvent event) {
+    // Changes stay in memory; nothing is appended to the journal.
   }
 }